@@ -3,6 +3,7 @@ package org.ikigaidigital.application.port.input;
 import org.ikigaidigital.domain.model.TimeDeposit;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Use case interface for retrieving all time deposits.
@@ -12,11 +13,59 @@ import java.util.List;
  */
 public interface GetAllTimeDepositsUseCase {
 
+    /**
+     * One page of time deposits, in id order.
+     *
+     * @param deposits    the deposits of the page
+     * @param nextAfterId the id the next page starts after, or null if this is the last page
+     */
+    record TimeDepositPage(List<TimeDeposit> deposits, Integer nextAfterId) {
+
+        public TimeDepositPage {
+            deposits = List.copyOf(deposits);
+        }
+
+        /**
+         * @return true if more deposits follow this page
+         */
+        public boolean hasNext() {
+            return nextAfterId != null;
+        }
+    }
+
     /**
      * Get all time deposits with their withdrawal information.
      *
      * @return list of time deposit domain objects
      */
     List<TimeDeposit> getAllTimeDeposits();
+
+    /**
+     * Pass every time deposit to the consumer, in id order, without holding the
+     * portfolio in memory. The consumer is called while the deposits are being read.
+     *
+     * @param consumer receives each deposit
+     */
+    void streamAllTimeDeposits(Consumer<TimeDeposit> consumer);
+
+    /**
+     * Get the version of the portfolio. It increases with every committed write to the
+     * time deposits or their withdrawals and is read without touching the store, so a
+     * response built at one version stays current for as long as the version is unchanged.
+     *
+     * @return the current portfolio version
+     */
+    long portfolioVersion();
+
+    /**
+     * Get the time deposits with an id greater than {@code afterId}, in id order.
+     * Pages are read by keyset on the primary key, so a page costs the same however
+     * far into the table it starts.
+     *
+     * @param afterId exclusive lower bound on the deposit id; 0 for the first page
+     * @param limit   maximum number of deposits on the page, from 1 to 1000
+     * @return the page
+     */
+    TimeDepositPage getTimeDeposits(int afterId, int limit);
 }
 
@@ -0,0 +1,45 @@
+package org.ikigaidigital.application.port.input;
+
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Use case interface for applying changed interest rules without a restart.
+ *
+ * This is an application layer input port. A reload replaces the rules in
+ * one atomic step: runs already in progress finish with the rules they started
+ * with, and every run started afterwards sees the new rules.
+ */
+public interface ReloadInterestRulesUseCase {
+
+    /**
+     * The rules in use after a reload.
+     *
+     * @param generation    increases by one with every reload that changed the rules
+     * @param loadedAt      when the rules were loaded
+     * @param versionCount  number of stored rule versions; 0 when the built-in strategies are in use
+     * @param currentPeriod the current accrual period
+     * @param currentRules  the rules in force for the current period
+     */
+    record InterestRuleSnapshot(
+            long generation,
+            Instant loadedAt,
+            int versionCount,
+            YearMonth currentPeriod,
+            List<InterestRule> currentRules) {
+
+        public InterestRuleSnapshot {
+            currentRules = List.copyOf(currentRules);
+        }
+    }
+
+    /**
+     * Load the stored rules, compile them and make them the rules of subsequent runs.
+     *
+     * @return the rules now in use
+     */
+    InterestRuleSnapshot reloadInterestRules();
+}
@@ -0,0 +1,81 @@
+package org.ikigaidigital.application.port.input;
+
+import org.ikigaidigital.domain.model.PlanType;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Use case interface for a dry run of the balance update.
+ *
+ * This is an application layer input port that reports what
+ * {@link UpdateAllBalancesUseCase#updateAllBalances()} would credit for the
+ * current period without writing anything.
+ */
+public interface SimulateAccrualUseCase {
+
+    /**
+     * The interest one deposit would be credited.
+     *
+     * @param id                     the deposit id
+     * @param planType               the deposit's plan type
+     * @param balanceCents           the current balance, in cents
+     * @param projectedInterestCents the interest the next run would credit, in cents
+     */
+    record ProjectedInterest(int id, PlanType planType, long balanceCents, long projectedInterestCents) {}
+
+    /**
+     * Totals of one plan type.
+     *
+     * @param planType          the plan type
+     * @param depositCount      number of deposits that would be credited
+     * @param balance           sum of their current balances
+     * @param projectedInterest sum of the interest they would be credited
+     */
+    record PlanTotal(PlanType planType, long depositCount, BigDecimal balance, BigDecimal projectedInterest) {}
+
+    /**
+     * Outcome of a simulation.
+     *
+     * @param period the accrual period that was simulated
+     * @param plans  totals per plan type, in plan type order; plans without due deposits are omitted
+     */
+    record AccrualSimulation(YearMonth period, List<PlanTotal> plans) {
+
+        public AccrualSimulation {
+            plans = List.copyOf(plans);
+        }
+
+        /**
+         * @return number of deposits that would be credited across all plans
+         */
+        public long depositCount() {
+            return plans.stream().mapToLong(PlanTotal::depositCount).sum();
+        }
+
+        /**
+         * @return interest that would be credited across all plans
+         */
+        public BigDecimal projectedInterest() {
+            return plans.stream().map(PlanTotal::projectedInterest).reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+    }
+
+    /**
+     * Simulate the balance update for the current period.
+     *
+     * @return the totals per plan type
+     */
+    AccrualSimulation simulateAccrual();
+
+    /**
+     * Simulate the balance update for the current period, handing every due deposit's
+     * projection to the given consumer as it is calculated.
+     *
+     * @param consumer receives one projection per deposit, in id order
+     * @return the totals per plan type
+     */
+    AccrualSimulation simulateAccrual(Consumer<ProjectedInterest> consumer);
+}
@@ -1,5 +1,11 @@
 package org.ikigaidigital.application.port.input;
 
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 /**
  * Use case interface for updating all time deposit balances.
  *
@@ -12,8 +18,78 @@ public interface UpdateAllBalancesUseCase {
      * Result record containing the outcome of the balance update operation.
      *
      * @param updatedCount number of deposits that were updated
+     * @param failures     id ranges that could not be updated and were rolled back
+     */
+    record UpdateBalancesResult(int updatedCount, List<Failure> failures) {
+
+        public UpdateBalancesResult {
+            failures = List.copyOf(failures);
+        }
+
+        /**
+         * Create a result for a run without failures.
+         *
+         * @param updatedCount number of deposits that were updated
+         */
+        public UpdateBalancesResult(int updatedCount) {
+            this(updatedCount, List.of());
+        }
+
+        /**
+         * @return true if any part of the run failed
+         */
+        public boolean hasFailures() {
+            return !failures.isEmpty();
+        }
+    }
+
+    /**
+     * A range of deposits whose update failed and was rolled back.
+     *
+     * @param fromId first deposit id of the failed range (inclusive)
+     * @param toId   last deposit id of the failed range (inclusive)
+     * @param reason short description of the failure
+     */
+    record Failure(int fromId, int toId, String reason) {}
+
+    /**
+     * Lifecycle states of an asynchronous balance update job.
+     */
+    enum JobState {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    /**
+     * Point-in-time view of an asynchronous balance update job.
+     *
+     * @param jobId             unique job identifier
+     * @param state             current lifecycle state
+     * @param processed         number of deposits processed so far
+     * @param total             number of deposits in the portfolio when the job started
+     * @param depositsPerSecond average throughput since the job started
+     * @param etaSeconds        estimated seconds until completion, or null if unknown
+     * @param submittedAt       when the job was accepted
+     * @param startedAt         when the job started running, or null while queued
+     * @param finishedAt        when the job finished, or null while queued or running
+     * @param result            the outcome once the job succeeded, otherwise null
+     * @param error             failure description once the job failed, otherwise null
      */
-    record UpdateBalancesResult(int updatedCount) {}
+    record JobStatus(
+            UUID jobId,
+            JobState state,
+            long processed,
+            long total,
+            double depositsPerSecond,
+            Long etaSeconds,
+            Instant submittedAt,
+            Instant startedAt,
+            Instant finishedAt,
+            UpdateBalancesResult result,
+            String error
+    ) {}
 
     /**
      * Update all time deposit balances by applying interest calculations.
@@ -22,5 +98,39 @@ public interface UpdateAllBalancesUseCase {
      * @return result containing the count of updated deposits
      */
     UpdateBalancesResult updateAllBalances();
-}
 
+    /**
+     * Credit the given number of periods, ending with the current one, in a single pass.
+     * Each deposit is credited only the periods among them it has not been credited for,
+     * with its age and the interest rules of each period, and is read and written once.
+     *
+     * Deposits credited before accrual periods were recorded do not tell which periods they
+     * missed. The catch-up is refused while any of them is overdue, unless the period they
+     * were last credited for is given.
+     *
+     * @param periods             the number of periods to catch up, from 1 to 24
+     * @param lastUntrackedPeriod the period deposits credited before periods were recorded were
+     *                            last credited for, before the current one; null if not known
+     * @return result containing the count of updated deposits
+     * @throws IllegalArgumentException if the period count is out of range, or if such deposits
+     *                                  are overdue and {@code lastUntrackedPeriod} is null
+     */
+    UpdateBalancesResult catchUpBalances(int periods, YearMonth lastUntrackedPeriod);
+
+    /**
+     * Start updating all balances in the background.
+     * While a job is queued or running, the existing job is returned instead
+     * of starting a second run, so retried submissions never credit interest twice.
+     *
+     * @return the status of the accepted (or already active) job
+     */
+    JobStatus submitUpdateAllBalances();
+
+    /**
+     * Look up an asynchronous balance update job.
+     *
+     * @param jobId the job identifier
+     * @return the job status, or empty if the job is unknown or has been evicted
+     */
+    Optional<JobStatus> findUpdateJob(UUID jobId);
+}
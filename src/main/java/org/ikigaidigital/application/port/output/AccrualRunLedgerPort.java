@@ -0,0 +1,69 @@
+package org.ikigaidigital.application.port.output;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * Output port for the accrual run ledger.
+ *
+ * The ledger records a checkpoint for every committed chunk of a chunked
+ * balance update run. Checkpoints must be written in the same transaction as
+ * the chunk's balances, so a chunk is either credited and checkpointed, or neither.
+ * A run that never completed can then be resumed after its last checkpoint,
+ * for the period it was started for.
+ */
+public interface AccrualRunLedgerPort {
+
+    /**
+     * Progress of an accrual run as recorded in the ledger.
+     *
+     * @param runId           ledger identifier of the run
+     * @param period          the accrual period the run credits
+     * @param lastCommittedId highest deposit id of the last committed chunk, 0 before the first chunk
+     * @param processedCount  number of deposits committed by the run so far
+     * @param chunkCount      number of committed chunks
+     * @param balanceChecksum sum of all checkpoint checksums
+     */
+    record AccrualRun(long runId, YearMonth period, int lastCommittedId, long processedCount, int chunkCount, long balanceChecksum) {}
+
+    /**
+     * A committed chunk.
+     *
+     * @param firstId         lowest deposit id in the chunk
+     * @param lastId          highest deposit id in the chunk
+     * @param depositCount    number of deposits in the chunk
+     * @param balanceChecksum sum of the chunk's balances after crediting, in cents
+     */
+    record Checkpoint(int firstId, int lastId, int depositCount, long balanceChecksum) {}
+
+    /**
+     * Find the run that was started but never completed, if any.
+     *
+     * @return the unfinished run
+     */
+    Optional<AccrualRun> findUnfinishedRun();
+
+    /**
+     * Open a new run. Fails if another run is still unfinished.
+     *
+     * @param period the accrual period the run credits
+     * @return the new run, positioned before the first deposit
+     */
+    AccrualRun startRun(YearMonth period);
+
+    /**
+     * Record a committed chunk and advance the run past it.
+     * Must be called inside the transaction that writes the chunk's balances.
+     *
+     * @param runId      the run the chunk belongs to
+     * @param checkpoint the chunk
+     */
+    void recordCheckpoint(long runId, Checkpoint checkpoint);
+
+    /**
+     * Mark a run as completed so the next run starts from the beginning.
+     *
+     * @param runId the run to complete
+     */
+    void completeRun(long runId);
+}
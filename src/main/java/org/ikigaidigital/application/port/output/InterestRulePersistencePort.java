@@ -0,0 +1,22 @@
+package org.ikigaidigital.application.port.output;
+
+import org.ikigaidigital.domain.model.strategy.InterestRuleVersion;
+
+import java.util.List;
+
+/**
+ * Output port for the stored, effective-dated interest rules.
+ *
+ * Rules are maintained as data so that rates, grace periods and caps can change
+ * without a redeploy; the application compiles them into an
+ * {@link org.ikigaidigital.domain.model.InterestRuleBook}.
+ */
+public interface InterestRulePersistencePort {
+
+    /**
+     * Load every stored rule version.
+     *
+     * @return all versions of all plans; empty when no rules are stored
+     */
+    List<InterestRuleVersion> findAllVersions();
+}
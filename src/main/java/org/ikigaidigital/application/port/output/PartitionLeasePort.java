@@ -0,0 +1,76 @@
+package org.ikigaidigital.application.port.output;
+
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.IdRange;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for leasing accrual partitions between application nodes.
+ *
+ * The partitions of a period are registered once (idempotently, by any node).
+ * Nodes then claim pending partitions under a time-limited lease; a claim never
+ * returns a partition another node holds an unexpired lease on, and partitions
+ * whose lease expired are handed out again.
+ */
+public interface PartitionLeasePort {
+
+    /**
+     * A partition of a period that is not done yet.
+     *
+     * @param partition  the id range
+     * @param leaseOwner node holding an unexpired lease on the partition, or null if it can be claimed
+     */
+    record PendingPartition(IdRange partition, String leaseOwner) {
+
+        /**
+         * @return true if a node holds an unexpired lease on the partition
+         */
+        public boolean isLeased() {
+            return leaseOwner != null;
+        }
+    }
+
+    /**
+     * Register the partitions of a period. Partitions that already exist are left as they are,
+     * unless they now reach a higher id: they are then widened and become pending again.
+     *
+     * @param period     the accrual period
+     * @param partitions the id ranges covering all deposits
+     */
+    void registerPartitions(YearMonth period, List<IdRange> partitions);
+
+    /**
+     * Lease the next pending partition of a period that is not leased, or whose lease expired.
+     * The lease is committed before this method returns.
+     *
+     * @param period        the accrual period
+     * @param owner         identifier of the claiming node
+     * @param leaseDuration how long the lease is valid
+     * @return the leased partition, or empty if no partition is available
+     */
+    Optional<IdRange> claimPartition(YearMonth period, String owner, Duration leaseDuration);
+
+    /**
+     * Mark a leased partition as done.
+     * Must be called inside the transaction that writes the partition's balances,
+     * so completion and balances commit together.
+     *
+     * @param period       the accrual period
+     * @param partition    the partition
+     * @param owner        identifier of the node holding the lease
+     * @param updatedCount number of deposits processed in the partition
+     * @return false if the lease is no longer held by the owner
+     */
+    boolean completePartition(YearMonth period, IdRange partition, String owner, int updatedCount);
+
+    /**
+     * Find the partitions of a period that are not done yet, in id order.
+     *
+     * @param period the accrual period
+     * @return the pending partitions, each with the owner of its lease if unexpired
+     */
+    List<PendingPartition> findPendingPartitions(YearMonth period);
+}
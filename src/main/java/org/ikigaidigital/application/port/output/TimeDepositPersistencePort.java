@@ -1,8 +1,14 @@
 package org.ikigaidigital.application.port.output;
 
 import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
 
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Output port interface for time deposit persistence operations.
@@ -10,9 +16,137 @@ import java.util.List;
  * This port is implemented by infrastructure adapters to provide
  * persistence capabilities without coupling the application layer
  * to specific persistence technologies.
+ *
+ * Accrual reads take an {@link AccrualScope} and only return deposits not yet
+ * credited for its period whose age lies inside one of its rules' eligibility
+ * windows, so deposits that cannot earn interest are never loaded. Writes record
+ * the period on every credited deposit. Running the same period twice therefore
+ * never credits a deposit twice.
  */
 public interface TimeDepositPersistencePort {
 
+    /**
+     * An inclusive range of time deposit ids.
+     *
+     * @param minId lowest id in the range
+     * @param maxId highest id in the range
+     */
+    record IdRange(int minId, int maxId) {
+
+        public IdRange {
+            if (minId > maxId) {
+                throw new IllegalArgumentException("Invalid id range: " + minId + ".." + maxId);
+            }
+        }
+
+        /**
+         * @return number of ids covered by the range
+         */
+        public long span() {
+            return (long) maxId - minId + 1;
+        }
+
+        /**
+         * Split the range into contiguous sub-ranges of at most {@code maxSpan} ids.
+         *
+         * @param maxSpan maximum number of ids per sub-range
+         * @return the sub-ranges in ascending id order
+         */
+        public List<IdRange> split(int maxSpan) {
+            if (maxSpan <= 0) {
+                throw new IllegalArgumentException("Partition span must be positive: " + maxSpan);
+            }
+            List<IdRange> partitions = new ArrayList<>();
+            long from = minId;
+            while (from <= maxId) {
+                long to = Math.min(from + maxSpan - 1, maxId);
+                partitions.add(new IdRange((int) from, (int) to));
+                from = to + 1;
+            }
+            return partitions;
+        }
+    }
+
+    /**
+     * What an accrual read selects: deposits not yet credited for the period that
+     * are eligible for interest under one of the rules.
+     *
+     * @param period the accrual period
+     * @param rules  the interest rules of all plans that earn interest; a deposit
+     *               matching none of them is outside the scope
+     */
+    record AccrualScope(YearMonth period, List<InterestRule> rules) {
+
+        public AccrualScope {
+            if (period == null) {
+                throw new IllegalArgumentException("Accrual period must not be null");
+            }
+            rules = List.copyOf(rules);
+        }
+
+        /**
+         * @return true if no deposit can be in scope because no plan earns interest
+         */
+        public boolean isEmpty() {
+            return rules.isEmpty();
+        }
+    }
+
+    /**
+     * A deposit that has not been credited for the latest period, with the last period it was credited for.
+     *
+     * @param deposit               the time deposit
+     * @param lastAccruedPeriod     the last period the deposit was credited for, or null if it never was
+     *                              or if it is unknown
+     * @param accruedBeforeTracking whether the deposit was last credited before periods were recorded,
+     *                              so that the period is unknown
+     */
+    record OverdueDeposit(TimeDeposit deposit, YearMonth lastAccruedPeriod, boolean accruedBeforeTracking) {
+
+        /**
+         * A deposit whose last credited period is recorded, or that was never credited.
+         */
+        public OverdueDeposit(TimeDeposit deposit, YearMonth lastAccruedPeriod) {
+            this(deposit, lastAccruedPeriod, false);
+        }
+
+        /**
+         * @param deposit a deposit credited before periods were recorded
+         * @return the overdue deposit, with an unknown last credited period
+         */
+        public static OverdueDeposit accruedBeforeTracking(TimeDeposit deposit) {
+            return new OverdueDeposit(deposit, null, true);
+        }
+
+        /**
+         * Count the periods the deposit missed, up to a limit.
+         *
+         * @param period                the latest period, not yet credited to the deposit
+         * @param limit                 the most periods to count
+         * @param lastUntrackedPeriod   the period deposits credited before periods were recorded were
+         *                              last credited for, or null if unknown
+         * @return the number of periods from the one after the last credited period up to
+         *         {@code period}, at most {@code limit}
+         * @throws IllegalStateException if the deposit was credited before periods were recorded
+         *                               and {@code lastUntrackedPeriod} is null
+         */
+        public int missedPeriods(YearMonth period, int limit, YearMonth lastUntrackedPeriod) {
+            YearMonth last = lastAccruedPeriod;
+            if (accruedBeforeTracking) {
+                if (lastUntrackedPeriod == null) {
+                    throw new IllegalStateException("Deposit " + deposit.getId()
+                            + " was credited before accrual periods were recorded");
+                }
+                last = lastUntrackedPeriod;
+            }
+            if (last == null) {
+                return limit;
+            }
+            long missed = last.until(period, ChronoUnit.MONTHS);
+            return (int) Math.max(0, Math.min(missed, limit));
+        }
+    }
+
     /**
      * Find all time deposits with their associated withdrawals.
      *
@@ -21,18 +155,135 @@ public interface TimeDepositPersistencePort {
     List<TimeDeposit> findAllWithWithdrawals();
 
     /**
-     * Find all time deposits.
+     * Pass every time deposit to the consumer, in id order, without holding the result in memory.
+     * Rows are read through a database cursor, so this must be called inside a transaction;
+     * the deposits are detached snapshots, with their withdrawals.
+     *
+     * @param consumer receives each deposit
+     */
+    void streamAll(Consumer<TimeDeposit> consumer);
+
+    /**
+     * Find the time deposits with an id greater than {@code afterId}, in primary key order.
+     * Uses keyset pagination, so the cost of a page does not depend on how far into the table it is.
+     *
+     * @param afterId exclusive lower bound on the deposit id
+     * @param limit   maximum number of deposits to return
+     * @return up to {@code limit} deposits with their withdrawals, ordered by id
+     */
+    List<TimeDeposit> findPageAfter(int afterId, int limit);
+
+    /**
+     * Find all time deposits, as detached snapshots.
      *
      * @return list of time deposit domain objects
      */
     List<TimeDeposit> findAll();
 
     /**
-     * Save all time deposits.
+     * Get the portfolio version. It advances once every write to the time deposits or their
+     * withdrawals is committed, whoever makes the write, and is read without a statement.
+     *
+     * @return the portfolio version
+     */
+    long portfolioVersion();
+
+    /**
+     * Count the time deposits {@link #findDueFor(AccrualScope)} would return: those not yet
+     * credited for the scope's period whose age lies inside one of its rules' eligibility windows.
      *
-     * @param timeDeposits the time deposits to save
+     * @param scope the accrual period and the eligibility rules of the run
+     * @return the number of due deposits
+     */
+    long countDueFor(AccrualScope scope);
+
+    /**
+     * Check whether any time deposit in the scope has not been credited for its period yet.
+     *
+     * @param scope the accrual period and eligibility rules
+     * @return true if at least one eligible deposit is still due for the period
+     */
+    boolean hasDepositsDueFor(AccrualScope scope);
+
+    /**
+     * Find all eligible time deposits not yet credited for the scope's period.
+     *
+     * @param scope the accrual period and eligibility rules
+     * @return the due deposits, ordered by id
+     */
+    List<TimeDeposit> findDueFor(AccrualScope scope);
+
+    /**
+     * Find all eligible time deposits not yet credited for the scope's period, together
+     * with the last period each one was credited for, to catch up missed periods.
+     *
+     * @param scope the latest period and the eligibility rules of the catch-up
+     * @return the overdue deposits, ordered by id
+     */
+    List<OverdueDeposit> findOverdueFor(AccrualScope scope);
+
+    /**
+     * Find the next chunk of eligible time deposits not yet credited for the scope's period, in primary key order.
+     * Uses keyset pagination ({@code id > afterId ORDER BY id LIMIT limit}),
+     * so the cost of a chunk does not depend on how far into the table it is.
+     *
+     * @param afterId exclusive lower bound on the deposit id
+     * @param limit   maximum number of deposits to return
+     * @param scope   the accrual period and eligibility rules
+     * @return up to {@code limit} due deposits with an id greater than {@code afterId}, ordered by id
+     */
+    List<TimeDeposit> findChunkAfter(int afterId, int limit, AccrualScope scope);
+
+    /**
+     * Find the lowest and highest time deposit ids.
+     *
+     * @return the id range, or empty if there are no deposits
+     */
+    Optional<IdRange> findIdRange();
+
+    /**
+     * Find all eligible time deposits not yet credited for the scope's period whose id lies within the given range.
+     *
+     * @param range the inclusive id range
+     * @param scope the accrual period and eligibility rules
+     * @return the due deposits in the range, ordered by id
+     */
+    List<TimeDeposit> findByIdRange(IdRange range, AccrualScope scope);
+
+    /**
+     * Pass every eligible time deposit not yet credited for the scope's period to the
+     * consumer, in id order, without holding the result in memory.
+     * Rows are read through a database cursor, so this must be called inside a transaction;
+     * the deposits are detached snapshots and are never written back.
+     *
+     * @param scope    the accrual period and eligibility rules
+     * @param consumer receives each due deposit
+     */
+    void streamDueFor(AccrualScope scope, Consumer<TimeDeposit> consumer);
+
+    /**
+     * Record the period the time deposits were credited for, and save the balances that changed.
+     * Every deposit is stamped, including those that earned nothing, so it is no longer due for
+     * the period. A deposit already credited for that period (for example by an overlapping run)
+     * is left untouched.
+     *
+     * @param timeDeposits  the time deposits to save
+     * @param accruedPeriod the period the new balances were accrued for
      * @return the saved time deposits
      */
-    List<TimeDeposit> saveAll(List<TimeDeposit> timeDeposits);
-}
+    List<TimeDeposit> saveAll(List<TimeDeposit> timeDeposits, YearMonth accruedPeriod);
 
+    /**
+     * Apply one month of interest to every eligible deposit not yet credited for the
+     * given period inside the data store, without loading deposits into memory,
+     * and record the period on every credited deposit.
+     * Implementations must evaluate the rules exactly like the domain strategies:
+     * {@code balance * annualRate / 12} rounded HALF_UP to cents for deposits
+     * whose age lies inside the rule's eligibility window.
+     *
+     * @param rules  the interest rules of all plans that earn interest
+     * @param period the accrual period
+     * @return the number of deposits that were credited
+     */
+    int applyMonthlyInterest(List<InterestRule> rules, YearMonth period);
+}
@@ -0,0 +1,23 @@
+package org.ikigaidigital.application.port.output;
+
+import org.ikigaidigital.domain.model.WithdrawalIndex;
+
+import java.time.LocalDate;
+
+/**
+ * Output port for reading withdrawals.
+ *
+ * Average daily balances only depend on withdrawals dated after the first day of
+ * the accrual period, so a run loads those once into a {@link WithdrawalIndex}
+ * instead of reading the withdrawals of every deposit it credits.
+ */
+public interface WithdrawalPersistencePort {
+
+    /**
+     * Index the withdrawals dated after a day.
+     *
+     * @param date the day after which withdrawals are included
+     * @return the withdrawals, summed per deposit and date
+     */
+    WithdrawalIndex indexWithdrawalsAfter(LocalDate date);
+}
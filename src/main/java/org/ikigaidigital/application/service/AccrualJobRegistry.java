@@ -0,0 +1,182 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.JobState;
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.JobStatus;
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.UpdateBalancesResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs balance updates as background jobs and keeps track of their progress.
+ *
+ * Jobs run on a dedicated executor so request threads return immediately.
+ * Only one job is active at a time: submitting while a job is queued or
+ * running returns that job instead of starting another run. Finished jobs
+ * are retained for polling until the retention limit evicts the oldest ones.
+ */
+public class AccrualJobRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(AccrualJobRegistry.class);
+
+    public static final int DEFAULT_MAX_RETAINED_JOBS = 100;
+
+    private final Executor executor;
+    private final Clock clock;
+    private final int maxRetainedJobs;
+
+    // Guarded by this; insertion order is submission order
+    private final Map<UUID, AccrualJob> jobs = new LinkedHashMap<>();
+    private AccrualJob activeJob;
+
+    /**
+     * Create a job registry.
+     *
+     * @param executor        dedicated executor the jobs run on
+     * @param clock           clock used for timestamps and throughput
+     * @param maxRetainedJobs maximum number of jobs kept for polling
+     */
+    public AccrualJobRegistry(Executor executor, Clock clock, int maxRetainedJobs) {
+        if (maxRetainedJobs < 1) {
+            throw new IllegalArgumentException("maxRetainedJobs must be at least 1, was " + maxRetainedJobs);
+        }
+        this.executor = executor;
+        this.clock = clock;
+        this.maxRetainedJobs = maxRetainedJobs;
+    }
+
+    /**
+     * Submit a balance update job, or return the job that is already active.
+     *
+     * @param totalCounter counts the deposits the job is going to process
+     * @param work         the balance update, reporting progress to the given sink
+     * @return the status of the accepted (or already active) job
+     */
+    public synchronized JobStatus submit(
+            LongSupplier totalCounter,
+            Function<AccrualProgress, UpdateBalancesResult> work) {
+        if (activeJob != null && !activeJob.isFinished()) {
+            log.info("Accrual job {} is still {}, not starting another", activeJob.id, activeJob.state);
+            return activeJob.status(clock.instant());
+        }
+
+        AccrualJob job = new AccrualJob(UUID.randomUUID(), clock.instant());
+        executor.execute(() -> execute(job, totalCounter, work));
+        activeJob = job;
+        jobs.put(job.id, job);
+        evictFinishedJobs();
+        log.info("Accrual job {} queued", job.id);
+        return job.status(clock.instant());
+    }
+
+    /**
+     * Look up a job.
+     *
+     * @param jobId the job identifier
+     * @return the job status, or empty if the job is unknown or has been evicted
+     */
+    public synchronized Optional<JobStatus> find(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(job -> job.status(clock.instant()));
+    }
+
+    private void execute(AccrualJob job, LongSupplier totalCounter, Function<AccrualProgress, UpdateBalancesResult> work) {
+        try {
+            job.start(clock.instant(), totalCounter.getAsLong());
+            UpdateBalancesResult result = work.apply(job.processed::addAndGet);
+            job.succeed(clock.instant(), result);
+            log.info("Accrual job {} succeeded: {} deposits updated", job.id, result.updatedCount());
+        } catch (RuntimeException e) {
+            job.fail(clock.instant(), String.valueOf(e.getMessage()));
+            log.error("Accrual job {} failed", job.id, e);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        Iterator<AccrualJob> iterator = jobs.values().iterator();
+        while (jobs.size() > maxRetainedJobs && iterator.hasNext()) {
+            if (iterator.next().isFinished()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Mutable state of one job. Written by the job's worker thread, read by pollers.
+     */
+    private static final class AccrualJob {
+
+        private final UUID id;
+        private final Instant submittedAt;
+        private final AtomicLong processed = new AtomicLong();
+        private volatile JobState state = JobState.QUEUED;
+        private volatile long total;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile UpdateBalancesResult result;
+        private volatile String error;
+
+        private AccrualJob(UUID id, Instant submittedAt) {
+            this.id = id;
+            this.submittedAt = submittedAt;
+        }
+
+        private void start(Instant now, long total) {
+            this.total = total;
+            this.startedAt = now;
+            this.state = JobState.RUNNING;
+        }
+
+        private void succeed(Instant now, UpdateBalancesResult result) {
+            this.result = result;
+            this.finishedAt = now;
+            this.state = JobState.SUCCEEDED;
+        }
+
+        private void fail(Instant now, String error) {
+            this.error = error;
+            this.finishedAt = now;
+            this.state = JobState.FAILED;
+        }
+
+        private boolean isFinished() {
+            return state == JobState.SUCCEEDED || state == JobState.FAILED;
+        }
+
+        private JobStatus status(Instant now) {
+            // Read the state first: the fields it depends on are written before it
+            JobState currentState = state;
+            Instant started = startedAt;
+            Instant finished = finishedAt;
+            long done = processed.get();
+            long expected = total;
+
+            double rate = 0.0;
+            if (started != null) {
+                long elapsedMillis = Duration.between(started, finished != null ? finished : now).toMillis();
+                rate = elapsedMillis > 0 ? done * 1000.0 / elapsedMillis : 0.0;
+            }
+
+            Long eta = null;
+            if (currentState == JobState.SUCCEEDED || currentState == JobState.FAILED) {
+                eta = 0L;
+            } else if (currentState == JobState.RUNNING && rate > 0) {
+                eta = (long) Math.ceil(Math.max(0, expected - done) / rate);
+            }
+
+            return new JobStatus(id, currentState, done, expected, rate, eta,
+                    submittedAt, started, finished, result, error);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.ikigaidigital.application.service;
+
+/**
+ * Execution modes for the monthly balance update run.
+ *
+ * Modes:
+ * - IN_MEMORY: loads every deposit and updates them in a single transaction
+ * - STREAMING: walks deposits in primary key order, one transaction per chunk
+ * - PARALLEL: splits the id space into partitions processed concurrently, one transaction per partition
+ * - SQL_PUSHDOWN: applies interest inside the database as a single set-based UPDATE
+ * - CLUSTER: every node leases partitions from a shared table, one transaction per partition
+ */
+public enum AccrualMode {
+    IN_MEMORY,
+    STREAMING,
+    PARALLEL,
+    SQL_PUSHDOWN,
+    CLUSTER
+}
@@ -0,0 +1,22 @@
+package org.ikigaidigital.application.service;
+
+/**
+ * Callback through which a balance update run reports committed work.
+ *
+ * Implementations must be thread-safe: partitioned runs report from worker threads.
+ */
+@FunctionalInterface
+public interface AccrualProgress {
+
+    /**
+     * Progress sink that ignores all reports.
+     */
+    AccrualProgress NONE = deposits -> { };
+
+    /**
+     * Report that a number of deposits has been processed and committed.
+     *
+     * @param deposits number of deposits processed since the previous report
+     */
+    void advance(int deposits);
+}
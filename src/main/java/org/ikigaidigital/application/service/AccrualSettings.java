@@ -0,0 +1,67 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.domain.model.InterestBasis;
+
+/**
+ * Settings controlling how the balance update run is executed.
+ *
+ * This is a plain application layer value; binding from external
+ * configuration happens in the infrastructure layer.
+ *
+ * @param mode          the execution mode of the run
+ * @param chunkSize     number of deposits loaded, calculated and committed per chunk in streaming mode;
+ *                      also the maximum id span of a partition in parallel mode
+ * @param parallelism   number of partitions processed concurrently in parallel mode
+ * @param interestBasis the balance interest is calculated on; the average daily balance
+ *                      is calculated in the JVM and cannot be combined with SQL push-down
+ */
+public record AccrualSettings(AccrualMode mode, int chunkSize, int parallelism, InterestBasis interestBasis) {
+
+    /**
+     * Default number of deposits processed per chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * Default number of concurrently processed partitions.
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    public AccrualSettings {
+        if (mode == null) {
+            throw new IllegalArgumentException("Accrual mode must not be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        if (interestBasis == null) {
+            throw new IllegalArgumentException("Interest basis must not be null");
+        }
+        if (mode == AccrualMode.SQL_PUSHDOWN && interestBasis == InterestBasis.AVERAGE_DAILY_BALANCE) {
+            throw new IllegalArgumentException("SQL push-down calculates interest on the closing balance only");
+        }
+    }
+
+    /**
+     * Settings calculating interest on the closing balance.
+     *
+     * @param mode        the execution mode of the run
+     * @param chunkSize   number of deposits per chunk or partition
+     * @param parallelism number of partitions processed concurrently
+     */
+    public AccrualSettings(AccrualMode mode, int chunkSize, int parallelism) {
+        this(mode, chunkSize, parallelism, InterestBasis.CLOSING_BALANCE);
+    }
+
+    /**
+     * Settings matching the original behaviour: everything in memory, one transaction.
+     *
+     * @return the default settings
+     */
+    public static AccrualSettings defaults() {
+        return new AccrualSettings(AccrualMode.IN_MEMORY, DEFAULT_CHUNK_SIZE, DEFAULT_PARALLELISM);
+    }
+}
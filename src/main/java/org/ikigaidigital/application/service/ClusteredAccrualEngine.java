@@ -0,0 +1,248 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.Failure;
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.UpdateBalancesResult;
+import org.ikigaidigital.application.port.output.PartitionLeasePort;
+import org.ikigaidigital.application.port.output.PartitionLeasePort.PendingPartition;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.AccrualScope;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.IdRange;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the balance update cooperatively across all application nodes.
+ *
+ * The id space of the period is split into partitions that are registered in a
+ * shared table. Every node that runs accrual starts workers that repeatedly lease
+ * the next free partition through the {@link PartitionLeasePort}, process it, and
+ * mark it done in the same transaction as its balances. Adding nodes therefore adds
+ * workers, and a partition whose node died is leased again once its lease expires.
+ *
+ * The node that starts a run does not return while partitions of the period are
+ * pending: once its workers find nothing free, it polls the partition table, reclaims
+ * partitions whose lease expired (their node died, or they failed) and waits for those
+ * leased by other nodes. It gives up after a full lease duration without any partition
+ * completing, and reports every partition still pending as a failure.
+ *
+ * A partition is never credited twice: completion requires the lease to still be
+ * held (otherwise the transaction rolls back), and the persistence port only
+ * credits deposits not yet accrued for the period.
+ */
+public class ClusteredAccrualEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusteredAccrualEngine.class);
+
+    private final TimeDepositPersistencePort timeDepositPersistencePort;
+    private final PartitionLeasePort partitionLeasePort;
+    private final TransactionOperations transactionOperations;
+    private final ShadowComparison shadowComparison;
+    private final ExecutorService executor;
+    private final int workers;
+    private final int partitionSpan;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    private final Duration pollInterval;
+
+    /**
+     * Create a clustered engine.
+     *
+     * @param timeDepositPersistencePort port used to read and write each partition
+     * @param partitionLeasePort         port used to register and lease partitions
+     * @param transactionOperations      transaction boundary for a claim and for a partition
+     * @param shadowComparison           applies the calculator, sampling deposits for comparison
+     * @param executor                   bounded executor the workers run on
+     * @param workers                    number of workers this node contributes
+     * @param partitionSpan              maximum number of ids per partition
+     * @param nodeId                     identifier of this node, recorded as lease owner
+     * @param leaseDuration              how long a partition stays leased to a worker
+     * @param pollInterval               how often the pending partitions are checked while waiting
+     */
+    public ClusteredAccrualEngine(
+            TimeDepositPersistencePort timeDepositPersistencePort,
+            PartitionLeasePort partitionLeasePort,
+            TransactionOperations transactionOperations,
+            ShadowComparison shadowComparison,
+            ExecutorService executor,
+            int workers,
+            int partitionSpan,
+            String nodeId,
+            Duration leaseDuration,
+            Duration pollInterval) {
+        if (leaseDuration.isNegative() || leaseDuration.isZero()) {
+            throw new IllegalArgumentException("leaseDuration must be positive, was " + leaseDuration);
+        }
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive, was " + pollInterval);
+        }
+        this.timeDepositPersistencePort = timeDepositPersistencePort;
+        this.partitionLeasePort = partitionLeasePort;
+        this.transactionOperations = transactionOperations;
+        this.shadowComparison = shadowComparison;
+        this.executor = executor;
+        this.workers = workers;
+        this.partitionSpan = partitionSpan;
+        this.nodeId = nodeId;
+        this.leaseDuration = leaseDuration;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Process partitions of the period until all of them are done, or until no partition
+     * completed for a full lease duration.
+     *
+     * @param scope      the accrual period and eligibility rules
+     * @param calculator the domain calculator applied to each partition
+     * @param progress   sink notified from the worker threads after each commit
+     * @return the number of deposits this node updated, and the partitions left pending
+     */
+    public UpdateBalancesResult run(AccrualScope scope, TimeDepositCalculator calculator, AccrualProgress progress) {
+        YearMonth period = scope.period();
+        Optional<IdRange> idRange = transactionOperations.execute(status -> timeDepositPersistencePort.findIdRange());
+        if (idRange == null || idRange.isEmpty()) {
+            return new UpdateBalancesResult(0);
+        }
+        List<IdRange> partitions = idRange.get().split(partitionSpan);
+        transactionOperations.executeWithoutResult(
+                status -> partitionLeasePort.registerPartitions(period, partitions));
+
+        // Last failure of each partition on this node; cleared for partitions that complete later
+        Map<IdRange, String> failures = new ConcurrentHashMap<>();
+        int updated = 0;
+        int lastPendingCount = Integer.MAX_VALUE;
+        long stalledSince = System.nanoTime();
+        List<PendingPartition> pending;
+        while (true) {
+            updated += runWorkers(scope, calculator, progress, failures);
+            pending = transactionOperations.execute(status -> partitionLeasePort.findPendingPartitions(period));
+            if (pending.isEmpty() || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            if (pending.size() < lastPendingCount) {
+                lastPendingCount = pending.size();
+                stalledSince = System.nanoTime();
+            } else if (System.nanoTime() - stalledSince > leaseDuration.toNanos()) {
+                log.warn("No accrual partition for {} completed within {}; giving up on {} pending partitions",
+                        period, leaseDuration, pending.size());
+                break;
+            }
+            if (pending.stream().allMatch(PendingPartition::isLeased) && !pause()) {
+                break;
+            }
+        }
+
+        List<Failure> unfinished = pending.stream()
+                .map(partition -> toFailure(partition, failures))
+                .toList();
+        log.info("Clustered accrual for {} on node {} finished: {} deposits updated, {} partitions pending",
+                period, nodeId, updated, unfinished.size());
+        return new UpdateBalancesResult(updated, unfinished);
+    }
+
+    /**
+     * Run this node's workers until none of them finds a free partition.
+     */
+    private int runWorkers(AccrualScope scope, TimeDepositCalculator calculator, AccrualProgress progress,
+                           Map<IdRange, String> failures) {
+        List<Future<Integer>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> work(scope, calculator, progress, failures)));
+        }
+
+        int updated = 0;
+        for (Future<Integer> future : futures) {
+            try {
+                updated += future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("Accrual worker on node {} stopped", nodeId, cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Wait one poll interval for leases held elsewhere to complete or expire.
+     *
+     * @return false if the wait was interrupted
+     */
+    private boolean pause() {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        try {
+            Thread.sleep(pollInterval.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Failure toFailure(PendingPartition pending, Map<IdRange, String> failures) {
+        IdRange partition = pending.partition();
+        String reason = failures.get(partition);
+        if (reason == null) {
+            reason = pending.isLeased() ? "still leased by " + pending.leaseOwner() : "not processed";
+        }
+        return new Failure(partition.minId(), partition.maxId(), reason);
+    }
+
+    /**
+     * Lease and process partitions until none is free. A failed partition keeps
+     * its lease until it expires and is then picked up again by any node.
+     */
+    private int work(AccrualScope scope, TimeDepositCalculator calculator, AccrualProgress progress,
+                     Map<IdRange, String> failures) {
+        int updated = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Optional<IdRange> claimed = transactionOperations.execute(
+                    status -> partitionLeasePort.claimPartition(scope.period(), nodeId, leaseDuration));
+            if (claimed == null || claimed.isEmpty()) {
+                break;
+            }
+            IdRange partition = claimed.get();
+            try {
+                Integer count = transactionOperations.execute(status -> processPartition(partition, scope, calculator));
+                progress.advance(count);
+                updated += count;
+                failures.remove(partition);
+            } catch (RuntimeException e) {
+                log.error("Accrual partition {}..{} failed on node {} and was rolled back; it is retried once its lease expires",
+                        partition.minId(), partition.maxId(), nodeId, e);
+                failures.put(partition, String.valueOf(e.getMessage()));
+            }
+        }
+        return updated;
+    }
+
+    private int processPartition(IdRange partition, AccrualScope scope, TimeDepositCalculator calculator) {
+        List<TimeDeposit> deposits = timeDepositPersistencePort.findByIdRange(partition, scope);
+        if (!deposits.isEmpty()) {
+            shadowComparison.updateBalance(calculator, deposits);
+            timeDepositPersistencePort.saveAll(deposits, scope.period());
+        }
+        if (!partitionLeasePort.completePartition(scope.period(), partition, nodeId, deposits.size())) {
+            throw new IllegalStateException("Lease on partition " + partition.minId() + ".." + partition.maxId()
+                    + " expired before it was completed");
+        }
+        return deposits.size();
+    }
+}
@@ -0,0 +1,121 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.application.port.input.ReloadInterestRulesUseCase;
+import org.ikigaidigital.application.port.output.InterestRulePersistencePort;
+import org.ikigaidigital.domain.model.InterestRuleBook;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.strategy.InterestRuleVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the compiled interest rules and swaps them atomically on reload.
+ *
+ * The current {@link InterestRuleBook} is published through an
+ * {@link AtomicReference}: readers take it without locking, and a reload
+ * compiles the new book completely before replacing the reference in one step.
+ * A run resolves its calculator once, at start, so it finishes with the rules it
+ * started with even if a reload happens meanwhile.
+ *
+ * When no rule versions are stored, the calculator assembled from the built-in
+ * strategies is used for every period. The rules are loaded on first use.
+ */
+public class InterestRuleRegistry implements ReloadInterestRulesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(InterestRuleRegistry.class);
+
+    private final InterestRulePersistencePort interestRulePersistencePort;
+    private final TimeDepositCalculator builtInCalculator;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+    private final AtomicReference<Generation> current = new AtomicReference<>();
+
+    /**
+     * Create a registry.
+     *
+     * @param interestRulePersistencePort port the rule versions are loaded from
+     * @param builtInCalculator           calculator of the built-in strategies; used when no
+     *                                    versions are stored, and its backend is used for compiled rules
+     * @param transactionOperations       transaction boundary of a load
+     * @param clock                       clock deciding the current accrual period
+     */
+    public InterestRuleRegistry(
+            InterestRulePersistencePort interestRulePersistencePort,
+            TimeDepositCalculator builtInCalculator,
+            TransactionOperations transactionOperations,
+            Clock clock) {
+        this.interestRulePersistencePort = interestRulePersistencePort;
+        this.builtInCalculator = builtInCalculator;
+        this.transactionOperations = transactionOperations;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the calculator holding the rules in force for a period, from the current book.
+     *
+     * @param period the accrual period
+     * @return the calculator to use for the whole run of that period
+     */
+    public TimeDepositCalculator calculatorFor(YearMonth period) {
+        return book().calculatorFor(period);
+    }
+
+    /**
+     * @return the current rule book, loading it on first use
+     */
+    public InterestRuleBook book() {
+        Generation generation = current.get();
+        return generation != null ? generation.book() : reload().book();
+    }
+
+    @Override
+    public InterestRuleSnapshot reloadInterestRules() {
+        Generation generation = reload();
+        YearMonth period = YearMonth.now(clock);
+        return new InterestRuleSnapshot(generation.number(), generation.loadedAt(),
+                generation.book().versions().size(), period,
+                generation.book().calculatorFor(period).getInterestRules());
+    }
+
+    /**
+     * Load and compile the stored rules, then publish them unless they are unchanged.
+     * Reloads are serialized so that an older load can never replace a newer one;
+     * readers are not blocked.
+     */
+    private synchronized Generation reload() {
+        List<InterestRuleVersion> versions = transactionOperations.execute(
+                status -> interestRulePersistencePort.findAllVersions());
+        InterestRuleBook book = versions == null || versions.isEmpty()
+                ? InterestRuleBook.fixed(builtInCalculator)
+                : new InterestRuleBook(versions, builtInCalculator.getBackend());
+        Generation previous = current.get();
+        if (previous != null && previous.book().versions().equals(book.versions())) {
+            log.debug("Interest rules unchanged (generation {})", previous.number());
+            return previous;
+        }
+        Generation next = new Generation(previous == null ? 1 : previous.number() + 1, clock.instant(), book);
+        current.set(next);
+        if (book.versions().isEmpty()) {
+            log.info("No interest rule versions stored; using the built-in strategies (generation {})", next.number());
+        } else {
+            log.info("Loaded {} interest rule versions (generation {})", book.versions().size(), next.number());
+        }
+        return next;
+    }
+
+    /**
+     * A published rule book.
+     *
+     * @param number   reload counter
+     * @param loadedAt when the book was loaded
+     * @param book     the compiled rules
+     */
+    private record Generation(long number, Instant loadedAt, InterestRuleBook book) {}
+}
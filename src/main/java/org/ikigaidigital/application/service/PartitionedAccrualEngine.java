@@ -0,0 +1,131 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.Failure;
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.UpdateBalancesResult;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.AccrualScope;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.IdRange;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the balance update across several threads by partitioning the id space.
+ *
+ * The range between the lowest and highest deposit id is split into partitions
+ * spanning at most one chunk of ids. Each partition is loaded, calculated and
+ * written back in its own transaction on a bounded executor, so the number of
+ * partitions in flight (and connections borrowed from the shared pool) never
+ * exceeds the executor's thread count.
+ *
+ * A failing partition is rolled back and reported; the other partitions still commit.
+ */
+public class PartitionedAccrualEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionedAccrualEngine.class);
+
+    private final TimeDepositPersistencePort timeDepositPersistencePort;
+    private final TransactionOperations transactionOperations;
+    private final ShadowComparison shadowComparison;
+    private final ExecutorService executor;
+    private final int partitionSpan;
+
+    /**
+     * Create a partitioned engine.
+     *
+     * @param timeDepositPersistencePort port used to read and write each partition
+     * @param transactionOperations      transaction boundary for a single partition
+     * @param shadowComparison           applies the calculator, sampling deposits for comparison
+     * @param executor                   bounded executor the partitions run on
+     * @param partitionSpan              maximum number of ids per partition
+     */
+    public PartitionedAccrualEngine(
+            TimeDepositPersistencePort timeDepositPersistencePort,
+            TransactionOperations transactionOperations,
+            ShadowComparison shadowComparison,
+            ExecutorService executor,
+            int partitionSpan) {
+        this.timeDepositPersistencePort = timeDepositPersistencePort;
+        this.transactionOperations = transactionOperations;
+        this.shadowComparison = shadowComparison;
+        this.executor = executor;
+        this.partitionSpan = partitionSpan;
+    }
+
+    /**
+     * Update all eligible balances due for the period, one transaction per partition.
+     *
+     * @param scope      the accrual period and eligibility rules
+     * @param calculator the domain calculator applied to each partition
+     * @return the number of updated deposits and any failed partitions
+     */
+    public UpdateBalancesResult run(AccrualScope scope, TimeDepositCalculator calculator) {
+        return run(scope, calculator, AccrualProgress.NONE);
+    }
+
+    /**
+     * Update all eligible balances due for the period, one transaction per partition,
+     * reporting every committed partition to the given progress sink.
+     *
+     * @param scope      the accrual period and eligibility rules
+     * @param calculator the domain calculator applied to each partition
+     * @param progress   sink notified from the worker threads after each commit
+     * @return the number of updated deposits and any failed partitions
+     */
+    public UpdateBalancesResult run(AccrualScope scope, TimeDepositCalculator calculator, AccrualProgress progress) {
+        Optional<IdRange> idRange = transactionOperations.execute(status -> timeDepositPersistencePort.findIdRange());
+        if (idRange == null || idRange.isEmpty()) {
+            return new UpdateBalancesResult(0);
+        }
+
+        List<IdRange> partitions = idRange.get().split(partitionSpan);
+        List<Future<Integer>> futures = new ArrayList<>(partitions.size());
+        for (IdRange partition : partitions) {
+            futures.add(executor.submit(() -> {
+                Integer count = transactionOperations.execute(status -> processPartition(partition, scope, calculator));
+                progress.advance(count);
+                return count;
+            }));
+        }
+
+        int updated = 0;
+        List<Failure> failures = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            IdRange partition = partitions.get(i);
+            try {
+                updated += futures.get(i).get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("Accrual partition {}..{} failed and was rolled back",
+                        partition.minId(), partition.maxId(), cause);
+                failures.add(new Failure(partition.minId(), partition.maxId(), String.valueOf(cause.getMessage())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.get(i).cancel(true);
+                failures.add(new Failure(partition.minId(), partition.maxId(), "interrupted"));
+            }
+        }
+        log.info("Partitioned accrual finished: {} deposits updated, {} of {} partitions failed",
+                updated, failures.size(), partitions.size());
+        return new UpdateBalancesResult(updated, failures);
+    }
+
+    private int processPartition(IdRange partition, AccrualScope scope, TimeDepositCalculator calculator) {
+        List<TimeDeposit> deposits = timeDepositPersistencePort.findByIdRange(partition, scope);
+        if (deposits.isEmpty()) {
+            return 0;
+        }
+        shadowComparison.updateBalance(calculator, deposits);
+        timeDepositPersistencePort.saveAll(deposits, scope.period());
+        return deposits.size();
+    }
+}
@@ -0,0 +1,232 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.domain.model.CalculationBackend;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares a candidate calculation backend with the calculator a run actually uses.
+ *
+ * Every balance update goes through {@link #updateBalance(TimeDepositCalculator, List)}.
+ * With a positive sample rate, a random sample of each chunk is copied before the
+ * reference calculator credits it, and the copies are handed to a separate executor.
+ * There the reference and the candidate credit the sample side by side, each timed,
+ * and the candidate's balances are compared with the ones the run credited in memory,
+ * before they are written; the comparison does not wait for, or read back, the commit.
+ *
+ * The run itself only pays for drawing the sample and copying it. Comparisons never
+ * block it: when the executor is saturated the sample is dropped and counted.
+ * Mismatches are logged and counted; they never change what the run writes.
+ */
+public class ShadowComparison {
+
+    private static final Logger log = LoggerFactory.getLogger(ShadowComparison.class);
+
+    /**
+     * Mismatching deposits logged per compared sample; the rest are only counted.
+     */
+    private static final int MAX_LOGGED_MISMATCHES = 10;
+
+    /**
+     * Compared samples between two summary log lines.
+     */
+    private static final int SUMMARY_INTERVAL = 100;
+
+    private final Executor executor;
+    private final double sampleRate;
+    private final CalculationBackend candidateBackend;
+    private final AtomicReference<Candidate> candidate = new AtomicReference<>();
+
+    private final AtomicLong comparedSamples = new AtomicLong();
+    private final LongAdder comparedDeposits = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder droppedSamples = new LongAdder();
+    private final LongAdder referenceNanos = new LongAdder();
+    private final LongAdder candidateNanos = new LongAdder();
+
+    /**
+     * Counters accumulated since the comparison was created.
+     *
+     * @param comparedSamples  number of samples compared
+     * @param comparedDeposits number of deposits in those samples
+     * @param mismatches       number of deposits the candidate credited differently
+     * @param droppedSamples   number of samples dropped because the executor was saturated
+     * @param referenceTime    time the reference calculator spent on the samples
+     * @param candidateTime    time the candidate calculator spent on the samples
+     */
+    public record ShadowStatistics(
+            long comparedSamples,
+            long comparedDeposits,
+            long mismatches,
+            long droppedSamples,
+            Duration referenceTime,
+            Duration candidateTime) {}
+
+    /**
+     * Create a shadow comparison.
+     *
+     * @param executor         executor the comparisons run on, separate from the accrual workers
+     * @param sampleRate       fraction of the deposits of each chunk to compare, from 0 (off) to 1
+     * @param candidateBackend backend of the candidate calculator
+     */
+    public ShadowComparison(Executor executor, double sampleRate, CalculationBackend candidateBackend) {
+        if (!(sampleRate >= 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1, was " + sampleRate);
+        }
+        this.executor = executor;
+        this.sampleRate = sampleRate;
+        this.candidateBackend = candidateBackend;
+    }
+
+    /**
+     * @return a comparison that samples nothing and only applies the reference calculator
+     */
+    public static ShadowComparison disabled() {
+        return new ShadowComparison(Runnable::run, 0, CalculationBackend.SCALAR);
+    }
+
+    /**
+     * @return whether any deposits are sampled
+     */
+    public boolean isEnabled() {
+        return sampleRate > 0;
+    }
+
+    /**
+     * Apply the reference calculator to the deposits, sampling them for comparison.
+     *
+     * @param reference the calculator of the run
+     * @param deposits  the deposits to credit
+     */
+    public void updateBalance(TimeDepositCalculator reference, List<TimeDeposit> deposits) {
+        int[] sampled = isEnabled() ? sample(deposits.size()) : null;
+        if (sampled == null || sampled.length == 0) {
+            reference.updateBalance(deposits);
+            return;
+        }
+
+        DepositBatch referenceSample = new DepositBatch(sampled.length);
+        DepositBatch candidateSample = new DepositBatch(sampled.length);
+        for (int index : sampled) {
+            TimeDeposit deposit = deposits.get(index);
+            referenceSample.add(deposit.getId(), deposit.getPlanType(), deposit.getBalanceCents(), deposit.getDays());
+            candidateSample.add(deposit.getId(), deposit.getPlanType(), deposit.getBalanceCents(), deposit.getDays());
+        }
+
+        reference.updateBalance(deposits);
+
+        long[] runBalances = new long[sampled.length];
+        for (int row = 0; row < sampled.length; row++) {
+            runBalances[row] = deposits.get(sampled[row]).getBalanceCents();
+        }
+        Candidate pair = candidateFor(reference);
+        try {
+            executor.execute(() -> compare(pair, referenceSample, candidateSample, runBalances));
+        } catch (RejectedExecutionException e) {
+            droppedSamples.increment();
+        }
+    }
+
+    /**
+     * @return the counters accumulated so far
+     */
+    public ShadowStatistics statistics() {
+        return new ShadowStatistics(comparedSamples.get(), comparedDeposits.sum(), mismatches.sum(),
+                droppedSamples.sum(), Duration.ofNanos(referenceNanos.sum()), Duration.ofNanos(candidateNanos.sum()));
+    }
+
+    /**
+     * Draw the indexes of the sampled deposits, in list order. Instead of a random
+     * number per deposit, the gap to the next sampled deposit is drawn from the
+     * geometric distribution, so the cost grows with the sample, not the chunk.
+     */
+    private int[] sample(int size) {
+        if (sampleRate >= 1) {
+            int[] all = new int[size];
+            Arrays.setAll(all, index -> index);
+            return all;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double logKeep = Math.log1p(-sampleRate);
+        int[] sampled = new int[(int) Math.min(size, 2 * size * sampleRate + 8)];
+        int count = 0;
+        long index = -1;
+        while ((index += 1 + (long) (Math.log(1 - random.nextDouble()) / logKeep)) < size) {
+            if (count == sampled.length) {
+                sampled = Arrays.copyOf(sampled, Math.min(size, count * 2));
+            }
+            sampled[count++] = (int) index;
+        }
+        return Arrays.copyOf(sampled, count);
+    }
+
+    /**
+     * The candidate is built once per reference calculator; a run keeps one
+     * reference throughout, so this is rebuilt only when the rules change.
+     */
+    private Candidate candidateFor(TimeDepositCalculator reference) {
+        Candidate current = candidate.get();
+        if (current == null || current.reference() != reference) {
+            current = new Candidate(reference, reference.withBackend(candidateBackend));
+            candidate.set(current);
+        }
+        return current;
+    }
+
+    private void compare(Candidate pair, DepositBatch referenceSample, DepositBatch candidateSample, long[] runBalances) {
+        long start = System.nanoTime();
+        pair.reference().accrue(referenceSample);
+        long referenceDone = System.nanoTime();
+        pair.calculator().accrue(candidateSample);
+        long candidateDone = System.nanoTime();
+
+        int[] ids = candidateSample.ids();
+        long[] credited = candidateSample.balanceCents();
+        int mismatched = 0;
+        for (int row = 0; row < candidateSample.size(); row++) {
+            if (credited[row] != runBalances[row]) {
+                if (mismatched < MAX_LOGGED_MISMATCHES) {
+                    log.warn("Shadow {} backend credited deposit {} ({}) with balance {} cents, the run credited {} cents",
+                            pair.calculator().getBackend(), ids[row], candidateSample.planType(row),
+                            credited[row], runBalances[row]);
+                }
+                mismatched++;
+            }
+        }
+
+        referenceNanos.add(referenceDone - start);
+        candidateNanos.add(candidateDone - referenceDone);
+        comparedDeposits.add(candidateSample.size());
+        mismatches.add(mismatched);
+        // The count returned by the increment is this sample's own, so exactly one sample logs each summary
+        if (comparedSamples.incrementAndGet() % SUMMARY_INTERVAL == 0) {
+            ShadowStatistics statistics = statistics();
+            log.info("Shadow comparison {} vs {}: {} deposits in {} samples, {} mismatches, {} dropped; reference {} ms, candidate {} ms",
+                    pair.reference().getBackend(), pair.calculator().getBackend(),
+                    statistics.comparedDeposits(), statistics.comparedSamples(), statistics.mismatches(),
+                    statistics.droppedSamples(), statistics.referenceTime().toMillis(),
+                    statistics.candidateTime().toMillis());
+        }
+    }
+
+    /**
+     * A reference calculator and the candidate built from its strategies.
+     *
+     * @param reference  the calculator of the run
+     * @param calculator the same strategies on the candidate backend
+     */
+    private record Candidate(TimeDepositCalculator reference, TimeDepositCalculator calculator) {}
+}
@@ -1,33 +1,136 @@
 package org.ikigaidigital.application.service;
 
 import org.ikigaidigital.application.port.input.GetAllTimeDepositsUseCase;
+import org.ikigaidigital.application.port.input.SimulateAccrualUseCase;
 import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase;
+import org.ikigaidigital.application.port.output.AccrualRunLedgerPort;
+import org.ikigaidigital.application.port.output.AccrualRunLedgerPort.AccrualRun;
+import org.ikigaidigital.application.port.output.AccrualRunLedgerPort.Checkpoint;
 import org.ikigaidigital.application.port.output.TimeDepositPersistencePort;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.AccrualScope;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.OverdueDeposit;
+import org.ikigaidigital.application.port.output.WithdrawalPersistencePort;
+import org.ikigaidigital.domain.model.CatchUpAccrual;
+import org.ikigaidigital.domain.model.InterestBasis;
+import org.ikigaidigital.domain.model.Money;
+import org.ikigaidigital.domain.model.PlanType;
 import org.ikigaidigital.domain.model.TimeDeposit;
 import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.WithdrawalIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Application service that orchestrates time deposit use cases.
- * 
+ *
  * This service implements the input ports (use cases) and coordinates
  * between the domain layer and output ports (infrastructure adapters).
  * It contains no business logic - that belongs in the domain layer.
+ *
+ * Balance updates are run with programmatic transactions so that the
+ * streaming mode can commit each chunk on its own. The parallel mode is
+ * delegated to the {@link PartitionedAccrualEngine}, the cluster mode to the
+ * {@link ClusteredAccrualEngine}, and the SQL push-down mode hands the
+ * domain's interest rules to the persistence port.
+ *
+ * Every run accrues the current calendar month (UTC) and only touches deposits
+ * not yet credited for it, so calling it twice in a month credits nothing the
+ * second time. Reads are scoped to the domain's
+ * interest rules, so deposits outside every eligibility window (for example
+ * still in a grace period) are neither loaded nor counted.
+ *
+ * The streaming mode checkpoints every chunk in the {@link AccrualRunLedgerPort}
+ * inside the chunk's transaction. A run that died part-way is resumed after its
+ * last checkpoint, so committed chunks are never credited twice; the other modes
+ * refuse to start while such a run is unfinished.
+ *
+ * Asynchronous runs execute the same code path on the {@link AccrualJobRegistry},
+ * which tracks the progress reported by each mode. Simulations stream the same
+ * scope through the calculator in a read-only transaction and write nothing.
+ *
+ * The interest rules come from the {@link InterestRuleRegistry}. A run resolves
+ * the calculator of its period once, at start, and uses it for its scope and for
+ * every deposit, so reloading the rules never changes a run already in progress.
+ * Balances are credited through the {@link ShadowComparison}, which can compare a
+ * sample of every chunk against a candidate backend off the run's threads.
+ *
+ * On the {@link InterestBasis#AVERAGE_DAILY_BALANCE} basis, a run loads the
+ * withdrawals made since the start of its period once, as a prefix-sum index, and
+ * binds it to the calculator it pins; deposits are then credited interest on their
+ * average daily balance without reading their withdrawals one by one.
+ *
+ * A catch-up credits several missed periods at once, reading and writing each
+ * overdue deposit once; see {@link CatchUpAccrual}.
  */
 @Service
-public class TimeDepositApplicationService implements GetAllTimeDepositsUseCase, UpdateAllBalancesUseCase {
+public class TimeDepositApplicationService
+        implements GetAllTimeDepositsUseCase, UpdateAllBalancesUseCase, SimulateAccrualUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeDepositApplicationService.class);
+
+    /**
+     * Keyset starting point; deposit ids are generated from 1 upwards.
+     */
+    private static final int BEFORE_FIRST_ID = 0;
+
+    /**
+     * Largest page of {@link #getTimeDeposits(int, int)}.
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Most periods a catch-up may credit; bounds the eligibility predicate of its read.
+     */
+    private static final int MAX_CATCH_UP_PERIODS = 24;
 
     private final TimeDepositPersistencePort timeDepositPersistencePort;
-    private final TimeDepositCalculator timeDepositCalculator;
+    private final WithdrawalPersistencePort withdrawalPersistencePort;
+    private final InterestRuleRegistry interestRuleRegistry;
+    private final TransactionOperations transactionOperations;
+    private final ShadowComparison shadowComparison;
+    private final AccrualSettings accrualSettings;
+    private final PartitionedAccrualEngine partitionedAccrualEngine;
+    private final ClusteredAccrualEngine clusteredAccrualEngine;
+    private final AccrualJobRegistry accrualJobRegistry;
+    private final AccrualRunLedgerPort accrualRunLedgerPort;
+    private final Clock clock;
 
     public TimeDepositApplicationService(
             TimeDepositPersistencePort timeDepositPersistencePort,
-            TimeDepositCalculator timeDepositCalculator) {
+            WithdrawalPersistencePort withdrawalPersistencePort,
+            InterestRuleRegistry interestRuleRegistry,
+            TransactionOperations transactionOperations,
+            ShadowComparison shadowComparison,
+            AccrualSettings accrualSettings,
+            PartitionedAccrualEngine partitionedAccrualEngine,
+            ClusteredAccrualEngine clusteredAccrualEngine,
+            AccrualJobRegistry accrualJobRegistry,
+            AccrualRunLedgerPort accrualRunLedgerPort,
+            Clock clock) {
         this.timeDepositPersistencePort = timeDepositPersistencePort;
-        this.timeDepositCalculator = timeDepositCalculator;
+        this.withdrawalPersistencePort = withdrawalPersistencePort;
+        this.interestRuleRegistry = interestRuleRegistry;
+        this.transactionOperations = transactionOperations;
+        this.shadowComparison = shadowComparison;
+        this.accrualSettings = accrualSettings;
+        this.partitionedAccrualEngine = partitionedAccrualEngine;
+        this.clusteredAccrualEngine = clusteredAccrualEngine;
+        this.accrualJobRegistry = accrualJobRegistry;
+        this.accrualRunLedgerPort = accrualRunLedgerPort;
+        this.clock = clock;
     }
 
     /**
@@ -41,25 +144,420 @@ public class TimeDepositApplicationService implements GetAllTimeDepositsUseCase,
         return timeDepositPersistencePort.findAllWithWithdrawals();
     }
 
+    /**
+     * Stream all time deposits from the store in a read-only transaction.
+     *
+     * @param consumer receives each deposit, in id order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllTimeDeposits(Consumer<TimeDeposit> consumer) {
+        timeDepositPersistencePort.streamAll(consumer);
+    }
+
+    /**
+     * The store advances the version after every committed write to the deposits, including
+     * writes by other instances and other database clients. No transaction is opened, so
+     * reading the version does not touch the database.
+     */
+    @Override
+    public long portfolioVersion() {
+        return timeDepositPersistencePort.portfolioVersion();
+    }
+
+    /**
+     * Get one page of time deposits. One row more than requested is read to tell
+     * whether another page follows.
+     *
+     * @param afterId exclusive lower bound on the deposit id
+     * @param limit   maximum number of deposits on the page
+     * @return the page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TimeDepositPage getTimeDeposits(int afterId, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+        }
+        List<TimeDeposit> deposits = timeDepositPersistencePort.findPageAfter(afterId, limit + 1);
+        if (deposits.size() <= limit) {
+            return new TimeDepositPage(deposits, null);
+        }
+        List<TimeDeposit> page = deposits.subList(0, limit);
+        return new TimeDepositPage(page, page.get(limit - 1).getId());
+    }
+
     /**
      * Update all time deposit balances by applying interest calculations.
+     * The configured {@link AccrualMode} decides whether the run happens in
+     * one transaction or chunk by chunk.
      *
      * @return result containing the count of updated deposits
      */
     @Override
-    @Transactional
     public UpdateBalancesResult updateAllBalances() {
-        // 1. Fetch all deposits as domain objects
-        List<TimeDeposit> timeDeposits = timeDepositPersistencePort.findAll();
+        return updateAllBalances(AccrualProgress.NONE);
+    }
+
+    /**
+     * Credit missed periods in one transaction: the overdue deposits are read once, credited
+     * period after period in memory by a {@link CatchUpAccrual}, and written once. The read is
+     * scoped to the eligibility windows of all caught-up periods, shifted to today's ages.
+     * Nothing is written if a deposit credited before periods were recorded is overdue and
+     * {@code lastUntrackedPeriod} is not given.
+     *
+     * @param periods             the number of periods to catch up, ending with the current one
+     * @param lastUntrackedPeriod the period deposits credited before periods were recorded were
+     *                            last credited for; null if not known
+     * @return result containing the count of updated deposits
+     */
+    @Override
+    public UpdateBalancesResult catchUpBalances(int periods, YearMonth lastUntrackedPeriod) {
+        if (periods < 1 || periods > MAX_CATCH_UP_PERIODS) {
+            throw new IllegalArgumentException(
+                    "Periods to catch up must be between 1 and " + MAX_CATCH_UP_PERIODS + ": " + periods);
+        }
+        YearMonth period = YearMonth.now(clock);
+        if (lastUntrackedPeriod != null && !lastUntrackedPeriod.isBefore(period)) {
+            throw new IllegalArgumentException(
+                    "Last untracked period must be before " + period + ": " + lastUntrackedPeriod);
+        }
+        Optional<AccrualRun> unfinished = transactionOperations.execute(
+                status -> accrualRunLedgerPort.findUnfinishedRun());
+        if (unfinished.isPresent()) {
+            throw new IllegalStateException("Accrual run " + unfinished.get().runId()
+                    + " is unfinished; resume it in streaming mode before catching up");
+        }
+
+        WithdrawalIndex withdrawals = withdrawalsSince(period.minusMonths(periods - 1));
+        CatchUpAccrual catchUp = new CatchUpAccrual(period, periods, p -> calculatorFor(p, withdrawals));
+        AccrualScope scope = new AccrualScope(period, catchUp.eligibilityRules());
+        UpdateBalancesResult result = transactionOperations.execute(status -> {
+            List<OverdueDeposit> overdue = timeDepositPersistencePort.findOverdueFor(scope);
+            long untracked = overdue.stream().filter(OverdueDeposit::accruedBeforeTracking).count();
+            if (untracked > 0 && lastUntrackedPeriod == null) {
+                throw new IllegalArgumentException(untracked + " overdue deposits were credited before accrual "
+                        + "periods were recorded; give the period they were last credited for");
+            }
+            List<TimeDeposit> deposits = new ArrayList<>(overdue.size());
+            int[] missedPeriods = new int[overdue.size()];
+            for (int i = 0; i < overdue.size(); i++) {
+                deposits.add(overdue.get(i).deposit());
+                missedPeriods[i] = overdue.get(i).missedPeriods(period, periods, lastUntrackedPeriod);
+            }
+            catchUp.accrue(deposits, missedPeriods);
+            timeDepositPersistencePort.saveAll(deposits, period);
+            return new UpdateBalancesResult(deposits.size());
+        });
+        log.info("Caught up {} deposits for {} to {}", result.updatedCount(), catchUp.firstPeriod(), period);
+        return result;
+    }
+
+    /**
+     * Run the balance update in the background on the job registry's executor.
+     *
+     * @return the status of the accepted (or already active) job
+     */
+    @Override
+    public JobStatus submitUpdateAllBalances() {
+        return accrualJobRegistry.submit(this::countDepositsToUpdate, this::updateAllBalances);
+    }
+
+    /**
+     * Count the deposits the balance update is going to credit, with the filter its reads use:
+     * those due for the current period and, if an unfinished run of an earlier period is
+     * finished first, those still due for that period.
+     */
+    private long countDepositsToUpdate() {
+        YearMonth period = YearMonth.now(clock);
+        AccrualScope scope = new AccrualScope(period, interestRuleRegistry.calculatorFor(period).getInterestRules());
+        return transactionOperations.execute(status -> {
+            long due = timeDepositPersistencePort.countDueFor(scope);
+            Optional<AccrualRun> unfinished = accrualRunLedgerPort.findUnfinishedRun();
+            if (unfinished.isPresent() && unfinished.get().period().isBefore(period)) {
+                YearMonth runPeriod = unfinished.get().period();
+                due += timeDepositPersistencePort.countDueFor(new AccrualScope(
+                        runPeriod, interestRuleRegistry.calculatorFor(runPeriod).getInterestRules()));
+            }
+            return due;
+        });
+    }
+
+    @Override
+    public Optional<JobStatus> findUpdateJob(UUID jobId) {
+        return accrualJobRegistry.find(jobId);
+    }
+
+    /**
+     * Calculate the totals the next balance update would credit, without modifying any balance.
+     * Declared here rather than delegated from the use case, so that the call goes through the
+     * transactional proxy and the deposits are streamed inside a read-only transaction.
+     *
+     * @return the totals per plan type
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AccrualSimulation simulateAccrual() {
+        return simulate(projection -> { });
+    }
+
+    /**
+     * Calculate the interest the next balance update would credit, deposit by deposit,
+     * without modifying any balance. Deposits are streamed from the store, so only the
+     * per-plan totals are held in memory.
+     *
+     * @param consumer receives one projection per due deposit, in id order
+     * @return the totals per plan type
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AccrualSimulation simulateAccrual(Consumer<ProjectedInterest> consumer) {
+        return simulate(consumer);
+    }
+
+    private AccrualSimulation simulate(Consumer<ProjectedInterest> consumer) {
+        Accrual accrual = currentAccrual();
+        AccrualScope scope = accrual.scope();
+        Map<PlanType, PlanAccumulator> totals = new EnumMap<>(PlanType.class);
+        timeDepositPersistencePort.streamDueFor(scope, deposit -> {
+            long interestCents = accrual.calculator().calculateMonthlyInterestCents(deposit);
+            totals.computeIfAbsent(deposit.getPlanType(), planType -> new PlanAccumulator())
+                    .add(deposit.getBalanceCents(), interestCents);
+            consumer.accept(new ProjectedInterest(deposit.getId(), deposit.getPlanType(),
+                    deposit.getBalanceCents(), interestCents));
+        });
+
+        List<PlanTotal> plans = totals.entrySet().stream()
+                .map(entry -> entry.getValue().toTotal(entry.getKey()))
+                .toList();
+        return new AccrualSimulation(scope.period(), plans);
+    }
+
+    /**
+     * What a run started now would credit: the current calendar month (per the
+     * service clock) with the calculator of the rules in force for it, bound to
+     * the period's withdrawals on the average daily balance basis.
+     */
+    private Accrual currentAccrual() {
+        return accrualFor(YearMonth.now(clock));
+    }
+
+    /**
+     * What a run for a period credits: the calculator of the rules in force for it,
+     * bound to the period's withdrawals on the average daily balance basis.
+     */
+    private Accrual accrualFor(YearMonth period) {
+        TimeDepositCalculator calculator = calculatorFor(period, withdrawalsSince(period));
+        return new Accrual(new AccrualScope(period, calculator.getInterestRules()), calculator);
+    }
+
+    /**
+     * On the average daily balance basis, index the withdrawals made after the first day
+     * of a period; null on the closing balance basis.
+     */
+    private WithdrawalIndex withdrawalsSince(YearMonth period) {
+        if (accrualSettings.interestBasis() != InterestBasis.AVERAGE_DAILY_BALANCE) {
+            return null;
+        }
+        return transactionOperations.execute(
+                status -> withdrawalPersistencePort.indexWithdrawalsAfter(period.atDay(1)));
+    }
+
+    /**
+     * The calculator of the rules in force for a period, bound to the withdrawals if indexed.
+     */
+    private TimeDepositCalculator calculatorFor(YearMonth period, WithdrawalIndex withdrawals) {
+        TimeDepositCalculator calculator = interestRuleRegistry.calculatorFor(period);
+        return withdrawals == null ? calculator : calculator.withAverageDailyBalance(withdrawals, period);
+    }
+
+    private UpdateBalancesResult updateAllBalances(AccrualProgress progress) {
+        Accrual accrual = currentAccrual();
+        AccrualScope scope = accrual.scope();
+        TimeDepositCalculator calculator = accrual.calculator();
+        YearMonth period = scope.period();
+        Optional<AccrualRun> unfinished = transactionOperations.execute(
+                status -> accrualRunLedgerPort.findUnfinishedRun());
+        if (unfinished.isPresent()) {
+            if (accrualSettings.mode() != AccrualMode.STREAMING) {
+                // Crediting everything would credit the run's committed chunks a second time
+                throw new IllegalStateException("Accrual run " + unfinished.get().runId()
+                        + " is unfinished; resume it in streaming mode before starting another run");
+            }
+        } else if (!Boolean.TRUE.equals(transactionOperations.execute(
+                status -> timeDepositPersistencePort.hasDepositsDueFor(scope)))) {
+            log.info("All deposits are already accrued for {}", period);
+            return new UpdateBalancesResult(0);
+        }
+
+        return switch (accrualSettings.mode()) {
+            case STREAMING -> updateBalancesInChunks(unfinished, scope, calculator, progress);
+            case PARALLEL -> partitionedAccrualEngine.run(scope, calculator, progress);
+            case CLUSTER -> clusteredAccrualEngine.run(scope, calculator, progress);
+            case SQL_PUSHDOWN -> reportCommitted(progress,
+                    transactionOperations.execute(status -> updateBalancesInDatabase(scope)));
+            case IN_MEMORY -> reportCommitted(progress,
+                    transactionOperations.execute(status -> updateBalancesInMemory(scope, calculator)));
+        };
+    }
+
+    /**
+     * Single-transaction modes only have progress to report once they commit.
+     */
+    private static UpdateBalancesResult reportCommitted(AccrualProgress progress, UpdateBalancesResult result) {
+        progress.advance(result.updatedCount());
+        return result;
+    }
+
+    private UpdateBalancesResult updateBalancesInMemory(AccrualScope scope, TimeDepositCalculator calculator) {
+        // 1. Fetch all eligible deposits due for the period as domain objects
+        List<TimeDeposit> timeDeposits = timeDepositPersistencePort.findDueFor(scope);
 
         // 2. Apply interest calculations via domain service
-        timeDepositCalculator.updateBalance(timeDeposits);
+        shadowComparison.updateBalance(calculator, timeDeposits);
 
         // 3. Persist updated deposits
-        timeDepositPersistencePort.saveAll(timeDeposits);
+        timeDepositPersistencePort.saveAll(timeDeposits, scope.period());
 
         // 4. Return result
         return new UpdateBalancesResult(timeDeposits.size());
     }
-}
 
+    /**
+     * Let the data store apply the rules in one set-based statement.
+     * The count is the number of deposits actually credited.
+     */
+    private UpdateBalancesResult updateBalancesInDatabase(AccrualScope scope) {
+        int credited = timeDepositPersistencePort.applyMonthlyInterest(scope.rules(), scope.period());
+        return new UpdateBalancesResult(credited);
+    }
+
+    /**
+     * Walk the deposits by primary key, committing one chunk at a time.
+     * Only a single chunk is held in memory and row locks are released on every commit.
+     * Each chunk is checkpointed in its own transaction, and an unfinished run
+     * is picked up after its last checkpoint.
+     *
+     * An unfinished run of an earlier period is finished for that period first, with that
+     * period's rules, and the current period then starts from the first deposit: the deposits
+     * after its checkpoint are still owed the earlier period.
+     *
+     * The count is the number of deposits updated by this invocation.
+     */
+    private UpdateBalancesResult updateBalancesInChunks(
+            Optional<AccrualRun> unfinished, AccrualScope scope, TimeDepositCalculator calculator,
+            AccrualProgress progress) {
+        YearMonth period = scope.period();
+        int processed = 0;
+        if (unfinished.isPresent()) {
+            AccrualRun run = unfinished.get();
+            if (run.period().isAfter(period)) {
+                throw new IllegalStateException("Accrual run " + run.runId() + " is unfinished for "
+                        + run.period() + ", after the current period " + period);
+            }
+            log.info("Resuming accrual run {} for {} after id {} ({} deposits in {} chunks already committed)",
+                    run.runId(), run.period(), run.lastCommittedId(), run.processedCount(), run.chunkCount());
+            if (run.period().equals(period)) {
+                return new UpdateBalancesResult(runChunks(run, scope, calculator, progress));
+            }
+            Accrual previous = accrualFor(run.period());
+            processed += runChunks(run, previous.scope(), previous.calculator(), progress);
+        }
+
+        AccrualRun run = transactionOperations.execute(status -> accrualRunLedgerPort.startRun(period));
+        processed += runChunks(run, scope, calculator, progress);
+        return new UpdateBalancesResult(processed);
+    }
+
+    /**
+     * Walk a run from its last checkpoint to the end, then complete it.
+     *
+     * @return the number of deposits committed by this walk
+     */
+    private int runChunks(AccrualRun run, AccrualScope scope, TimeDepositCalculator calculator,
+                          AccrualProgress progress) {
+        int chunkSize = accrualSettings.chunkSize();
+        int lastId = run.lastCommittedId();
+        int processed = 0;
+        int chunkCount;
+        do {
+            int afterId = lastId;
+            ChunkResult chunk = transactionOperations.execute(
+                    status -> processChunk(run.runId(), afterId, chunkSize, scope, calculator));
+            chunkCount = chunk.count();
+            processed += chunkCount;
+            progress.advance(chunkCount);
+            lastId = chunk.lastId();
+            log.debug("Committed accrual chunk ending at id {} ({} deposits so far)", lastId, processed);
+        } while (chunkCount == chunkSize);
+
+        transactionOperations.executeWithoutResult(status -> accrualRunLedgerPort.completeRun(run.runId()));
+        return processed;
+    }
+
+    private ChunkResult processChunk(
+            long runId, int afterId, int chunkSize, AccrualScope scope, TimeDepositCalculator calculator) {
+        List<TimeDeposit> chunk = timeDepositPersistencePort.findChunkAfter(afterId, chunkSize, scope);
+        if (chunk.isEmpty()) {
+            return new ChunkResult(afterId, 0);
+        }
+        shadowComparison.updateBalance(calculator, chunk);
+        timeDepositPersistencePort.saveAll(chunk, scope.period());
+
+        int firstId = chunk.get(0).getId();
+        int lastId = chunk.get(chunk.size() - 1).getId();
+        accrualRunLedgerPort.recordCheckpoint(runId,
+                new Checkpoint(firstId, lastId, chunk.size(), balanceChecksum(chunk)));
+        return new ChunkResult(lastId, chunk.size());
+    }
+
+    /**
+     * Sum of the balances in cents, recorded with each checkpoint so a chunk
+     * can be verified against the table afterwards.
+     */
+    private static long balanceChecksum(List<TimeDeposit> chunk) {
+        long cents = 0;
+        for (TimeDeposit deposit : chunk) {
+            cents += deposit.getBalanceCents();
+        }
+        return cents;
+    }
+
+    /**
+     * The scope of a run together with the calculator that credits it, resolved once per run.
+     *
+     * @param scope      the accrual period and eligibility rules
+     * @param calculator the calculator of the rules in force for the period
+     */
+    private record Accrual(AccrualScope scope, TimeDepositCalculator calculator) {}
+
+    /**
+     * Outcome of a single committed chunk.
+     *
+     * @param lastId highest deposit id in the chunk, used as the next keyset position
+     * @param count  number of deposits in the chunk
+     */
+    private record ChunkResult(int lastId, int count) {}
+
+    /**
+     * Running totals of one plan type, kept in cents so that summing many
+     * amounts does not accumulate floating-point error.
+     */
+    private static final class PlanAccumulator {
+
+        private long depositCount;
+        private long balanceCents;
+        private long interestCents;
+
+        void add(long balance, long interest) {
+            depositCount++;
+            balanceCents += balance;
+            interestCents += interest;
+        }
+
+        PlanTotal toTotal(PlanType planType) {
+            return new PlanTotal(planType, depositCount,
+                    Money.toDecimal(balanceCents), Money.toDecimal(interestCents));
+        }
+    }
+}
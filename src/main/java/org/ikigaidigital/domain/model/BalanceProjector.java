@@ -0,0 +1,157 @@
+package org.ikigaidigital.domain.model;
+
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Domain service projecting time deposit balances several interest periods ahead.
+ *
+ * Instead of applying {@link TimeDepositCalculator#updateBalance(List)} once per month,
+ * the balance after N periods is computed in constant time per deposit:
+ * <ul>
+ *   <li>the deposit ages by a fixed number of days per period, so the periods that earn
+ *       interest are the intersection of that age sequence with the plan's eligibility
+ *       window (see {@link InterestRule#eligiblePeriods(int, int, int)}); grace periods,
+ *       the student cap, the premium minimum and the internal termination all follow
+ *       from the window;</li>
+ *   <li>every earning period multiplies the balance by {@code 1 + annualRate / 12}, so
+ *       m earning periods multiply it by that factor to the power m.</li>
+ * </ul>
+ *
+ * Balances stay in {@code long} cents. The factor's powers are kept per plan as fixed-point
+ * numbers scaled by {@value #FACTOR_SCALE}, built from the rule's exact rate with
+ * {@link Money#multiplyHalfUp(long, long, long)} and extended as longer projections need them.
+ *
+ * The projection is rounded HALF_UP to cents once, at the end. Iterating the calculator
+ * rounds every month's interest instead, so the two can differ by up to half a cent per
+ * earning period.
+ *
+ * This is a pure domain class with no framework dependencies.
+ */
+public class BalanceProjector {
+
+    /**
+     * Days a deposit ages per monthly interest period.
+     */
+    public static final int DEFAULT_DAYS_PER_PERIOD = 30;
+
+    /**
+     * Fixed-point scale of the growth factor's powers.
+     */
+    static final long FACTOR_SCALE = 1_000_000_000_000L;
+
+    /**
+     * Projected state of one deposit.
+     *
+     * @param depositId      the deposit id
+     * @param balanceCents   the balance after the projected periods, in cents
+     * @param earningPeriods the number of periods that earned interest
+     */
+    public record Projection(int depositId, long balanceCents, int earningPeriods) {}
+
+    private final Map<PlanType, Compounding> compoundingByPlan = new EnumMap<>(PlanType.class);
+    private final int daysPerPeriod;
+
+    /**
+     * Create a projector for the given rules.
+     *
+     * @param rules         the interest rules of all plans that earn interest
+     * @param daysPerPeriod the days a deposit ages per period, positive
+     */
+    public BalanceProjector(List<InterestRule> rules, int daysPerPeriod) {
+        if (daysPerPeriod <= 0) {
+            throw new IllegalArgumentException("Days per period must be positive: " + daysPerPeriod);
+        }
+        for (InterestRule rule : rules) {
+            compoundingByPlan.put(rule.planType(), new Compounding(rule));
+        }
+        this.daysPerPeriod = daysPerPeriod;
+    }
+
+    /**
+     * Create a projector for the given rules, ageing deposits by {@value #DEFAULT_DAYS_PER_PERIOD} days per period.
+     *
+     * @param rules the interest rules of all plans that earn interest
+     */
+    public BalanceProjector(List<InterestRule> rules) {
+        this(rules, DEFAULT_DAYS_PER_PERIOD);
+    }
+
+    /**
+     * Project one deposit. The deposit itself is not modified.
+     *
+     * @param deposit the time deposit
+     * @param periods the number of periods to project, not negative
+     * @return the projected balance and number of earning periods
+     */
+    public Projection project(TimeDeposit deposit, int periods) {
+        if (periods < 0) {
+            throw new IllegalArgumentException("Periods must not be negative: " + periods);
+        }
+        Compounding compounding = compoundingByPlan.get(deposit.getPlanType());
+        int earningPeriods = compounding == null
+                ? 0
+                : compounding.rule().eligiblePeriods(deposit.getDays(), periods, daysPerPeriod);
+        long balanceCents = earningPeriods == 0
+                ? deposit.getBalanceCents()
+                : Money.multiplyHalfUp(deposit.getBalanceCents(), compounding.factorPower(earningPeriods), FACTOR_SCALE);
+        return new Projection(deposit.getId(), balanceCents, earningPeriods);
+    }
+
+    /**
+     * Project every deposit of a list by the same number of periods.
+     *
+     * @param deposits the time deposits
+     * @param periods  the number of periods to project, not negative
+     * @return one projection per deposit, in list order
+     */
+    public List<Projection> projectAll(List<TimeDeposit> deposits, int periods) {
+        List<Projection> projections = new ArrayList<>(deposits.size());
+        for (TimeDeposit deposit : deposits) {
+            projections.add(project(deposit, periods));
+        }
+        return projections;
+    }
+
+    /**
+     * A plan's rule together with the powers of its per-period growth factor,
+     * {@code (12 * RATE_SCALE + annualRatePerMillion) / (12 * RATE_SCALE)}.
+     */
+    private static final class Compounding {
+
+        private static final long FACTOR_DENOMINATOR = InterestRule.MONTHS_PER_YEAR * InterestRule.RATE_SCALE;
+
+        private final InterestRule rule;
+        private final long factorNumerator;
+        private long[] powers = {FACTOR_SCALE};
+
+        Compounding(InterestRule rule) {
+            this.rule = rule;
+            this.factorNumerator = FACTOR_DENOMINATOR + rule.annualRatePerMillion();
+        }
+
+        InterestRule rule() {
+            return rule;
+        }
+
+        /**
+         * @param exponent the number of earning periods, not negative
+         * @return the factor to the power {@code exponent}, scaled by {@link #FACTOR_SCALE}
+         */
+        synchronized long factorPower(int exponent) {
+            if (exponent >= powers.length) {
+                int computed = powers.length;
+                powers = Arrays.copyOf(powers, Math.max(exponent + 1, 2 * computed));
+                for (int i = computed; i < powers.length; i++) {
+                    powers[i] = Money.multiplyHalfUp(powers[i - 1], factorNumerator, FACTOR_DENOMINATOR);
+                }
+            }
+            return powers[exponent];
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.ikigaidigital.domain.model;
+
+/**
+ * How {@link TimeDepositCalculator} credits a {@link DepositBatch}.
+ */
+public enum CalculationBackend {
+
+    /**
+     * Each plan's strategy credits its rows one at a time.
+     */
+    SCALAR,
+
+    /**
+     * The plans' interest rules are evaluated across SIMD lanes with the
+     * {@code jdk.incubator.vector} module. Creating a calculator for this backend
+     * fails when the module is not resolved, i.e. the JVM was started without
+     * {@code --add-modules jdk.incubator.vector}.
+     */
+    VECTOR
+}
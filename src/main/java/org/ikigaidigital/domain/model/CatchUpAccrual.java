@@ -0,0 +1,176 @@
+package org.ikigaidigital.domain.model;
+
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Domain service crediting several missed interest periods to deposits in one pass.
+ *
+ * The stored age of a deposit is its age in the latest period. Each earlier period is
+ * evaluated {@value #DAYS_PER_PERIOD} days younger, so a deposit crosses its grace
+ * period, cap or termination in the period it actually crossed it, instead of being
+ * judged by today's age every time. Every period is credited by the calculator of the
+ * rules in force for it, and its interest is rounded to cents before the next period
+ * compounds on it, so the result equals one monthly run per period. Periods in which
+ * the deposit would be younger than zero days, i.e. before it was opened, are skipped.
+ *
+ * Deposits are credited in memory, period after period, and only their final balance
+ * changes: catching up costs one read and one write per deposit, however many periods
+ * were missed.
+ *
+ * This is a pure domain class with no framework dependencies.
+ */
+public final class CatchUpAccrual {
+
+    /**
+     * Days a deposit ages per monthly interest period.
+     */
+    public static final int DAYS_PER_PERIOD = BalanceProjector.DEFAULT_DAYS_PER_PERIOD;
+
+    private final YearMonth lastPeriod;
+    // Oldest period first
+    private final List<TimeDepositCalculator> calculators;
+
+    /**
+     * Resolve the calculators of the missed periods.
+     *
+     * @param lastPeriod    the latest period to credit, usually the current one
+     * @param periods       the number of periods to credit, ending with {@code lastPeriod}; positive
+     * @param calculatorFor the calculator of the rules in force for a period
+     */
+    public CatchUpAccrual(YearMonth lastPeriod, int periods,
+                          Function<YearMonth, TimeDepositCalculator> calculatorFor) {
+        if (lastPeriod == null) {
+            throw new IllegalArgumentException("Last period must not be null");
+        }
+        if (periods <= 0) {
+            throw new IllegalArgumentException("Periods must be positive: " + periods);
+        }
+        this.lastPeriod = lastPeriod;
+        List<TimeDepositCalculator> resolved = new ArrayList<>(periods);
+        for (int k = 0; k < periods; k++) {
+            resolved.add(calculatorFor.apply(lastPeriod.minusMonths(periods - 1 - k)));
+        }
+        this.calculators = List.copyOf(resolved);
+    }
+
+    /**
+     * @return the number of periods credited
+     */
+    public int periods() {
+        return calculators.size();
+    }
+
+    /**
+     * @return the earliest period credited
+     */
+    public YearMonth firstPeriod() {
+        return lastPeriod.minusMonths(periods() - 1);
+    }
+
+    /**
+     * @return the latest period credited
+     */
+    public YearMonth lastPeriod() {
+        return lastPeriod;
+    }
+
+    /**
+     * Get the eligibility windows of the catch-up in terms of the stored age.
+     *
+     * A deposit earns interest in a period {@code j} periods before the latest one when
+     * its stored age, less {@code j * }{@value #DAYS_PER_PERIOD}, lies inside that period's
+     * window; shifting each window by the same days and merging the overlapping ones of a
+     * plan gives one window per plan. The rate of each returned rule is that of the latest
+     * rule of the plan; only the windows are meant to be used, to select deposits.
+     *
+     * @return one rule per plan that earns interest in any of the periods
+     */
+    public List<InterestRule> eligibilityRules() {
+        Map<PlanType, List<InterestRule>> shiftedByPlan = new EnumMap<>(PlanType.class);
+        for (int k = 0; k < periods(); k++) {
+            long shift = (long) (periods() - 1 - k) * DAYS_PER_PERIOD;
+            for (InterestRule rule : calculators.get(k).getInterestRules()) {
+                shiftedByPlan.computeIfAbsent(rule.planType(), planType -> new ArrayList<>())
+                        .add(new InterestRule(rule.planType(), rule.annualRate(),
+                                rule.hasMinimum() ? shift(rule.minimumDaysExclusive(), shift) : InterestRule.NO_MINIMUM,
+                                rule.hasMaximum() ? shift(rule.maximumDaysExclusive(), shift) : InterestRule.NO_MAXIMUM));
+            }
+        }
+
+        List<InterestRule> merged = new ArrayList<>();
+        shiftedByPlan.forEach((planType, windows) -> {
+            InterestRule latest = windows.get(windows.size() - 1);
+            windows.sort(Comparator.comparingInt(InterestRule::minimumDaysExclusive));
+            int min = windows.get(0).minimumDaysExclusive();
+            int max = windows.get(0).maximumDaysExclusive();
+            for (InterestRule window : windows.subList(1, windows.size())) {
+                // Open integer windows (min, max) and (c, d) leave no gap when c < max
+                if (window.minimumDaysExclusive() >= max) {
+                    merged.add(new InterestRule(planType, latest.annualRate(), min, max));
+                    min = window.minimumDaysExclusive();
+                }
+                max = Math.max(max, window.maximumDaysExclusive());
+            }
+            merged.add(new InterestRule(planType, latest.annualRate(), min, max));
+        });
+        return merged;
+    }
+
+    /**
+     * Shift a bound by whole periods, keeping it below the unbounded markers.
+     */
+    private static int shift(int bound, long days) {
+        return (int) Math.min(bound + days, InterestRule.NO_MAXIMUM - 1L);
+    }
+
+    /**
+     * Credit every deposit the periods it missed, in place.
+     *
+     * @param deposits      the deposits, with their age in the latest period
+     * @param missedPeriods for each deposit, the number of the latest periods it was not
+     *                      credited for; values above {@link #periods()} are capped
+     */
+    public void accrue(List<TimeDeposit> deposits, int[] missedPeriods) {
+        if (missedPeriods.length != deposits.size()) {
+            throw new IllegalArgumentException("Expected " + deposits.size()
+                    + " missed period counts, got " + missedPeriods.length);
+        }
+        int size = deposits.size();
+        long[] balanceCents = new long[size];
+        for (int i = 0; i < size; i++) {
+            balanceCents[i] = deposits.get(i).getBalanceCents();
+        }
+
+        int[] rows = new int[size];
+        for (int k = 0; k < periods(); k++) {
+            int periodsBeforeLast = periods() - 1 - k;
+            int ageOffset = periodsBeforeLast * DAYS_PER_PERIOD;
+            DepositBatch batch = new DepositBatch(size);
+            for (int i = 0; i < size; i++) {
+                TimeDeposit deposit = deposits.get(i);
+                int age = deposit.getDays() - ageOffset;
+                // A negative age is a period before the deposit was opened
+                if (missedPeriods[i] > periodsBeforeLast && age >= 0) {
+                    rows[batch.size()] = i;
+                    batch.add(deposit.getId(), deposit.getPlanType(), balanceCents[i], age);
+                }
+            }
+            calculators.get(k).accrue(batch);
+            for (int row = 0; row < batch.size(); row++) {
+                balanceCents[rows[row]] = batch.balanceCents()[row];
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            deposits.get(i).setBalanceCents(balanceCents[i]);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.ikigaidigital.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A batch of time deposits stored column by column in primitive arrays.
+ *
+ * Row {@code i} of the batch is the deposit with id {@code ids()[i]}, plan type
+ * ordinal {@code planOrdinals()[i]}, balance {@code balanceCents()[i]} in cents and
+ * age {@code days()[i]}. Keeping each attribute in its own array lets interest
+ * calculation run as tight loops over primitives instead of dereferencing one object
+ * and one boxed balance per deposit.
+ *
+ * The column accessors return the live backing arrays; only the first {@link #size()}
+ * entries are valid. Balances are updated in place by
+ * {@link org.ikigaidigital.domain.model.strategy.InterestCalculationStrategy#accrue(DepositBatch, int[], int, int)}.
+ *
+ * This is a pure domain class with no framework dependencies.
+ */
+public final class DepositBatch {
+
+    /**
+     * Plan ordinal of a deposit without a plan type.
+     */
+    public static final byte NO_PLAN = -1;
+
+    private static final PlanType[] PLAN_TYPES = PlanType.values();
+
+    private int[] ids;
+    private byte[] planOrdinals;
+    private long[] balanceCents;
+    private int[] days;
+    private int size;
+
+    // Scratch space of TimeDepositCalculator#accrue, kept here so that accrual does not allocate
+    private int[] rowOrder;
+    private long[] basisAdjustmentCents;
+    private final int[] planStarts = new int[PLAN_TYPES.length + 2];
+    private final int[] planCursors = new int[PLAN_TYPES.length + 2];
+
+    /**
+     * Create an empty batch.
+     *
+     * @param capacity the number of rows to allocate up front
+     */
+    public DepositBatch(int capacity) {
+        ids = new int[capacity];
+        planOrdinals = new byte[capacity];
+        balanceCents = new long[capacity];
+        days = new int[capacity];
+        rowOrder = new int[capacity];
+        basisAdjustmentCents = new long[capacity];
+    }
+
+    /**
+     * Copy a list of deposits into a new batch, in list order.
+     *
+     * @param deposits the time deposits
+     * @return a batch with one row per deposit
+     */
+    public static DepositBatch of(List<TimeDeposit> deposits) {
+        DepositBatch batch = new DepositBatch(deposits.size());
+        for (TimeDeposit deposit : deposits) {
+            batch.add(deposit.getId(), deposit.getPlanType(), deposit.getBalanceCents(), deposit.getDays());
+        }
+        return batch;
+    }
+
+    /**
+     * Append a row, growing the columns if needed.
+     *
+     * @param id           the deposit id
+     * @param planType     the plan type, or null if the deposit has none
+     * @param balanceCents the balance in cents
+     * @param days         the age of the deposit in days
+     */
+    public void add(int id, PlanType planType, long balanceCents, int days) {
+        if (size == ids.length) {
+            grow();
+        }
+        this.ids[size] = id;
+        this.planOrdinals[size] = planType == null ? NO_PLAN : (byte) planType.ordinal();
+        this.balanceCents[size] = balanceCents;
+        this.days[size] = days;
+        size++;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the id column
+     */
+    public int[] ids() {
+        return ids;
+    }
+
+    /**
+     * @return the plan type ordinal column; {@link #NO_PLAN} for deposits without a plan type
+     */
+    public byte[] planOrdinals() {
+        return planOrdinals;
+    }
+
+    /**
+     * @return the balance column, in cents
+     */
+    public long[] balanceCents() {
+        return balanceCents;
+    }
+
+    /**
+     * @return the age column, in days
+     */
+    public int[] days() {
+        return days;
+    }
+
+    /**
+     * @param row the row index
+     * @return the plan type of the row, or null if it has none
+     */
+    public PlanType planType(int row) {
+        byte ordinal = planOrdinals[row];
+        return ordinal == NO_PLAN ? null : PLAN_TYPES[ordinal];
+    }
+
+    int[] rowOrder() {
+        return rowOrder;
+    }
+
+    long[] basisAdjustmentCents() {
+        return basisAdjustmentCents;
+    }
+
+    int[] planStarts() {
+        return planStarts;
+    }
+
+    int[] planCursors() {
+        return planCursors;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        planOrdinals = Arrays.copyOf(planOrdinals, capacity);
+        balanceCents = Arrays.copyOf(balanceCents, capacity);
+        days = Arrays.copyOf(days, capacity);
+        rowOrder = new int[capacity];
+        basisAdjustmentCents = new long[capacity];
+    }
+}
@@ -0,0 +1,19 @@
+package org.ikigaidigital.domain.model;
+
+/**
+ * The balance a month of interest is calculated on.
+ */
+public enum InterestBasis {
+
+    /**
+     * The balance at the time of the accrual run.
+     */
+    CLOSING_BALANCE,
+
+    /**
+     * The average of the daily balances over the accrual period. Withdrawals made
+     * during or after the period are added back to the days before them; see
+     * {@link WithdrawalIndex}.
+     */
+    AVERAGE_DAILY_BALANCE
+}
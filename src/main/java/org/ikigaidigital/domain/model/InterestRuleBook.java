@@ -0,0 +1,119 @@
+package org.ikigaidigital.domain.model;
+
+import org.ikigaidigital.domain.model.strategy.InterestCalculationStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.ikigaidigital.domain.model.strategy.InterestRuleVersion;
+import org.ikigaidigital.domain.model.strategy.RuleBasedInterestStrategy;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, compiled set of effective-dated interest rule versions.
+ *
+ * At construction the versions are compiled into one {@link TimeDepositCalculator}
+ * per distinct effective period, each holding the rules in force from that period
+ * on. Looking up the calculator of a period is a binary search over those periods;
+ * nothing is built or locked per lookup, so a book can be shared by any number of
+ * threads and replaced as a whole when the rules change.
+ *
+ * Periods before the earliest version earn no interest.
+ *
+ * This is a pure domain class with no framework dependencies.
+ */
+public final class InterestRuleBook {
+
+    private static final TimeDepositCalculator NO_INTEREST =
+            new TimeDepositCalculator(new InterestStrategyFactory(List.of()));
+
+    private final List<InterestRuleVersion> versions;
+    private final YearMonth[] effectivePeriods;
+    private final TimeDepositCalculator[] calculators;
+    private final TimeDepositCalculator beforeFirstPeriod;
+
+    /**
+     * Compile a book from rule versions.
+     *
+     * @param versions the rule versions, in any order; at most one per plan and period
+     * @param backend  the backend of the compiled calculators
+     */
+    public InterestRuleBook(List<InterestRuleVersion> versions, CalculationBackend backend) {
+        List<InterestRuleVersion> sorted = new ArrayList<>(versions);
+        sorted.sort(Comparator.comparing(InterestRuleVersion::effectiveFrom));
+
+        Map<PlanType, InterestRule> inForce = new EnumMap<>(PlanType.class);
+        List<YearMonth> periods = new ArrayList<>();
+        List<TimeDepositCalculator> compiled = new ArrayList<>();
+        int i = 0;
+        while (i < sorted.size()) {
+            YearMonth period = sorted.get(i).effectiveFrom();
+            Map<PlanType, InterestRule> changes = new EnumMap<>(PlanType.class);
+            for (; i < sorted.size() && sorted.get(i).effectiveFrom().equals(period); i++) {
+                InterestRule rule = sorted.get(i).rule();
+                if (changes.put(rule.planType(), rule) != null) {
+                    throw new IllegalArgumentException(
+                            "More than one " + rule.planType() + " rule takes effect in " + period);
+                }
+            }
+            inForce.putAll(changes);
+            periods.add(period);
+            compiled.add(compile(inForce.values(), backend));
+        }
+
+        this.versions = List.copyOf(sorted);
+        this.effectivePeriods = periods.toArray(YearMonth[]::new);
+        this.calculators = compiled.toArray(TimeDepositCalculator[]::new);
+        this.beforeFirstPeriod = NO_INTEREST;
+    }
+
+    private InterestRuleBook(TimeDepositCalculator calculator) {
+        this.versions = List.of();
+        this.effectivePeriods = new YearMonth[0];
+        this.calculators = new TimeDepositCalculator[0];
+        this.beforeFirstPeriod = calculator;
+    }
+
+    /**
+     * Create a book that applies the same calculator to every period, e.g. the
+     * built-in strategies when no rule versions are stored.
+     *
+     * @param calculator the calculator for all periods
+     * @return the book
+     */
+    public static InterestRuleBook fixed(TimeDepositCalculator calculator) {
+        return new InterestRuleBook(calculator);
+    }
+
+    private static TimeDepositCalculator compile(Iterable<InterestRule> rules, CalculationBackend backend) {
+        List<InterestCalculationStrategy> strategies = new ArrayList<>();
+        for (InterestRule rule : rules) {
+            strategies.add(new RuleBasedInterestStrategy(rule));
+        }
+        return new TimeDepositCalculator(new InterestStrategyFactory(strategies), backend);
+    }
+
+    /**
+     * Get the calculator holding the rules in force for an accrual period.
+     *
+     * @param period the accrual period
+     * @return the calculator of the latest version period not after {@code period}
+     */
+    public TimeDepositCalculator calculatorFor(YearMonth period) {
+        int index = Arrays.binarySearch(effectivePeriods, period);
+        int effective = index >= 0 ? index : -index - 2;
+        return effective < 0 ? beforeFirstPeriod : calculators[effective];
+    }
+
+    /**
+     * @return the rule versions the book was compiled from, by effective period;
+     *         empty for a {@link #fixed(TimeDepositCalculator)} book
+     */
+    public List<InterestRuleVersion> versions() {
+        return versions;
+    }
+}
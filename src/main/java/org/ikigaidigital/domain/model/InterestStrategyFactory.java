@@ -1,7 +1,9 @@
 package org.ikigaidigital.domain.model;
 
 import org.ikigaidigital.domain.model.strategy.InterestCalculationStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,12 +11,21 @@ import java.util.Optional;
  * Factory for resolving the appropriate interest calculation strategy
  * based on the plan type.
  *
+ * The strategy of every plan type is resolved once, at construction, into a
+ * table indexed by {@link PlanType#ordinal()}, so that looking up a deposit's
+ * strategy is a single array access rather than a scan of the strategy list.
+ * When several strategies support a plan type, the first one wins, and only its
+ * rule is reported by {@link #getRules()}.
+ *
  * This is a pure domain class with no framework dependencies.
  * Strategy implementations are injected via constructor.
  */
 public class InterestStrategyFactory {
 
-    private final List<InterestCalculationStrategy> strategies;
+    private static final PlanType[] PLAN_TYPES = PlanType.values();
+
+    private final InterestCalculationStrategy[] strategyByOrdinal;
+    private final List<InterestRule> rules;
 
     /**
      * Create a factory with the available strategies.
@@ -22,7 +33,19 @@ public class InterestStrategyFactory {
      * @param strategies list of all available interest calculation strategies
      */
     public InterestStrategyFactory(List<InterestCalculationStrategy> strategies) {
-        this.strategies = strategies;
+        this.strategyByOrdinal = new InterestCalculationStrategy[PLAN_TYPES.length];
+        List<InterestRule> winningRules = new ArrayList<>();
+        for (PlanType planType : PLAN_TYPES) {
+            InterestCalculationStrategy winner = strategies.stream()
+                    .filter(strategy -> strategy.supports(planType))
+                    .findFirst()
+                    .orElse(null);
+            strategyByOrdinal[planType.ordinal()] = winner;
+            if (winner != null) {
+                winningRules.add(winner.rule());
+            }
+        }
+        this.rules = List.copyOf(winningRules);
     }
 
     /**
@@ -32,12 +55,29 @@ public class InterestStrategyFactory {
      * @return Optional containing the strategy if found, empty otherwise
      */
     public Optional<InterestCalculationStrategy> getStrategy(PlanType planType) {
-        if (planType == null) {
-            return Optional.empty();
-        }
-        return strategies.stream()
-                .filter(strategy -> strategy.supports(planType))
-                .findFirst();
+        return Optional.ofNullable(strategyFor(planType));
+    }
+
+    /**
+     * Get the strategy for a plan type from the dispatch table, without wrapping it.
+     * Meant for per-deposit loops.
+     *
+     * @param planType the plan type to find a strategy for
+     * @return the strategy, or null if the plan type is null or has no strategy
+     */
+    public InterestCalculationStrategy strategyFor(PlanType planType) {
+        return planType == null ? null : strategyByOrdinal[planType.ordinal()];
+    }
+
+    /**
+     * Get the rules of the strategies in the dispatch table, the ones deposits are credited by.
+     * Plan types without a strategy earn no interest and therefore have no rule; strategies
+     * shadowed by an earlier one for the same plan type are left out.
+     *
+     * @return the interest rules, one per plan type with a strategy, in plan type order
+     */
+    public List<InterestRule> getRules() {
+        return rules;
     }
 
     /**
@@ -48,9 +88,8 @@ public class InterestStrategyFactory {
      * @return the calculated interest amount
      */
     public double calculateInterest(TimeDeposit deposit) {
-        return getStrategy(deposit.getPlanType())
-                .map(strategy -> strategy.calculateInterest(deposit))
-                .orElse(0.0);
+        InterestCalculationStrategy strategy = strategyFor(deposit.getPlanType());
+        return strategy == null ? 0.0 : strategy.calculateInterest(deposit);
     }
 }
 
@@ -0,0 +1,108 @@
+package org.ikigaidigital.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money arithmetic on amounts held as {@code long} cents.
+ *
+ * Balances are stored and calculated in whole cents so that the interest hot path
+ * neither allocates nor accumulates floating-point error. Rounding is exact
+ * HALF_UP (ties away from zero), the same as {@link RoundingMode#HALF_UP} on the
+ * decimal value and PostgreSQL's ROUND on numeric.
+ *
+ * Conversions from and to {@code double} and {@link BigDecimal} are meant for the
+ * boundaries (API, persistence), not for calculation.
+ *
+ * This is a pure domain class with no framework dependencies.
+ */
+public final class Money {
+
+    /**
+     * Number of decimal places of an amount.
+     */
+    public static final int SCALE = 2;
+
+    /**
+     * Number of cents per currency unit.
+     */
+    public static final long CENTS_PER_UNIT = 100;
+
+    private Money() {
+    }
+
+    /**
+     * Divide and round the quotient HALF_UP, without allocating.
+     *
+     * @param dividend the dividend
+     * @param divisor  the divisor, positive
+     * @return {@code dividend / divisor} rounded HALF_UP
+     */
+    public static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        // |remainder| >= divisor / 2, written so that it cannot overflow
+        if (Math.abs(remainder) >= divisor - Math.abs(remainder)) {
+            return dividend < 0 ? quotient - 1 : quotient + 1;
+        }
+        return quotient;
+    }
+
+    /**
+     * Multiply an amount by {@code numerator / denominator} and round HALF_UP to cents.
+     * Falls back to decimal arithmetic only when the exact product does not fit in a long.
+     *
+     * @param cents       the amount in cents
+     * @param numerator   the factor's numerator
+     * @param denominator the factor's denominator, positive
+     * @return the product in cents, rounded HALF_UP
+     */
+    public static long multiplyHalfUp(long cents, long numerator, long denominator) {
+        long high = Math.multiplyHigh(cents, numerator);
+        long low = cents * numerator;
+        if (high == (low >> 63)) {
+            return divideHalfUp(low, denominator);
+        }
+        return BigDecimal.valueOf(cents)
+                .multiply(BigDecimal.valueOf(numerator))
+                .divide(BigDecimal.valueOf(denominator), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * Convert an amount to cents, rounding HALF_UP on its decimal value.
+     *
+     * @param amount the amount
+     * @return the amount in cents
+     */
+    public static long toCents(double amount) {
+        double cents = amount * CENTS_PER_UNIT;
+        return cents >= 0 ? (long) (cents + 0.5) : -(long) (-cents + 0.5);
+    }
+
+    /**
+     * Convert a decimal amount to cents, rounding HALF_UP.
+     *
+     * @param amount the amount
+     * @return the amount in cents
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * @param cents an amount in cents
+     * @return the amount in currency units, as the nearest double
+     */
+    public static double toUnits(long cents) {
+        return (double) cents / CENTS_PER_UNIT;
+    }
+
+    /**
+     * @param cents an amount in cents
+     * @return the amount as a decimal with two decimal places
+     */
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+}
@@ -1,22 +1,52 @@
 package org.ikigaidigital.domain.model;
 
+import java.util.List;
+
 /**
  * Domain model representing a time deposit account.
  * This is a pure POJO with no framework dependencies.
+ *
+ * The balance is held in whole cents (see {@link Money}); the {@code Double}
+ * accessors convert at the boundary and round HALF_UP to cents.
+ *
+ * The deposit remembers whether its balance changed since it was loaded
+ * or last persisted, so that write-back only touches deposits that changed.
+ *
+ * Withdrawals are only loaded by the read paths that return them; accrual reads
+ * leave them empty.
  */
 public class TimeDeposit {
     private int id;
     private PlanType planType;
-    private Double balance;
+    private long balanceCents;
     private int days;
+    private boolean balanceChanged;
+    private List<Withdrawal> withdrawals = List.of();
 
     public TimeDeposit(int id, PlanType planType, Double balance, int days) {
+        this(id, planType, Money.toCents(balance), days);
+    }
+
+    private TimeDeposit(int id, PlanType planType, long balanceCents, int days) {
         this.id = id;
         this.planType = planType;
-        this.balance = balance;
+        this.balanceCents = balanceCents;
         this.days = days;
     }
 
+    /**
+     * Create a time deposit from a balance in cents.
+     *
+     * @param id           the deposit id
+     * @param planType     the plan type
+     * @param balanceCents the balance in cents
+     * @param days         the age of the deposit in days
+     * @return the time deposit
+     */
+    public static TimeDeposit ofCents(int id, PlanType planType, long balanceCents, int days) {
+        return new TimeDeposit(id, planType, balanceCents, days);
+    }
+
     public int getId() { return id; }
 
     public PlanType getPlanType() {
@@ -24,7 +54,14 @@ public class TimeDeposit {
     }
 
     public Double getBalance() {
-        return balance;
+        return Money.toUnits(balanceCents);
+    }
+
+    /**
+     * @return the balance in cents
+     */
+    public long getBalanceCents() {
+        return balanceCents;
     }
 
     public int getDays() {
@@ -32,6 +69,44 @@ public class TimeDeposit {
     }
 
     public void setBalance(Double balance) {
-        this.balance = balance;
+        setBalanceCents(Money.toCents(balance));
+    }
+
+    /**
+     * @param balanceCents the new balance in cents
+     */
+    public void setBalanceCents(long balanceCents) {
+        if (this.balanceCents != balanceCents) {
+            this.balanceCents = balanceCents;
+            this.balanceChanged = true;
+        }
+    }
+
+    /**
+     * @return the withdrawals of the deposit, oldest first; empty if they were not loaded
+     */
+    public List<Withdrawal> getWithdrawals() {
+        return withdrawals;
+    }
+
+    /**
+     * @param withdrawals the withdrawals of the deposit, oldest first
+     */
+    public void setWithdrawals(List<Withdrawal> withdrawals) {
+        this.withdrawals = List.copyOf(withdrawals);
+    }
+
+    /**
+     * @return true if the balance changed since the deposit was loaded or last persisted
+     */
+    public boolean isBalanceChanged() {
+        return balanceChanged;
+    }
+
+    /**
+     * Mark the current balance as persisted.
+     */
+    public void markPersisted() {
+        this.balanceChanged = false;
     }
 }
@@ -1,11 +1,13 @@
 package org.ikigaidigital.domain.model;
 
 import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestCalculationStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
 import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
 import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -18,6 +20,16 @@ import java.util.List;
  * - Premium plan: 5% annual rate, only after 45 days
  * - Basic plan: 1% annual rate
  *
+ * Balances are calculated column-wise on a {@link DepositBatch}; the list-based
+ * API copies deposits into a batch and back. The batch is credited by the plans'
+ * strategies or, with {@link CalculationBackend#VECTOR}, by a SIMD kernel that
+ * evaluates the strategies' {@link InterestRule}s.
+ *
+ * By default interest is calculated on the current balance. A calculator created by
+ * {@link #withAverageDailyBalance(WithdrawalIndex, YearMonth)} calculates it on the
+ * deposit's average daily balance over the accrual period instead
+ * ({@link InterestBasis#AVERAGE_DAILY_BALANCE}), and credits it to the current balance.
+ *
  * This class uses the Strategy pattern to delegate interest calculations
  * to plan-specific strategy implementations, enabling:
  * - Easy addition of new plan types without modifying this class
@@ -29,7 +41,18 @@ import java.util.List;
  */
 public class TimeDepositCalculator {
 
+    private static final PlanType[] PLAN_TYPES = PlanType.values();
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
     private final InterestStrategyFactory strategyFactory;
+    private final VectorInterestKernel vectorKernel;
+    private final CalculationBackend requestedBackend;
+
+    // Set for the average daily balance basis only
+    private final WithdrawalIndex withdrawals;
+    private final YearMonth period;
+    private final long firstDay;
+    private final long lastDay;
 
     /**
      * Create a TimeDepositCalculator with the given strategy factory.
@@ -37,7 +60,55 @@ public class TimeDepositCalculator {
      * @param strategyFactory factory for resolving interest calculation strategies
      */
     public TimeDepositCalculator(InterestStrategyFactory strategyFactory) {
+        this(strategyFactory, CalculationBackend.SCALAR);
+    }
+
+    /**
+     * Create a TimeDepositCalculator with the given strategy factory and backend.
+     *
+     * @param strategyFactory factory for resolving interest calculation strategies
+     * @param backend         how batches are credited
+     * @throws IllegalStateException if the backend is {@link CalculationBackend#VECTOR}
+     *                               and the Vector API module is not available
+     */
+    public TimeDepositCalculator(InterestStrategyFactory strategyFactory, CalculationBackend backend) {
+        this(strategyFactory, backend, null, null);
+    }
+
+    private TimeDepositCalculator(InterestStrategyFactory strategyFactory, CalculationBackend backend,
+                                  WithdrawalIndex withdrawals, YearMonth period) {
         this.strategyFactory = strategyFactory;
+        this.requestedBackend = backend;
+        this.withdrawals = withdrawals;
+        this.period = period;
+        this.firstDay = period == null ? 0 : period.atDay(1).toEpochDay();
+        this.lastDay = period == null ? 0 : period.atEndOfMonth().toEpochDay();
+        InterestRule[] ruleByOrdinal = new InterestRule[PLAN_TYPES.length];
+        for (PlanType planType : PLAN_TYPES) {
+            InterestCalculationStrategy strategy = strategyFactory.strategyFor(planType);
+            ruleByOrdinal[planType.ordinal()] = strategy == null ? null : strategy.rule();
+        }
+        this.vectorKernel = backend == CalculationBackend.VECTOR ? vectorKernel(ruleByOrdinal) : null;
+    }
+
+    /**
+     * Load the SIMD kernel, failing when the JVM cannot run it. The kernel class is
+     * only touched once the module is known to be resolved.
+     */
+    private static VectorInterestKernel vectorKernel(InterestRule[] ruleByOrdinal) {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            throw vectorUnavailable(null);
+        }
+        try {
+            return new VectorInterestKernel(ruleByOrdinal);
+        } catch (LinkageError e) {
+            throw vectorUnavailable(e);
+        }
+    }
+
+    private static IllegalStateException vectorUnavailable(Throwable cause) {
+        return new IllegalStateException("Calculation backend " + CalculationBackend.VECTOR
+                + " is not available; start the JVM with --add-modules " + VECTOR_MODULE, cause);
     }
 
     /**
@@ -52,19 +123,176 @@ public class TimeDepositCalculator {
         )));
     }
 
+    /**
+     * @return the backend that credits batches
+     */
+    public CalculationBackend getBackend() {
+        return requestedBackend;
+    }
+
+    /**
+     * Create a calculator with the same strategies and another backend, e.g. to
+     * compare the backends on the same deposits.
+     *
+     * @param backend how the new calculator credits batches
+     * @return a new calculator
+     */
+    public TimeDepositCalculator withBackend(CalculationBackend backend) {
+        return new TimeDepositCalculator(strategyFactory, backend, withdrawals, period);
+    }
+
+    /**
+     * Create a calculator with the same strategies and backend that calculates interest
+     * on the average daily balance of each deposit over an accrual period.
+     *
+     * @param withdrawals the withdrawals made during or after the period
+     * @param period      the accrual period
+     * @return a new calculator
+     */
+    public TimeDepositCalculator withAverageDailyBalance(WithdrawalIndex withdrawals, YearMonth period) {
+        if (withdrawals == null || period == null) {
+            throw new IllegalArgumentException("Withdrawals and period must not be null");
+        }
+        return new TimeDepositCalculator(strategyFactory, requestedBackend, withdrawals, period);
+    }
+
+    /**
+     * @return the balance interest is calculated on
+     */
+    public InterestBasis getInterestBasis() {
+        return withdrawals == null ? InterestBasis.CLOSING_BALANCE : InterestBasis.AVERAGE_DAILY_BALANCE;
+    }
+
+    /**
+     * Get the interest rules this calculator applies, so that the same
+     * rules can be evaluated by other engines (e.g. the database).
+     *
+     * @return the interest rules of all configured strategies
+     */
+    public List<InterestRule> getInterestRules() {
+        return strategyFactory.getRules();
+    }
+
+    /**
+     * Create a projector that applies this calculator's rules over several periods
+     * in constant time per deposit.
+     *
+     * @return a projector ageing deposits by {@value BalanceProjector#DEFAULT_DAYS_PER_PERIOD} days per period
+     */
+    public BalanceProjector projector() {
+        return new BalanceProjector(getInterestRules());
+    }
+
     /**
      * Updates the balance of all time deposits by applying monthly interest.
+     * The deposits are copied into a {@link DepositBatch}, credited by
+     * {@link #accrue(DepositBatch)} and the interest is added back to each deposit.
      *
      * @param xs the list of time deposits to update
      */
     public void updateBalance(List<TimeDeposit> xs) {
-        for (TimeDeposit deposit : xs) {
-            double interest = strategyFactory.calculateInterest(deposit);
-            double roundedInterest = new BigDecimal(interest)
-                    .setScale(2, RoundingMode.HALF_UP)
-                    .doubleValue();
-            deposit.setBalance(deposit.getBalance() + roundedInterest);
+        DepositBatch batch = DepositBatch.of(xs);
+        accrue(batch);
+
+        long[] after = batch.balanceCents();
+        for (int row = 0; row < xs.size(); row++) {
+            xs.get(row).setBalanceCents(after[row]);
+        }
+    }
+
+    /**
+     * Applies one month of interest to every row of a batch, in place.
+     *
+     * Rows are grouped by plan type with a counting sort, then each plan's strategy
+     * credits its rows in a single {@link InterestCalculationStrategy#accrue} call.
+     * Rows whose plan type has no strategy are left unchanged. With the vector backend
+     * the rows are instead credited in place, in batch order, by the strategies' rules.
+     *
+     * The grouping uses scratch space owned by the batch, so a call allocates nothing
+     * and a batch must not be accrued by several threads at once.
+     *
+     * On the average daily balance basis, each balance is first raised to its average
+     * over the period, credited, and then lowered by the same amount again, so that only
+     * the interest on the average reaches the current balance.
+     *
+     * @param batch the deposits to credit
+     */
+    public void accrue(DepositBatch batch) {
+        if (withdrawals == null) {
+            accrueBalances(batch);
+            return;
+        }
+        int size = batch.size();
+        int[] ids = batch.ids();
+        long[] balanceCents = batch.balanceCents();
+        long[] raisedCents = batch.basisAdjustmentCents();
+        for (int row = 0; row < size; row++) {
+            long average = withdrawals.averageDailyBalanceCents(ids[row], balanceCents[row], firstDay, lastDay);
+            raisedCents[row] = average - balanceCents[row];
+            balanceCents[row] = average;
         }
+        accrueBalances(batch);
+        for (int row = 0; row < size; row++) {
+            balanceCents[row] -= raisedCents[row];
+        }
+    }
+
+    private void accrueBalances(DepositBatch batch) {
+        if (vectorKernel != null) {
+            vectorKernel.accrue(batch);
+            return;
+        }
+        int size = batch.size();
+        byte[] planOrdinals = batch.planOrdinals();
+
+        // Slot 0 collects rows without a plan type, slot ordinal + 1 the rows of each plan
+        int[] starts = batch.planStarts();
+        Arrays.fill(starts, 0);
+        for (int row = 0; row < size; row++) {
+            starts[planOrdinals[row] + 2]++;
+        }
+        for (int slot = 1; slot < starts.length; slot++) {
+            starts[slot] += starts[slot - 1];
+        }
+        int[] rows = batch.rowOrder();
+        int[] next = batch.planCursors();
+        System.arraycopy(starts, 0, next, 0, starts.length);
+        for (int row = 0; row < size; row++) {
+            rows[next[planOrdinals[row] + 1]++] = row;
+        }
+
+        for (PlanType planType : PLAN_TYPES) {
+            InterestCalculationStrategy strategy = strategyFactory.strategyFor(planType);
+            int from = starts[planType.ordinal() + 1];
+            int to = starts[planType.ordinal() + 2];
+            if (strategy != null && from < to) {
+                strategy.accrue(batch, rows, from, to);
+            }
+        }
+    }
+
+    /**
+     * Calculates the interest {@link #updateBalance(List)} would credit to a deposit,
+     * without changing its balance.
+     *
+     * @param deposit the time deposit
+     * @return the monthly interest, rounded HALF_UP to cents
+     */
+    public double calculateMonthlyInterest(TimeDeposit deposit) {
+        return Money.toUnits(calculateMonthlyInterestCents(deposit));
+    }
+
+    /**
+     * Calculates the interest {@link #updateBalance(List)} would credit to a deposit,
+     * in cents, without changing its balance.
+     *
+     * @param deposit the time deposit
+     * @return the monthly interest in cents
+     */
+    public long calculateMonthlyInterestCents(TimeDeposit deposit) {
+        DepositBatch batch = DepositBatch.of(List.of(deposit));
+        accrue(batch);
+        return batch.balanceCents()[0] - deposit.getBalanceCents();
     }
 }
 
@@ -0,0 +1,144 @@
+package org.ikigaidigital.domain.model;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+
+/**
+ * SIMD implementation of one month of interest on a {@link DepositBatch}, built on the
+ * incubating {@code jdk.incubator.vector} module.
+ *
+ * Rows are processed in their batch order, one vector of lanes at a time. Each plan's
+ * eligibility window becomes a lane mask ({@code plan == p && days > min && days < max})
+ * that selects the plan's fixed-point rate, so a single multiply credits every plan.
+ * The quotient by {@code 12 * RATE_SCALE} is estimated in double lanes and then
+ * corrected with the exact integer remainder, which keeps the HALF_UP rounding
+ * identical to {@link InterestRule#monthlyInterestCents(long, long)}.
+ *
+ * Tail rows, and vectors holding a balance large enough to overflow the product,
+ * are credited by the scalar formula.
+ *
+ * Only load this class after checking that the module is resolved; see
+ * {@link TimeDepositCalculator}.
+ */
+final class VectorInterestKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(Math.max(64, LONGS.length() * Integer.SIZE)));
+    private static final VectorSpecies<Byte> BYTES =
+            VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(64, LONGS.length() * Byte.SIZE)));
+    // Rows per step: every species must be able to load this many rows
+    private static final int STEP = Math.max(LONGS.length(), Math.max(INTS.length(), BYTES.length()));
+
+    private static final long DIVISOR = InterestRule.MONTHS_PER_YEAR * InterestRule.RATE_SCALE;
+
+    // Adding 1.5 * 2^52 rounds a double below 2^51 in magnitude to an integer held in the low
+    // mantissa bits, so the integer can be read by reinterpreting the lanes instead of a
+    // double-to-long conversion, which C2 does not vectorize on JDK 17
+    private static final double ROUNDING_BIAS = 0x1.8p52;
+    private static final long ROUNDING_BIAS_BITS = Double.doubleToRawLongBits(ROUNDING_BIAS);
+
+    private final InterestRule[] ruleByOrdinal;
+    private final long[] rateByOrdinal;
+    private final long maxBalanceMagnitude;
+
+    /**
+     * @param ruleByOrdinal the rule of each plan type, indexed by ordinal; null for plans without interest
+     */
+    VectorInterestKernel(InterestRule[] ruleByOrdinal) {
+        this.ruleByOrdinal = ruleByOrdinal.clone();
+        this.rateByOrdinal = new long[ruleByOrdinal.length];
+        long maxRate = 1;
+        for (int ordinal = 0; ordinal < ruleByOrdinal.length; ordinal++) {
+            if (ruleByOrdinal[ordinal] != null) {
+                rateByOrdinal[ordinal] = ruleByOrdinal[ordinal].annualRatePerMillion();
+                maxRate = Math.max(maxRate, Math.abs(rateByOrdinal[ordinal]));
+            }
+        }
+        this.maxBalanceMagnitude = Long.MAX_VALUE / maxRate;
+    }
+
+    /**
+     * Apply one month of interest to every row of a batch, in place.
+     *
+     * @param batch the deposits to credit
+     */
+    void accrue(DepositBatch batch) {
+        int size = batch.size();
+        long[] balanceCents = batch.balanceCents();
+        int[] days = batch.days();
+        byte[] planOrdinals = batch.planOrdinals();
+
+        int row = 0;
+        for (; row + STEP <= size; row += LONGS.length()) {
+            LongVector balance = LongVector.fromArray(LONGS, balanceCents, row);
+            if (balance.compare(VectorOperators.GT, maxBalanceMagnitude)
+                    .or(balance.compare(VectorOperators.LT, -maxBalanceMagnitude))
+                    .anyTrue()) {
+                accrueScalar(batch, row, row + LONGS.length());
+                continue;
+            }
+            LongVector age = (LongVector) IntVector.fromArray(INTS, days, row)
+                    .convertShape(VectorOperators.I2L, LONGS, 0);
+            LongVector plan = (LongVector) ByteVector.fromArray(BYTES, planOrdinals, row)
+                    .convertShape(VectorOperators.B2L, LONGS, 0);
+
+            LongVector rate = LongVector.zero(LONGS);
+            for (int ordinal = 0; ordinal < ruleByOrdinal.length; ordinal++) {
+                InterestRule rule = ruleByOrdinal[ordinal];
+                if (rule == null) {
+                    continue;
+                }
+                VectorMask<Long> eligible = plan.compare(VectorOperators.EQ, ordinal)
+                        .and(age.compare(VectorOperators.GT, rule.minimumDaysExclusive()))
+                        .and(age.compare(VectorOperators.LT, rule.maximumDaysExclusive()));
+                rate = rate.blend(rateByOrdinal[ordinal], eligible);
+            }
+
+            LongVector product = balance.mul(rate);
+            // |product / DIVISOR| < 2^63 / 12e6 < 2^51, and the estimate is off by far less than
+            // half a unit, so rounding it to the nearest integer yields the floor or the floor + 1
+            DoubleVector estimate = (DoubleVector) product.convert(VectorOperators.L2D, 0);
+            LongVector quotient = estimate.div(DIVISOR).add(ROUNDING_BIAS)
+                    .reinterpretAsLongs()
+                    .sub(ROUNDING_BIAS_BITS);
+            LongVector remainder = product.sub(quotient.mul(DIVISOR));
+            VectorMask<Long> below = remainder.compare(VectorOperators.LT, 0);
+            quotient = quotient.sub(1, below);
+            remainder = remainder.add(DIVISOR, below);
+            VectorMask<Long> above = remainder.compare(VectorOperators.GE, DIVISOR);
+            quotient = quotient.add(1, above);
+            remainder = remainder.sub(DIVISOR, above);
+
+            // quotient is now the floor; round half away from zero
+            LongVector twiceRemainder = remainder.add(remainder);
+            VectorMask<Long> roundUp = twiceRemainder.compare(VectorOperators.GT, DIVISOR)
+                    .or(twiceRemainder.compare(VectorOperators.EQ, DIVISOR)
+                            .and(product.compare(VectorOperators.GE, 0)));
+            quotient = quotient.add(1, roundUp);
+
+            balance.add(quotient).intoArray(balanceCents, row);
+        }
+        accrueScalar(batch, row, size);
+    }
+
+    private void accrueScalar(DepositBatch batch, int from, int to) {
+        long[] balanceCents = batch.balanceCents();
+        int[] days = batch.days();
+        byte[] planOrdinals = batch.planOrdinals();
+        for (int row = from; row < to; row++) {
+            byte ordinal = planOrdinals[row];
+            InterestRule rule = ordinal == DepositBatch.NO_PLAN ? null : ruleByOrdinal[ordinal];
+            if (rule != null && rule.appliesTo(days[row])) {
+                balanceCents[row] += InterestRule.monthlyInterestCents(balanceCents[row], rateByOrdinal[ordinal]);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.ikigaidigital.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Domain model of a withdrawal from a time deposit.
+ * This is a pure value with no framework dependencies.
+ *
+ * @param id          the withdrawal id
+ * @param amountCents the amount withdrawn, in cents
+ * @param date        the day of the withdrawal
+ */
+public record Withdrawal(int id, long amountCents, LocalDate date) {
+
+    public Withdrawal {
+        if (date == null) {
+            throw new IllegalArgumentException("Withdrawal date must not be null");
+        }
+    }
+}
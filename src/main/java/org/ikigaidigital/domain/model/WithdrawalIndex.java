@@ -0,0 +1,164 @@
+package org.ikigaidigital.domain.model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Immutable prefix-sum index of withdrawals, for average daily balances.
+ *
+ * A withdrawal reduces the balance from its date on, so the balance of a deposit on
+ * day {@code d} is its current balance plus every withdrawal dated after {@code d}.
+ * Summed over the days {@code first..last} of a period, a withdrawal on day {@code t}
+ * counts {@code t - first} times when it lies inside the period and once per day when
+ * it lies after it. Both terms are differences of two running totals, one of the amounts
+ * and one of amount times day, so the average balance of a deposit takes two binary
+ * searches instead of a scan of its withdrawals.
+ *
+ * The withdrawals are stored in compressed rows: the entries of each deposit are
+ * contiguous and ordered by date, and {@link #offsets} delimits them.
+ *
+ * This is a pure domain class with no framework dependencies.
+ */
+public final class WithdrawalIndex {
+
+    /**
+     * An index without withdrawals; every average equals the current balance.
+     */
+    public static final WithdrawalIndex EMPTY = new Builder().build();
+
+    private final int[] depositIds;
+    private final int[] offsets;
+    private final int[] epochDays;
+    // Exclusive running totals: entry i holds the sum over entries 0..i-1
+    private final long[] amountTotals;
+    private final long[] dayAmountTotals;
+
+    private WithdrawalIndex(int[] depositIds, int[] offsets, int[] epochDays,
+                            long[] amountTotals, long[] dayAmountTotals) {
+        this.depositIds = depositIds;
+        this.offsets = offsets;
+        this.epochDays = epochDays;
+        this.amountTotals = amountTotals;
+        this.dayAmountTotals = dayAmountTotals;
+    }
+
+    /**
+     * @return the number of distinct (deposit, date) entries
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * Get the average daily balance of a deposit over a period.
+     *
+     * @param depositId    the deposit id
+     * @param balanceCents the current balance in cents, after all indexed withdrawals
+     * @param firstDay     the first day of the period, as epoch day
+     * @param lastDay      the last day of the period, as epoch day, not before {@code firstDay}
+     * @return the average of the daily balances, in cents, rounded HALF_UP
+     */
+    public long averageDailyBalanceCents(int depositId, long balanceCents, long firstDay, long lastDay) {
+        int deposit = Arrays.binarySearch(depositIds, depositId);
+        if (deposit < 0) {
+            return balanceCents;
+        }
+        int from = offsets[deposit];
+        int to = offsets[deposit + 1];
+        int afterFirst = upperBound(from, to, firstDay);
+        int afterLast = upperBound(afterFirst, to, lastDay);
+        long periodDays = lastDay - firstDay + 1;
+
+        // Withdrawals after the period raised every day of it, those inside it the days before them
+        long raisedAllPeriod = (amountTotals[to] - amountTotals[afterLast]) * periodDays;
+        long raisedInPeriod = (dayAmountTotals[afterLast] - dayAmountTotals[afterFirst])
+                - (amountTotals[afterLast] - amountTotals[afterFirst]) * firstDay;
+        return balanceCents + Money.divideHalfUp(raisedAllPeriod + raisedInPeriod, periodDays);
+    }
+
+    /**
+     * Index of the first entry in {@code from..to} dated after the given day.
+     */
+    private int upperBound(int from, int to, long day) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochDays[middle] <= day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Collects withdrawals ordered by deposit id, then date. Withdrawals of the same
+     * deposit and date are summed.
+     */
+    public static final class Builder {
+
+        private int[] depositIds = new int[16];
+        private int[] offsets = new int[17];
+        private int[] epochDays = new int[16];
+        private long[] amounts = new long[16];
+        private int depositCount;
+        private int size;
+
+        /**
+         * Append a withdrawal.
+         *
+         * @param depositId   the id of the deposit withdrawn from
+         * @param date        the withdrawal date
+         * @param amountCents the amount in cents
+         * @return this builder
+         */
+        public Builder add(int depositId, LocalDate date, long amountCents) {
+            int epochDay = Math.toIntExact(date.toEpochDay());
+            boolean sameDeposit = depositCount > 0 && depositIds[depositCount - 1] == depositId;
+            if (depositCount > 0 && (depositIds[depositCount - 1] > depositId
+                    || sameDeposit && epochDays[size - 1] > epochDay)) {
+                throw new IllegalArgumentException("Withdrawals must be ordered by deposit and date; got deposit "
+                        + depositId + " on " + date + " after deposit " + depositIds[depositCount - 1]);
+            }
+            if (sameDeposit && epochDays[size - 1] == epochDay) {
+                amounts[size - 1] += amountCents;
+                return this;
+            }
+            if (!sameDeposit) {
+                if (depositCount == depositIds.length) {
+                    depositIds = Arrays.copyOf(depositIds, depositCount * 2);
+                    offsets = Arrays.copyOf(offsets, depositCount * 2 + 1);
+                }
+                depositIds[depositCount] = depositId;
+                offsets[depositCount] = size;
+                depositCount++;
+            }
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+                amounts = Arrays.copyOf(amounts, size * 2);
+            }
+            epochDays[size] = epochDay;
+            amounts[size] = amountCents;
+            size++;
+            return this;
+        }
+
+        /**
+         * @return the index of the withdrawals added so far
+         */
+        public WithdrawalIndex build() {
+            int[] depositOffsets = Arrays.copyOf(offsets, depositCount + 1);
+            depositOffsets[depositCount] = size;
+            long[] amountTotals = new long[size + 1];
+            long[] dayAmountTotals = new long[size + 1];
+            for (int i = 0; i < size; i++) {
+                amountTotals[i + 1] = amountTotals[i] + amounts[i];
+                dayAmountTotals[i + 1] = dayAmountTotals[i] + amounts[i] * epochDays[i];
+            }
+            return new WithdrawalIndex(Arrays.copyOf(depositIds, depositCount), depositOffsets,
+                    Arrays.copyOf(epochDays, size), amountTotals, dayAmountTotals);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.ikigaidigital.domain.model.strategy;
 
+import org.ikigaidigital.domain.model.DepositBatch;
 import org.ikigaidigital.domain.model.PlanType;
 import org.ikigaidigital.domain.model.TimeDeposit;
 
@@ -17,6 +18,10 @@ import org.ikigaidigital.domain.model.TimeDeposit;
  * - StudentInterestStrategy: 3% annual rate, 366-day cutoff
  * - PremiumInterestStrategy: 5% annual rate, 45-day minimum
  * - InternalInterestStrategy: 8.5% annual rate, no grace period, terminates at 300 days
+ *
+ * Besides the per-deposit {@link #calculateInterest(TimeDeposit)}, strategies credit
+ * whole slices of a columnar {@link DepositBatch} through {@link #accrue}, which
+ * is what {@code TimeDepositCalculator} uses.
  */
 public interface InterestCalculationStrategy {
 
@@ -35,5 +40,39 @@ public interface InterestCalculationStrategy {
      * @return true if this strategy handles the given plan type
      */
     boolean supports(PlanType planType);
-}
 
+    /**
+     * Describe the rule implemented by this strategy.
+     * Must agree with {@link #calculateInterest(TimeDeposit)} for every deposit age;
+     * the built-in strategies derive both from the rule through {@link RuleBasedInterestStrategy}.
+     *
+     * @return the plan's rate and eligibility window
+     */
+    InterestRule rule();
+
+    /**
+     * Credit one month of interest, in place, to the batch rows listed in
+     * {@code rows[from..to)}. Every listed row belongs to this strategy's plan type.
+     *
+     * The default implementation evaluates {@link #rule()}: eligible rows earn
+     * {@code balance * annualRate / 12}, rounded exactly HALF_UP to cents, using
+     * fixed-point arithmetic that allocates nothing per row.
+     *
+     * @param batch the deposits
+     * @param rows  row indices into the batch
+     * @param from  first position in {@code rows} to process (inclusive)
+     * @param to    last position in {@code rows} to process (exclusive)
+     */
+    default void accrue(DepositBatch batch, int[] rows, int from, int to) {
+        InterestRule rule = rule();
+        long annualRatePerMillion = rule.annualRatePerMillion();
+        long[] balanceCents = batch.balanceCents();
+        int[] days = batch.days();
+        for (int i = from; i < to; i++) {
+            int row = rows[i];
+            if (rule.appliesTo(days[row])) {
+                balanceCents[row] += InterestRule.monthlyInterestCents(balanceCents[row], annualRatePerMillion);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.ikigaidigital.domain.model.strategy;
+
+import org.ikigaidigital.domain.model.Money;
+import org.ikigaidigital.domain.model.PlanType;
+
+import java.math.BigDecimal;
+
+/**
+ * Declarative description of the monthly interest rule of a plan.
+ *
+ * A deposit earns {@code balance * annualRate / 12} for the month when its age in days
+ * lies strictly between {@code minimumDaysExclusive} and {@code maximumDaysExclusive}.
+ * Strategies expose their rule so that the same grace periods, caps and termination
+ * days can be evaluated outside the JVM (for example pushed down into SQL).
+ *
+ * @param planType             the plan type the rule applies to
+ * @param annualRate           annual interest rate, e.g. 0.01 for 1%
+ * @param minimumDaysExclusive interest accrues only when days is greater than this value
+ * @param maximumDaysExclusive interest accrues only when days is less than this value
+ */
+public record InterestRule(
+        PlanType planType,
+        double annualRate,
+        int minimumDaysExclusive,
+        int maximumDaysExclusive
+) {
+
+    /**
+     * Number of interest periods per year; interest is credited monthly.
+     */
+    public static final int MONTHS_PER_YEAR = 12;
+
+    /**
+     * Marker for a rule without a lower day bound.
+     */
+    public static final int NO_MINIMUM = Integer.MIN_VALUE;
+
+    /**
+     * Marker for a rule without an upper day bound.
+     */
+    public static final int NO_MAXIMUM = Integer.MAX_VALUE;
+
+    /**
+     * Fixed-point scale of {@link #annualRatePerMillion()}; rates are exact to six decimal places.
+     */
+    public static final long RATE_SCALE = 1_000_000;
+
+    public InterestRule {
+        if (planType == null) {
+            throw new IllegalArgumentException("Plan type must not be null");
+        }
+        if (minimumDaysExclusive >= maximumDaysExclusive) {
+            throw new IllegalArgumentException("Empty eligibility window for " + planType);
+        }
+        if (BigDecimal.valueOf(annualRate).scale() > 6) {
+            throw new IllegalArgumentException("Annual rate of " + planType + " has more than six decimal places: " + annualRate);
+        }
+    }
+
+    /**
+     * @return the annual rate as an exact fixed-point number, in millionths
+     */
+    public long annualRatePerMillion() {
+        // Exact: the constructor guarantees at most six decimal places
+        return Math.round(annualRate * RATE_SCALE);
+    }
+
+    /**
+     * @return true if the rule has a lower day bound
+     */
+    public boolean hasMinimum() {
+        return minimumDaysExclusive != NO_MINIMUM;
+    }
+
+    /**
+     * @return true if the rule has an upper day bound
+     */
+    public boolean hasMaximum() {
+        return maximumDaysExclusive != NO_MAXIMUM;
+    }
+
+    /**
+     * Check whether a deposit of the given age earns interest under this rule.
+     *
+     * @param days the age of the deposit in days
+     * @return true if interest accrues
+     */
+    public boolean appliesTo(int days) {
+        return (!hasMinimum() || days > minimumDaysExclusive)
+                && (!hasMaximum() || days < maximumDaysExclusive);
+    }
+
+    /**
+     * Calculate one month of interest on a balance held in cents.
+     * Does not check eligibility; see {@link #appliesTo(int)}.
+     *
+     * @param balanceCents the balance in cents
+     * @return {@code balance * annualRate / 12} in cents, rounded exactly HALF_UP
+     */
+    public long monthlyInterestCents(long balanceCents) {
+        return monthlyInterestCents(balanceCents, annualRatePerMillion());
+    }
+
+    /**
+     * Calculate one month of interest for a fixed-point rate without allocating.
+     * Hot loops resolve {@link #annualRatePerMillion()} once and call this per deposit.
+     *
+     * @param balanceCents         the balance in cents
+     * @param annualRatePerMillion the annual rate in millionths
+     * @return {@code balance * annualRate / 12} in cents, rounded exactly HALF_UP
+     */
+    public static long monthlyInterestCents(long balanceCents, long annualRatePerMillion) {
+        return Money.multiplyHalfUp(balanceCents, annualRatePerMillion, MONTHS_PER_YEAR * RATE_SCALE);
+    }
+
+    /**
+     * Count the periods that earn interest when a deposit of the given age is accrued
+     * {@code periods} times, ageing by {@code daysPerPeriod} after each period.
+     * Period {@code k} (from 0) is evaluated at {@code days + k * daysPerPeriod}, so the
+     * result equals the number of those ages for which {@link #appliesTo(int)} holds.
+     * The ages form an arithmetic sequence and the window is an interval, so the
+     * count is their intersection and is computed in constant time.
+     *
+     * @param days          the current age of the deposit in days
+     * @param periods       the number of periods accrued
+     * @param daysPerPeriod the days a deposit ages per period, positive
+     * @return the number of interest-earning periods, between 0 and {@code periods}
+     */
+    public int eligiblePeriods(int days, int periods, int daysPerPeriod) {
+        if (daysPerPeriod <= 0) {
+            throw new IllegalArgumentException("Days per period must be positive: " + daysPerPeriod);
+        }
+        if (periods <= 0) {
+            return 0;
+        }
+        // First period whose age exceeds the minimum: smallest k with days + k * d > min
+        long first = hasMinimum()
+                ? Math.max(0, Math.floorDiv((long) minimumDaysExclusive - days, daysPerPeriod) + 1)
+                : 0;
+        // Periods before the age reaches the maximum: number of k >= 0 with days + k * d < max
+        long end = hasMaximum()
+                ? Math.max(0, -Math.floorDiv((long) days - maximumDaysExclusive, daysPerPeriod))
+                : periods;
+        return (int) Math.max(0, Math.min(end, periods) - first);
+    }
+}
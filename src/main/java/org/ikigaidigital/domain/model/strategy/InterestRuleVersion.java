@@ -0,0 +1,24 @@
+package org.ikigaidigital.domain.model.strategy;
+
+import java.time.YearMonth;
+
+/**
+ * One effective-dated version of a plan's interest rule.
+ *
+ * The version applies to every accrual period from {@code effectiveFrom} until the
+ * next version of the same plan takes effect.
+ *
+ * @param rule          the plan's rate and eligibility window
+ * @param effectiveFrom the first accrual period the version applies to
+ */
+public record InterestRuleVersion(InterestRule rule, YearMonth effectiveFrom) {
+
+    public InterestRuleVersion {
+        if (rule == null) {
+            throw new IllegalArgumentException("Rule must not be null");
+        }
+        if (effectiveFrom == null) {
+            throw new IllegalArgumentException("Effective period must not be null");
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package org.ikigaidigital.domain.model.strategy;
 
 import org.ikigaidigital.domain.model.PlanType;
-import org.ikigaidigital.domain.model.TimeDeposit;
-
 
 /**
  * Interest calculation strategy for Internal plan deposits.
@@ -15,28 +13,15 @@ import org.ikigaidigital.domain.model.TimeDeposit;
  *
  * This is a pure domain class with no framework dependencies.
  */
-public class InternalInterestStrategy implements InterestCalculationStrategy {
+public class InternalInterestStrategy extends RuleBasedInterestStrategy {
 
     private static final PlanType PLAN_TYPE = PlanType.INTERNAL;
     private static final int TERMINATION_DAY = 300;
     private static final double ANNUAL_INTEREST_RATE = 0.085;
-    private static final int MONTHS_PER_YEAR = 12;
-
-    @Override
-    public double calculateInterest(TimeDeposit deposit) {
-        // Plan terminates at day 300 - balance becomes 0, so no interest
-        if (deposit.getDays() >= TERMINATION_DAY) {
-            return 0.0;
-        }
-
-        // Interest accrues from day 1 (no grace period)
-        return deposit.getBalance() * ANNUAL_INTEREST_RATE / MONTHS_PER_YEAR;
-    }
+    private static final InterestRule RULE = new InterestRule(
+            PLAN_TYPE, ANNUAL_INTEREST_RATE, InterestRule.NO_MINIMUM, TERMINATION_DAY);
 
-    @Override
-    public boolean supports(PlanType planType) {
-        return PLAN_TYPE == planType;
+    public InternalInterestStrategy() {
+        super(RULE);
     }
 }
-
-
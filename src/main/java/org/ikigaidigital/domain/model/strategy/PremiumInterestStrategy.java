@@ -1,8 +1,6 @@
 package org.ikigaidigital.domain.model.strategy;
 
 import org.ikigaidigital.domain.model.PlanType;
-import org.ikigaidigital.domain.model.TimeDeposit;
-
 
 /**
  * Interest calculation strategy for Premium plan deposits.
@@ -13,29 +11,16 @@ import org.ikigaidigital.domain.model.TimeDeposit;
  *
  * This is a pure domain class with no framework dependencies.
  */
-public class PremiumInterestStrategy implements InterestCalculationStrategy {
+public class PremiumInterestStrategy extends RuleBasedInterestStrategy {
 
     private static final PlanType PLAN_TYPE = PlanType.PREMIUM;
     private static final int GRACE_PERIOD_DAYS = 30;
     private static final int PREMIUM_MINIMUM_DAYS = 45;
     private static final double ANNUAL_INTEREST_RATE = 0.05;
-    private static final int MONTHS_PER_YEAR = 12;
-
-    @Override
-    public double calculateInterest(TimeDeposit deposit) {
-        // Premium must pass both: general 30-day grace period AND 45-day minimum
-        if (deposit.getDays() <= GRACE_PERIOD_DAYS) {
-            return 0.0;
-        }
-        if (deposit.getDays() <= PREMIUM_MINIMUM_DAYS) {
-            return 0.0;
-        }
-        return deposit.getBalance() * ANNUAL_INTEREST_RATE / MONTHS_PER_YEAR;
-    }
+    private static final InterestRule RULE = new InterestRule(
+            PLAN_TYPE, ANNUAL_INTEREST_RATE, Math.max(GRACE_PERIOD_DAYS, PREMIUM_MINIMUM_DAYS), InterestRule.NO_MAXIMUM);
 
-    @Override
-    public boolean supports(PlanType planType) {
-        return PLAN_TYPE == planType;
+    public PremiumInterestStrategy() {
+        super(RULE);
     }
 }
-
@@ -0,0 +1,49 @@
+package org.ikigaidigital.domain.model.strategy;
+
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+
+/**
+ * Interest calculation strategy defined entirely by an {@link InterestRule}.
+ *
+ * Used for rules that are maintained as data (see
+ * {@link org.ikigaidigital.domain.model.InterestRuleBook}), and extended by the
+ * built-in strategy of each plan, which only supplies its rule: the deposit earns
+ * {@code balance * annualRate / 12} when its age lies inside the rule's eligibility window.
+ *
+ * This is a pure domain class with no framework dependencies.
+ */
+public class RuleBasedInterestStrategy implements InterestCalculationStrategy {
+
+    private final InterestRule rule;
+
+    /**
+     * Create a strategy for the given rule.
+     *
+     * @param rule the plan's rate and eligibility window
+     */
+    public RuleBasedInterestStrategy(InterestRule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("Rule must not be null");
+        }
+        this.rule = rule;
+    }
+
+    @Override
+    public double calculateInterest(TimeDeposit deposit) {
+        if (!rule.appliesTo(deposit.getDays())) {
+            return 0.0;
+        }
+        return deposit.getBalance() * rule.annualRate() / InterestRule.MONTHS_PER_YEAR;
+    }
+
+    @Override
+    public boolean supports(PlanType planType) {
+        return rule.planType() == planType;
+    }
+
+    @Override
+    public InterestRule rule() {
+        return rule;
+    }
+}
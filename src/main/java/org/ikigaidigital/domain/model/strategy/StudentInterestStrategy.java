@@ -1,8 +1,6 @@
 package org.ikigaidigital.domain.model.strategy;
 
 import org.ikigaidigital.domain.model.PlanType;
-import org.ikigaidigital.domain.model.TimeDeposit;
-
 
 /**
  * Interest calculation strategy for Student plan deposits.
@@ -14,28 +12,16 @@ import org.ikigaidigital.domain.model.TimeDeposit;
  *
  * This is a pure domain class with no framework dependencies.
  */
-public class StudentInterestStrategy implements InterestCalculationStrategy {
+public class StudentInterestStrategy extends RuleBasedInterestStrategy {
 
     private static final PlanType PLAN_TYPE = PlanType.STUDENT;
     private static final int GRACE_PERIOD_DAYS = 30;
     private static final int MAX_DAYS_FOR_INTEREST = 366;
     private static final double ANNUAL_INTEREST_RATE = 0.03;
-    private static final int MONTHS_PER_YEAR = 12;
-
-    @Override
-    public double calculateInterest(TimeDeposit deposit) {
-        if (deposit.getDays() <= GRACE_PERIOD_DAYS) {
-            return 0.0;
-        }
-        if (deposit.getDays() >= MAX_DAYS_FOR_INTEREST) {
-            return 0.0;
-        }
-        return deposit.getBalance() * ANNUAL_INTEREST_RATE / MONTHS_PER_YEAR;
-    }
+    private static final InterestRule RULE = new InterestRule(
+            PLAN_TYPE, ANNUAL_INTEREST_RATE, GRACE_PERIOD_DAYS, MAX_DAYS_FOR_INTEREST);
 
-    @Override
-    public boolean supports(PlanType planType) {
-        return PLAN_TYPE == planType;
+    public StudentInterestStrategy() {
+        super(RULE);
     }
 }
-
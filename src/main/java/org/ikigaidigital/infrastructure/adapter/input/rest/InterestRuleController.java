@@ -0,0 +1,87 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.ikigaidigital.application.port.input.ReloadInterestRulesUseCase;
+import org.ikigaidigital.application.port.input.ReloadInterestRulesUseCase.InterestRuleSnapshot;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.InterestRuleDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.InterestRulesResponseDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+
+/**
+ * REST Controller for interest rule administration.
+ *
+ * This is an input adapter in the hexagonal architecture that lets operators
+ * apply rule versions inserted into the interest_rules table immediately,
+ * instead of waiting for the periodic refresh.
+ */
+@RestController
+@RequestMapping("/api/v1/interest-rules")
+@Tag(name = "Interest Rules", description = "Interest rule administration")
+public class InterestRuleController {
+
+    private final ReloadInterestRulesUseCase reloadInterestRulesUseCase;
+
+    public InterestRuleController(ReloadInterestRulesUseCase reloadInterestRulesUseCase) {
+        this.reloadInterestRulesUseCase = reloadInterestRulesUseCase;
+    }
+
+    /**
+     * Reload the stored interest rules. Runs already in progress keep the rules they started with.
+     *
+     * @return the rules in use after the reload
+     */
+    @PostMapping("/reload")
+    @Operation(
+            summary = "Reload the interest rules",
+            description = "Loads and compiles the stored interest rule versions and swaps them in atomically. "
+                    + "Balance updates in progress finish with the rules they started with."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Rules reloaded",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = InterestRulesResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error; the previous rules stay in use",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<InterestRulesResponseDTO> reloadInterestRules() {
+        return ResponseEntity.ok(toDTO(reloadInterestRulesUseCase.reloadInterestRules()));
+    }
+
+    private InterestRulesResponseDTO toDTO(InterestRuleSnapshot snapshot) {
+        return new InterestRulesResponseDTO(
+                snapshot.generation(),
+                snapshot.loadedAt(),
+                snapshot.versionCount(),
+                snapshot.currentPeriod(),
+                snapshot.currentRules().stream()
+                        .map(this::toDTO)
+                        .toList());
+    }
+
+    private InterestRuleDTO toDTO(InterestRule rule) {
+        return new InterestRuleDTO(
+                rule.planType(),
+                BigDecimal.valueOf(rule.annualRate()),
+                rule.hasMinimum() ? rule.minimumDaysExclusive() : null,
+                rule.hasMaximum() ? rule.maximumDaysExclusive() : null);
+    }
+}
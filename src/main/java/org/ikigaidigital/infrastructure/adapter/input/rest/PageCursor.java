@@ -0,0 +1,49 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the keyset position of a page as an opaque, URL-safe cursor.
+ *
+ * Clients only pass the cursor back; its content is versioned so that the position
+ * can change shape without breaking cursors handed out before.
+ */
+final class PageCursor {
+
+    private static final String ID_PREFIX = "id:";
+
+    private PageCursor() {
+    }
+
+    /**
+     * @param afterId the last id of the current page
+     * @return the cursor of the next page
+     */
+    static String encode(int afterId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((ID_PREFIX + afterId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor a cursor returned by {@link #encode(int)}
+     * @return the id the page starts after
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    static int decode(String cursor) {
+        String position;
+        try {
+            position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed page cursor", e);
+        }
+        if (!position.startsWith(ID_PREFIX)) {
+            throw new IllegalArgumentException("Malformed page cursor");
+        }
+        try {
+            return Integer.parseInt(position.substring(ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed page cursor", e);
+        }
+    }
+}
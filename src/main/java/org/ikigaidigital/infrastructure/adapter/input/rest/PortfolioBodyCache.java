@@ -0,0 +1,139 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the last serialized full-portfolio response, keyed by portfolio version.
+ *
+ * Entity tags combine the version with a tag drawn when the cache is created. Each
+ * instance counts its versions itself, from zero at startup, so a tag handed out by
+ * another instance or before a restart never matches.
+ * Bodies larger than the limit are streamed without being kept, so caching never holds
+ * more than the limit in memory.
+ */
+final class PortfolioBodyCache {
+
+    private final String instanceTag = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final long maxBytes;
+    private final AtomicReference<Body> body = new AtomicReference<>();
+
+    /**
+     * @param maxBytes the largest body kept, in bytes; 0 keeps none
+     */
+    PortfolioBodyCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Maximum cached body size must not be negative: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @param version the portfolio version
+     * @return the strong entity tag of the version, quoted
+     */
+    String etag(long version) {
+        return "\"" + instanceTag + "-" + version + "\"";
+    }
+
+    /**
+     * Check an {@code If-None-Match} header against an entity tag. Tags are compared
+     * weakly, as required for {@code If-None-Match}.
+     *
+     * @param ifNoneMatch the header value, or null if absent
+     * @param etag        the current entity tag
+     * @return true if the client's representation is current
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param version the portfolio version
+     * @return the body serialized at the version, or null if it is not cached
+     */
+    byte[] bodyFor(long version) {
+        Body cached = body.get();
+        return cached != null && cached.version() == version ? cached.bytes() : null;
+    }
+
+    /**
+     * Wrap a response stream so that what is written to it is also kept, up to the limit.
+     * Call {@link Recording#complete()} once the whole body is written.
+     *
+     * @param version the portfolio version read before the body was
+     * @param out     the response stream
+     * @return the recording stream
+     */
+    Recording record(long version, OutputStream out) {
+        return new Recording(version, out);
+    }
+
+    /**
+     * A response stream keeping a copy of the body while it fits the limit.
+     */
+    final class Recording extends FilterOutputStream {
+
+        private final long version;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        private Recording(long version, OutputStream out) {
+            super(out);
+            this.version = version;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (fits(1)) {
+                copy.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (fits(len)) {
+                copy.write(b, off, len);
+            }
+        }
+
+        private boolean fits(int len) {
+            if (copy != null && copy.size() + (long) len > maxBytes) {
+                copy = null;
+            }
+            return copy != null;
+        }
+
+        /**
+         * Keep the recorded body, unless it outgrew the limit or a later version is cached.
+         */
+        void complete() {
+            if (copy == null) {
+                return;
+            }
+            Body recorded = new Body(version, copy.toByteArray());
+            body.accumulateAndGet(recorded,
+                    (cached, candidate) -> cached != null && cached.version() > candidate.version() ? cached : candidate);
+        }
+    }
+
+    private record Body(long version, byte[] bytes) {
+    }
+}
@@ -1,5 +1,7 @@
 package org.ikigaidigital.infrastructure.adapter.input.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -8,20 +10,48 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.ikigaidigital.application.port.input.GetAllTimeDepositsUseCase;
+import org.ikigaidigital.application.port.input.GetAllTimeDepositsUseCase.TimeDepositPage;
+import org.ikigaidigital.application.port.input.SimulateAccrualUseCase;
+import org.ikigaidigital.application.port.input.SimulateAccrualUseCase.AccrualSimulation;
+import org.ikigaidigital.application.port.input.SimulateAccrualUseCase.ProjectedInterest;
 import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase;
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.JobStatus;
+import org.ikigaidigital.domain.model.Money;
 import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.AccrualJobResponseDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.AccrualSimulationResponseDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.ErrorResponseDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.PlanSimulationDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.ProjectedInterestDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.TimeDepositPageResponseDTO;
 import org.ikigaidigital.infrastructure.adapter.input.rest.dto.TimeDepositResponseDTO;
 import org.ikigaidigital.infrastructure.adapter.input.rest.dto.UpdateBalancesResponseDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.WithdrawalDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -37,25 +67,55 @@ import java.util.stream.Collectors;
 @Tag(name = "Time Deposits", description = "Time deposit management operations")
 public class TimeDepositController {
 
+    /**
+     * Page size when only a cursor is given.
+     */
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Keyset position of the first page; deposit ids are generated from 1 upwards.
+     */
+    private static final int BEFORE_FIRST_ID = 0;
+
     private final GetAllTimeDepositsUseCase getAllTimeDepositsUseCase;
     private final UpdateAllBalancesUseCase updateAllBalancesUseCase;
+    private final SimulateAccrualUseCase simulateAccrualUseCase;
+    private final ObjectMapper objectMapper;
+    // Null when conditional reads are disabled
+    private final PortfolioBodyCache portfolioBodyCache;
 
     public TimeDepositController(
             GetAllTimeDepositsUseCase getAllTimeDepositsUseCase,
-            UpdateAllBalancesUseCase updateAllBalancesUseCase) {
+            UpdateAllBalancesUseCase updateAllBalancesUseCase,
+            SimulateAccrualUseCase simulateAccrualUseCase,
+            ObjectMapper objectMapper,
+            @Value("${time-deposit.read-cache.enabled:true}") boolean readCacheEnabled,
+            @Value("${time-deposit.read-cache.max-body-size:16MB}") DataSize readCacheMaxBodySize) {
         this.getAllTimeDepositsUseCase = getAllTimeDepositsUseCase;
         this.updateAllBalancesUseCase = updateAllBalancesUseCase;
+        this.simulateAccrualUseCase = simulateAccrualUseCase;
+        this.objectMapper = objectMapper;
+        this.portfolioBodyCache = readCacheEnabled ? new PortfolioBodyCache(readCacheMaxBodySize.toBytes()) : null;
     }
 
     /**
-     * Retrieve all time deposits with their associated withdrawals.
+     * Retrieve all time deposits with their associated withdrawals, streamed as one
+     * JSON array while they are read from the database.
+     *
+     * The response is tagged with the portfolio version. A request whose
+     * {@code If-None-Match} holds the current tag is answered 304 without reading the
+     * database, and the last body written is replayed while the version is unchanged.
      *
-     * @return list of time deposit response DTOs
+     * @param ifNoneMatch entity tags the client already holds
+     * @return the response body writing the list of time deposit response DTOs
      */
-    @GetMapping
+    @GetMapping(params = {"!limit", "!after"})
     @Operation(
             summary = "Get all time deposits",
-            description = "Retrieves all time deposit accounts with their current balances and withdrawal history"
+            description = "Retrieves all time deposit accounts with their current balances and withdrawal history. "
+                    + "The array is streamed as the deposits are read, so its size is not bounded by server memory. "
+                    + "Responses carry an ETag that changes with every write to the deposits; send it back in If-None-Match "
+                    + "to get 304 Not Modified while nothing changed."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -66,29 +126,135 @@ public class TimeDepositController {
                             array = @ArraySchema(schema = @Schema(implementation = TimeDepositResponseDTO.class))
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "No deposit changed since the tag in If-None-Match",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error",
                     content = @Content
             )
     })
-    public ResponseEntity<List<TimeDepositResponseDTO>> getAllTimeDeposits() {
-        List<TimeDeposit> deposits = getAllTimeDepositsUseCase.getAllTimeDeposits();
-        List<TimeDepositResponseDTO> response = deposits.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<StreamingResponseBody> getAllTimeDeposits(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (portfolioBodyCache == null) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(streamAllTimeDeposits());
+        }
+        // Read before the deposits: a write racing with the read can only leave the tag older than the body
+        long version = getAllTimeDepositsUseCase.portfolioVersion();
+        String etag = portfolioBodyCache.etag(version);
+        if (PortfolioBodyCache.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        byte[] cached = portfolioBodyCache.bodyFor(version);
+        StreamingResponseBody body = cached != null
+                ? out -> out.write(cached)
+                : out -> {
+                    PortfolioBodyCache.Recording recording = portfolioBodyCache.record(version, out);
+                    streamAllTimeDeposits().writeTo(recording);
+                    recording.complete();
+                };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .body(body);
+    }
+
+    /**
+     * Retrieve one page of time deposits in id order, together with the cursor of the next.
+     *
+     * @param limit maximum number of deposits on the page
+     * @param after cursor returned with the previous page; absent for the first page
+     * @return the page of time deposit response DTOs
+     */
+    @GetMapping
+    @Operation(
+            summary = "Get a page of time deposits",
+            description = "With limit and/or after, returns one page in id order and an opaque cursor for the next page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TimeDepositPageResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed cursor or limit out of range",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<TimeDepositPageResponseDTO> getTimeDepositPage(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(pageOf(
+                after == null ? BEFORE_FIRST_ID : PageCursor.decode(after),
+                limit == null ? DEFAULT_PAGE_SIZE : limit));
+    }
+
+    /**
+     * Write the whole portfolio as one JSON array, element by element as the rows are read
+     * through a database cursor. The opening bracket is flushed before the query runs, and
+     * neither the deposits nor their DTOs are collected, so memory does not grow with the
+     * portfolio.
+     */
+    private StreamingResponseBody streamAllTimeDeposits() {
+        return out -> {
+            JsonGenerator generator = objectMapper.createGenerator(out);
+            generator.writeStartArray();
+            generator.flush();
+            getAllTimeDepositsUseCase.streamAllTimeDeposits(deposit -> writeElement(generator, toDTO(deposit)));
+            generator.writeEndArray();
+            generator.flush();
+        };
+    }
+
+    private static void writeElement(JsonGenerator generator, Object value) {
+        try {
+            generator.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private TimeDepositPageResponseDTO pageOf(int afterId, int limit) {
+        TimeDepositPage page = getAllTimeDepositsUseCase.getTimeDeposits(afterId, limit);
+        return new TimeDepositPageResponseDTO(
+                page.deposits().stream()
+                        .map(this::toDTO)
+                        .collect(Collectors.toList()),
+                page.hasNext() ? PageCursor.encode(page.nextAfterId()) : null
+        );
     }
 
     /**
      * Update balances for all time deposits by applying interest calculations.
+     * With {@code async=true} the update runs in the background and the
+     * response points at the job's status resource.
      *
-     * @return response with update status and count
+     * @param async whether to run the update as a background job
+     * @return response with update status and count, or the accepted job
      */
     @PostMapping("/update-balances")
     @Operation(
             summary = "Update all time deposit balances",
-            description = "Applies interest calculations to all time deposits based on their plan type and age"
+            description = "Applies interest calculations to all time deposits based on their plan type and age. "
+                    + "With async=true the update runs as a background job that can be polled."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -99,22 +265,187 @@ public class TimeDepositController {
                             schema = @Schema(implementation = UpdateBalancesResponseDTO.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Update accepted as a background job",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AccrualJobResponseDTO.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error",
                     content = @Content
             )
     })
-    public ResponseEntity<UpdateBalancesResponseDTO> updateAllBalances() {
+    public ResponseEntity<?> updateAllBalances(@RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            JobStatus job = updateAllBalancesUseCase.submitUpdateAllBalances();
+            URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQuery(null)
+                    .path("/{jobId}")
+                    .buildAndExpand(job.jobId())
+                    .toUri();
+            return ResponseEntity.accepted().location(location).body(toDTO(job));
+        }
+
         UpdateAllBalancesUseCase.UpdateBalancesResult result = updateAllBalancesUseCase.updateAllBalances();
         UpdateBalancesResponseDTO response = new UpdateBalancesResponseDTO(
-                "Balances updated successfully",
+                result.hasFailures() ? "Balances updated with failures" : "Balances updated successfully",
                 result.updatedCount(),
+                result.failures().size(),
                 LocalDateTime.now()
         );
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Credit several missed interest periods in a single pass.
+     *
+     * @param periods             the number of periods to catch up, ending with the current month
+     * @param lastUntrackedPeriod the month deposits credited before periods were recorded were last
+     *                            credited for; required while any of them is overdue
+     * @return response with update status and count
+     */
+    @PostMapping("/update-balances/catch-up")
+    @Operation(
+            summary = "Catch up missed balance updates",
+            description = "Credits the given number of monthly periods, ending with the current month, in one pass. "
+                    + "Each deposit is credited only the periods it missed, with its age and the interest rules "
+                    + "of each period, and is read and written once. Deposits credited before accrual periods were "
+                    + "recorded are only caught up when lastUntrackedPeriod (yyyy-MM) tells the month they were last "
+                    + "credited for."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully caught up balances",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = UpdateBalancesResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Period count out of range, or lastUntrackedPeriod missing or not before the current month",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponseDTO.class)
+                    )
+            )
+    })
+    public ResponseEntity<UpdateBalancesResponseDTO> catchUpBalances(
+            @RequestParam int periods,
+            @RequestParam(required = false) YearMonth lastUntrackedPeriod) {
+        UpdateAllBalancesUseCase.UpdateBalancesResult result =
+                updateAllBalancesUseCase.catchUpBalances(periods, lastUntrackedPeriod);
+        return ResponseEntity.ok(new UpdateBalancesResponseDTO(
+                "Balances caught up for " + periods + " periods",
+                result.updatedCount(),
+                result.failures().size(),
+                LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * Report the state and progress of a background balance update job.
+     *
+     * @param jobId the job identifier returned when the job was accepted
+     * @return the job state, or 404 if the job is unknown
+     */
+    @GetMapping("/update-balances/{jobId}")
+    @Operation(
+            summary = "Get balance update job status",
+            description = "Reports state, processed and total counts, throughput and ETA of a background balance update"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the job",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AccrualJobResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Job not found or no longer retained",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<?> getUpdateBalancesJob(@PathVariable UUID jobId) {
+        return updateAllBalancesUseCase.findUpdateJob(jobId)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(toDTO(job)))
+                .orElseGet(() -> ResponseEntity
+                        .status(HttpStatus.NOT_FOUND)
+                        .body(ErrorResponseDTO.of("NOT_FOUND", "The requested job was not found")));
+    }
+
+    /**
+     * Report what the next balance update would credit, without changing any balance.
+     *
+     * @return totals per plan type
+     */
+    @GetMapping(value = "/accrual-simulation", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Simulate the balance update",
+            description = "Calculates the interest the next balance update would credit, per plan type, "
+                    + "in a read-only transaction. Request application/x-ndjson for one line per deposit."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully simulated the balance update",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = AccrualSimulationResponseDTO.class)
+                            ),
+                            @Content(
+                                    mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = ProjectedInterestDTO.class)
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<AccrualSimulationResponseDTO> simulateAccrual() {
+        return ResponseEntity.ok(toDTO(simulateAccrualUseCase.simulateAccrual()));
+    }
+
+    /**
+     * Stream what the next balance update would credit as newline-delimited JSON:
+     * one line per due deposit in id order, followed by a final line with the totals.
+     * Deposits are written as they are read, so the response size does not bound memory.
+     *
+     * @return the streamed simulation
+     */
+    @GetMapping(value = "/accrual-simulation", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAccrualSimulation() {
+        StreamingResponseBody body = out -> {
+            AccrualSimulation simulation = simulateAccrualUseCase.simulateAccrual(
+                    projection -> writeLine(out, toDTO(projection)));
+            writeLine(out, toDTO(simulation));
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Convert a domain TimeDeposit to a response DTO.
      * This mapping is an infrastructure concern and belongs in the adapter.
@@ -123,10 +454,70 @@ public class TimeDepositController {
         return new TimeDepositResponseDTO(
                 domain.getId(),
                 domain.getPlanType(),
-                BigDecimal.valueOf(domain.getBalance()),
+                Money.toDecimal(domain.getBalanceCents()),
                 domain.getDays(),
-                Collections.emptyList() // Withdrawals not included in current domain model
+                domain.getWithdrawals().stream()
+                        .map(this::toDTO)
+                        .collect(Collectors.toList())
         );
     }
-}
 
+    /**
+     * Convert a withdrawal to a response DTO.
+     */
+    private WithdrawalDTO toDTO(Withdrawal withdrawal) {
+        return new WithdrawalDTO(
+                withdrawal.id(),
+                Money.toDecimal(withdrawal.amountCents()),
+                withdrawal.date()
+        );
+    }
+
+    /**
+     * Convert a simulation to a response DTO.
+     */
+    private AccrualSimulationResponseDTO toDTO(AccrualSimulation simulation) {
+        return new AccrualSimulationResponseDTO(
+                simulation.period(),
+                simulation.depositCount(),
+                simulation.projectedInterest(),
+                simulation.plans().stream()
+                        .map(plan -> new PlanSimulationDTO(
+                                plan.planType(), plan.depositCount(), plan.balance(), plan.projectedInterest()))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Convert a single deposit's projection to a response DTO.
+     */
+    private ProjectedInterestDTO toDTO(ProjectedInterest projection) {
+        return new ProjectedInterestDTO(
+                projection.id(),
+                projection.planType(),
+                Money.toDecimal(projection.balanceCents()),
+                Money.toDecimal(projection.projectedInterestCents())
+        );
+    }
+
+    /**
+     * Convert a job status to a response DTO.
+     */
+    private AccrualJobResponseDTO toDTO(JobStatus job) {
+        UpdateAllBalancesUseCase.UpdateBalancesResult result = job.result();
+        return new AccrualJobResponseDTO(
+                job.jobId(),
+                job.state(),
+                job.processed(),
+                job.total(),
+                job.depositsPerSecond(),
+                job.etaSeconds(),
+                result != null ? result.updatedCount() : null,
+                result != null ? result.failures().size() : null,
+                job.error(),
+                job.submittedAt(),
+                job.startedAt(),
+                job.finishedAt()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.JobState;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO representing the state of an asynchronous balance update job.
+ */
+@Schema(description = "State and progress of an asynchronous balance update job")
+public record AccrualJobResponseDTO(
+        @Schema(description = "Job identifier", example = "3f1c2a9e-5b7d-4c1e-9a2f-8d6b4e0c7a15")
+        UUID jobId,
+
+        @Schema(description = "Job state", example = "RUNNING")
+        JobState state,
+
+        @Schema(description = "Number of deposits processed so far", example = "250000")
+        long processed,
+
+        @Schema(description = "Number of deposits in the portfolio when the job started", example = "1000000")
+        long total,
+
+        @Schema(description = "Average throughput in deposits per second", example = "52000.0")
+        double depositsPerSecond,
+
+        @Schema(description = "Estimated seconds until completion, absent while unknown", example = "15")
+        Long etaSeconds,
+
+        @Schema(description = "Number of deposits updated, once the job has succeeded", example = "1000000")
+        Integer updatedCount,
+
+        @Schema(description = "Number of id ranges that failed and were rolled back, once the job has succeeded", example = "0")
+        Integer failedRanges,
+
+        @Schema(description = "Failure description, once the job has failed")
+        String error,
+
+        @Schema(description = "When the job was accepted", example = "2024-01-15T10:30:00Z")
+        Instant submittedAt,
+
+        @Schema(description = "When the job started running", example = "2024-01-15T10:30:00Z")
+        Instant startedAt,
+
+        @Schema(description = "When the job finished", example = "2024-01-15T10:30:20Z")
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,26 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * DTO representing the outcome of a dry run of the balance update.
+ */
+@Schema(description = "Interest the next balance update would credit, without any balance being changed")
+public record AccrualSimulationResponseDTO(
+        @Schema(description = "Accrual period that was simulated", example = "2024-01", type = "string")
+        YearMonth period,
+
+        @Schema(description = "Number of deposits that would be credited", example = "3")
+        long depositCount,
+
+        @Schema(description = "Interest that would be credited across all plans", example = "145.83")
+        BigDecimal projectedInterest,
+
+        @Schema(description = "Totals per plan type")
+        List<PlanSimulationDTO> plans
+) {
+}
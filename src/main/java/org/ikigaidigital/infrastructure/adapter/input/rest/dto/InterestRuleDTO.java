@@ -0,0 +1,25 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.ikigaidigital.domain.model.PlanType;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO representing the interest rule of one plan type.
+ */
+@Schema(description = "Interest rule in force for one plan type")
+public record InterestRuleDTO(
+        @Schema(description = "Type of plan (basic, student, premium, internal)", example = "basic")
+        PlanType planType,
+
+        @Schema(description = "Annual interest rate", example = "0.01")
+        BigDecimal annualRate,
+
+        @Schema(description = "Deposits must be older than this many days, absent if unbounded", example = "30")
+        Integer minimumDaysExclusive,
+
+        @Schema(description = "Deposits must be younger than this many days, absent if unbounded", example = "366")
+        Integer maximumDaysExclusive
+) {
+}
@@ -0,0 +1,29 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * DTO representing the interest rules in use after a reload.
+ */
+@Schema(description = "Interest rules in use after a reload")
+public record InterestRulesResponseDTO(
+        @Schema(description = "Rule generation; increases whenever a reload changes the rules", example = "2")
+        long generation,
+
+        @Schema(description = "When the rules were loaded", example = "2024-01-15T10:30:00Z")
+        Instant loadedAt,
+
+        @Schema(description = "Number of stored rule versions; 0 when the built-in rules are in use", example = "4")
+        int versionCount,
+
+        @Schema(description = "Current accrual period", example = "2024-01", type = "string")
+        YearMonth period,
+
+        @Schema(description = "Rules in force for the current period")
+        List<InterestRuleDTO> rules
+) {
+}
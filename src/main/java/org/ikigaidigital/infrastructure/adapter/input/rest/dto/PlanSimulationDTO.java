@@ -0,0 +1,25 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.ikigaidigital.domain.model.PlanType;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO representing the simulated accrual totals of one plan type.
+ */
+@Schema(description = "Interest the next balance update would credit to one plan type")
+public record PlanSimulationDTO(
+        @Schema(description = "Type of plan (basic, student, premium)", example = "basic")
+        PlanType planType,
+
+        @Schema(description = "Number of deposits that would be credited", example = "1200")
+        long depositCount,
+
+        @Schema(description = "Sum of their current balances", example = "12000000.00")
+        BigDecimal balance,
+
+        @Schema(description = "Sum of the interest they would be credited", example = "10000.00")
+        BigDecimal projectedInterest
+) {
+}
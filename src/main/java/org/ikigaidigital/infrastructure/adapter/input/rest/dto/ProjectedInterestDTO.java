@@ -0,0 +1,25 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.ikigaidigital.domain.model.PlanType;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO representing the interest one deposit would be credited, streamed as one NDJSON line.
+ */
+@Schema(description = "Interest the next balance update would credit to one deposit")
+public record ProjectedInterestDTO(
+        @Schema(description = "Unique identifier of the time deposit", example = "1")
+        int id,
+
+        @Schema(description = "Type of plan (basic, student, premium)", example = "basic")
+        PlanType planType,
+
+        @Schema(description = "Current balance of the deposit", example = "10000.00")
+        BigDecimal balance,
+
+        @Schema(description = "Interest the deposit would be credited", example = "8.33")
+        BigDecimal projectedInterest
+) {
+}
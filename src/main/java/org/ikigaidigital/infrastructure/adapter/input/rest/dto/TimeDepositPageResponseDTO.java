@@ -0,0 +1,19 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO representing one page of time deposits in API responses.
+ */
+@Schema(description = "One page of time deposits in id order")
+public record TimeDepositPageResponseDTO(
+        @Schema(description = "Time deposits of the page")
+        List<TimeDepositResponseDTO> items,
+
+        @Schema(description = "Opaque cursor to pass as 'after' for the next page; null on the last page",
+                example = "aWQ6MTAw", nullable = true)
+        String nextCursor
+) {
+}
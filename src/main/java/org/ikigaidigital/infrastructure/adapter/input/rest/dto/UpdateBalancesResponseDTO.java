@@ -15,6 +15,9 @@ public record UpdateBalancesResponseDTO(
         @Schema(description = "Number of deposits updated", example = "3")
         int updatedCount,
 
+        @Schema(description = "Number of id ranges that failed and were rolled back", example = "0")
+        int failedRanges,
+
         @Schema(description = "Timestamp of the update operation", example = "2024-01-15T10:30:00")
         LocalDateTime timestamp
 ) {
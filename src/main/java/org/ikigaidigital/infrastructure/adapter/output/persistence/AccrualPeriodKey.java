@@ -0,0 +1,42 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import java.time.YearMonth;
+
+/**
+ * Encodes accrual periods as the yyyymm integers stored in {@code time_deposits.last_accrued_period},
+ * {@code accrual_partitions.period}, {@code accrual_runs.period} and {@code interest_rules.effective_period}.
+ * The encoding preserves order, so "not yet credited for P" is {@code last_accrued_period < key(P)}.
+ */
+final class AccrualPeriodKey {
+
+    /**
+     * Stored for deposits that have never been credited.
+     */
+    static final int NEVER_ACCRUED = 0;
+
+    /**
+     * Stored for deposits credited before periods were recorded (V15), for an unknown period.
+     */
+    static final int ACCRUED_BEFORE_TRACKING = -1;
+
+    private static final int MONTH_DIGITS = 100;
+
+    private AccrualPeriodKey() {
+    }
+
+    /**
+     * @param period the accrual period
+     * @return the period encoded as yyyymm
+     */
+    static int of(YearMonth period) {
+        return period.getYear() * MONTH_DIGITS + period.getMonthValue();
+    }
+
+    /**
+     * @param key a period encoded as yyyymm
+     * @return the accrual period
+     */
+    static YearMonth toPeriod(int key) {
+        return YearMonth.of(key / MONTH_DIGITS, key % MONTH_DIGITS);
+    }
+}
@@ -0,0 +1,79 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.application.port.output.AccrualRunLedgerPort;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.AccrualCheckpointEntity;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.AccrualRunEntity;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * Persistence adapter implementing AccrualRunLedgerPort.
+ *
+ * The run row carries the cumulative position and totals, so resuming only
+ * needs that row; the checkpoint rows are the per-chunk audit trail.
+ */
+@Repository
+public class AccrualRunLedgerAdapter implements AccrualRunLedgerPort {
+
+    private final JpaAccrualRunRepository runRepository;
+    private final JpaAccrualCheckpointRepository checkpointRepository;
+
+    public AccrualRunLedgerAdapter(
+            JpaAccrualRunRepository runRepository,
+            JpaAccrualCheckpointRepository checkpointRepository) {
+        this.runRepository = runRepository;
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    @Override
+    public Optional<AccrualRun> findUnfinishedRun() {
+        return runRepository.findFirstByStatusOrderByIdDesc(AccrualRunEntity.STATUS_RUNNING)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public AccrualRun startRun(YearMonth period) {
+        return toDomain(runRepository.saveAndFlush(AccrualRunEntity.running(AccrualPeriodKey.of(period))));
+    }
+
+    @Override
+    public void recordCheckpoint(long runId, Checkpoint checkpoint) {
+        AccrualRunEntity run = findRun(runId);
+        int sequence = run.getChunkCount() + 1;
+        checkpointRepository.save(new AccrualCheckpointEntity(
+                runId, sequence, checkpoint.firstId(), checkpoint.lastId(),
+                checkpoint.depositCount(), checkpoint.balanceChecksum()));
+
+        run.setLastCommittedId(checkpoint.lastId());
+        run.setProcessedCount(run.getProcessedCount() + checkpoint.depositCount());
+        run.setChunkCount(sequence);
+        run.setBalanceChecksum(run.getBalanceChecksum() + checkpoint.balanceChecksum());
+        runRepository.save(run);
+    }
+
+    @Override
+    public void completeRun(long runId) {
+        AccrualRunEntity run = findRun(runId);
+        run.setStatus(AccrualRunEntity.STATUS_COMPLETED);
+        run.setCompletedAt(LocalDateTime.now());
+        runRepository.save(run);
+    }
+
+    private AccrualRunEntity findRun(long runId) {
+        return runRepository.findById(runId)
+                .orElseThrow(() -> new IllegalStateException("Accrual run " + runId + " does not exist"));
+    }
+
+    private AccrualRun toDomain(AccrualRunEntity entity) {
+        return new AccrualRun(
+                entity.getId(),
+                AccrualPeriodKey.toPeriod(entity.getPeriod()),
+                entity.getLastCommittedId(),
+                entity.getProcessedCount(),
+                entity.getChunkCount(),
+                entity.getBalanceChecksum());
+    }
+}
@@ -0,0 +1,78 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.TypedQuery;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.AccrualScope;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds the JPQL predicate that restricts accrual reads to deposits able to earn interest.
+ *
+ * The predicate is generated from the {@link InterestRule}s of the scope, the same rules
+ * the SQL push-down mode evaluates (see {@link InterestAccrualSql}), so a deposit is only
+ * loaded when the domain strategies would credit it:
+ *
+ * <pre>
+ * t.lastAccruedPeriod &lt; :period
+ *   AND ((t.planType = :plan0 AND t.days &gt; :minDays0 AND t.days &lt; :maxDays0) OR ...)
+ * </pre>
+ *
+ * Each disjunct is a range on {@code (plan_type, days)}, which is served by the
+ * composite index of that name. The JPQL text only depends on the shape of the rules,
+ * so the parsed query is reused across runs.
+ *
+ * @param predicate  the JPQL condition on the alias {@code t}
+ * @param parameters the named bind parameters of the condition
+ */
+record EligibleDepositFilter(String predicate, Map<String, Object> parameters) {
+
+    /**
+     * Build the filter for the given scope.
+     *
+     * @param scope the accrual period and eligibility rules
+     * @return the filter; callers should not query at all when the scope is empty
+     */
+    static EligibleDepositFilter forScope(AccrualScope scope) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        StringBuilder predicate = new StringBuilder("t.lastAccruedPeriod < :period");
+        parameters.put("period", AccrualPeriodKey.of(scope.period()));
+        if (scope.isEmpty()) {
+            return new EligibleDepositFilter(predicate.toString(), Map.copyOf(parameters));
+        }
+
+        predicate.append(" AND (");
+        for (int i = 0; i < scope.rules().size(); i++) {
+            InterestRule rule = scope.rules().get(i);
+            if (i > 0) {
+                predicate.append(" OR ");
+            }
+            predicate.append("(t.planType = :plan").append(i);
+            parameters.put("plan" + i, rule.planType());
+            if (rule.hasMinimum()) {
+                predicate.append(" AND t.days > :minDays").append(i);
+                parameters.put("minDays" + i, rule.minimumDaysExclusive());
+            }
+            if (rule.hasMaximum()) {
+                predicate.append(" AND t.days < :maxDays").append(i);
+                parameters.put("maxDays" + i, rule.maximumDaysExclusive());
+            }
+            predicate.append(")");
+        }
+        predicate.append(")");
+        return new EligibleDepositFilter(predicate.toString(), Map.copyOf(parameters));
+    }
+
+    /**
+     * Bind the filter's parameters to a query containing its predicate.
+     *
+     * @param query the query
+     * @param <T>   the result type
+     * @return the same query
+     */
+    <T> TypedQuery<T> bind(TypedQuery<T> query) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+}
@@ -0,0 +1,88 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the set-based UPDATE statement that applies one month of interest inside PostgreSQL.
+ *
+ * The statement is generated from the {@link InterestRule}s exposed by the domain strategies,
+ * so grace periods, caps and termination days are evaluated exactly as the Java engine does:
+ *
+ * <pre>
+ * UPDATE time_deposits
+ * SET balance = balance + ROUND(balance * CASE plan_type WHEN ? THEN ? ... END / 12, 2),
+ *     last_accrued_period = ?, ...
+ * WHERE last_accrued_period &lt; ? AND ((plan_type = ? AND days &gt; ? AND days &lt; ?) OR ...)
+ * </pre>
+ *
+ * PostgreSQL's ROUND on numeric rounds half away from zero, which equals HALF_UP for balances.
+ *
+ * @param sql        the parameterised statement
+ * @param parameters the bind parameters in order
+ */
+public record InterestAccrualSql(String sql, List<Object> parameters) {
+
+    /**
+     * Build the accrual statement for the given rules.
+     *
+     * @param rules  the interest rules of all plans that earn interest
+     * @param period the period being accrued; deposits already credited for it are skipped
+     * @return the statement, or empty SQL if there are no rules
+     */
+    public static InterestAccrualSql forRules(List<InterestRule> rules, YearMonth period) {
+        if (rules.isEmpty()) {
+            return new InterestAccrualSql("", List.of());
+        }
+        int periodKey = AccrualPeriodKey.of(period);
+        List<Object> parameters = new ArrayList<>();
+
+        StringBuilder rate = new StringBuilder("CASE plan_type");
+        for (InterestRule rule : rules) {
+            rate.append(" WHEN ? THEN ?");
+            parameters.add(rule.planType().getValue());
+            parameters.add(BigDecimal.valueOf(rule.annualRate()));
+        }
+        rate.append(" END");
+
+        StringBuilder sql = new StringBuilder()
+                .append("UPDATE time_deposits SET balance = balance + ROUND(balance * ")
+                .append(rate)
+                .append(" / ").append(InterestRule.MONTHS_PER_YEAR).append(", 2)")
+                .append(", last_accrued_period = ?, updated_at = CURRENT_TIMESTAMP")
+                .append(" WHERE last_accrued_period < ? AND (");
+        parameters.add(periodKey);
+        parameters.add(periodKey);
+
+        for (int i = 0; i < rules.size(); i++) {
+            InterestRule rule = rules.get(i);
+            if (i > 0) {
+                sql.append(" OR ");
+            }
+            sql.append("(plan_type = ?");
+            parameters.add(rule.planType().getValue());
+            if (rule.hasMinimum()) {
+                sql.append(" AND days > ?");
+                parameters.add(rule.minimumDaysExclusive());
+            }
+            if (rule.hasMaximum()) {
+                sql.append(" AND days < ?");
+                parameters.add(rule.maximumDaysExclusive());
+            }
+            sql.append(")");
+        }
+        sql.append(")");
+        return new InterestAccrualSql(sql.toString(), List.copyOf(parameters));
+    }
+
+    /**
+     * @return true if the statement would update nothing
+     */
+    public boolean isEmpty() {
+        return sql.isEmpty();
+    }
+}
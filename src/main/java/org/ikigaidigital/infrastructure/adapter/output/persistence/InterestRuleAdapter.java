@@ -0,0 +1,48 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.application.port.output.InterestRulePersistencePort;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.ikigaidigital.domain.model.strategy.InterestRuleVersion;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Persistence adapter implementing InterestRulePersistencePort on the interest_rules table.
+ *
+ * NULL day bounds are mapped to {@link InterestRule#NO_MINIMUM} and {@link InterestRule#NO_MAXIMUM}.
+ */
+@Repository
+public class InterestRuleAdapter implements InterestRulePersistencePort {
+
+    private static final String SELECT_SQL = """
+            SELECT plan_type, effective_period, annual_rate, minimum_days_exclusive, maximum_days_exclusive
+            FROM interest_rules
+            ORDER BY effective_period, plan_type""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public InterestRuleAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<InterestRuleVersion> findAllVersions() {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new InterestRuleVersion(
+                new InterestRule(
+                        PlanType.fromValue(rs.getString("plan_type")),
+                        rs.getBigDecimal("annual_rate").doubleValue(),
+                        intOrDefault(rs, "minimum_days_exclusive", InterestRule.NO_MINIMUM),
+                        intOrDefault(rs, "maximum_days_exclusive", InterestRule.NO_MAXIMUM)),
+                AccrualPeriodKey.toPeriod(rs.getInt("effective_period"))));
+    }
+
+    private static int intOrDefault(ResultSet rs, String column, int defaultValue) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? defaultValue : value;
+    }
+}
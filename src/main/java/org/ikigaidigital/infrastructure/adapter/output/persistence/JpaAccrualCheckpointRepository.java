@@ -0,0 +1,22 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.AccrualCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository for AccrualCheckpointEntity.
+ */
+@Repository
+public interface JpaAccrualCheckpointRepository extends JpaRepository<AccrualCheckpointEntity, Long> {
+
+    /**
+     * Find the checkpoints of a run in commit order.
+     *
+     * @param runId the run id
+     * @return the run's checkpoints
+     */
+    List<AccrualCheckpointEntity> findByRunIdOrderBySequenceAsc(Long runId);
+}
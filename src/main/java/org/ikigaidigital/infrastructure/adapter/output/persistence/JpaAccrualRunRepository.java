@@ -0,0 +1,22 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.AccrualRunEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA Repository for AccrualRunEntity.
+ */
+@Repository
+public interface JpaAccrualRunRepository extends JpaRepository<AccrualRunEntity, Long> {
+
+    /**
+     * Find the run with the given status. The schema allows only one running run.
+     *
+     * @param status the run status
+     * @return the first run with that status
+     */
+    Optional<AccrualRunEntity> findFirstByStatusOrderByIdDesc(String status);
+}
@@ -2,8 +2,11 @@ package org.ikigaidigital.infrastructure.adapter.output.persistence;
 
 import org.ikigaidigital.domain.model.PlanType;
 import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.TimeDepositEntity;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.projection.TimeDepositRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,15 +18,6 @@ import java.util.List;
 @Repository
 public interface JpaTimeDepositRepository extends JpaRepository<TimeDepositEntity, Integer> {
 
-    /**
-     * Find all time deposits with their withdrawals eagerly loaded.
-     * Uses a JOIN FETCH to avoid N+1 query problem.
-     *
-     * @return list of time deposits with withdrawals loaded
-     */
-    @Query("SELECT DISTINCT t FROM TimeDepositEntity t LEFT JOIN FETCH t.withdrawals")
-    List<TimeDepositEntity> findAllWithWithdrawals();
-
     /**
      * Find time deposits by plan type.
      *
@@ -31,5 +25,33 @@ public interface JpaTimeDepositRepository extends JpaRepository<TimeDepositEntit
      * @return list of time deposits matching the plan type
      */
     List<TimeDepositEntity> findByPlanType(PlanType planType);
-}
 
+    /**
+     * Find the lowest and highest ids in a single query.
+     *
+     * @return a single row of {min, max}; both null when the table is empty
+     */
+    @Query("SELECT MIN(t.id), MAX(t.id) FROM TimeDepositEntity t")
+    List<Object[]> findIdBounds();
+
+    /**
+     * Find all time deposits as read-only rows, ordered by id.
+     *
+     * @return all time deposit rows
+     */
+    @Query("SELECT new org.ikigaidigital.infrastructure.adapter.output.persistence.projection.TimeDepositRow("
+            + "t.id, t.planType, t.balance, t.days) FROM TimeDepositEntity t ORDER BY t.id")
+    List<TimeDepositRow> findAllRows();
+
+    /**
+     * Find the next time deposits after an id as read-only rows, ordered by id.
+     * Only the first page of the pageable is meaningful; the keyset is {@code afterId}.
+     *
+     * @param afterId  exclusive lower bound on the id
+     * @param pageable the maximum number of rows, as the page size
+     * @return up to the page size rows with an id greater than {@code afterId}
+     */
+    @Query("SELECT new org.ikigaidigital.infrastructure.adapter.output.persistence.projection.TimeDepositRow("
+            + "t.id, t.planType, t.balance, t.days) FROM TimeDepositEntity t WHERE t.id > :afterId ORDER BY t.id")
+    List<TimeDepositRow> findRowsAfter(@Param("afterId") int afterId, Pageable pageable);
+}
@@ -1,9 +1,13 @@
 package org.ikigaidigital.infrastructure.adapter.output.persistence;
 
 import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.WithdrawalEntity;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.projection.WithdrawalRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,5 +24,17 @@ public interface JpaWithdrawalRepository extends JpaRepository<WithdrawalEntity,
      * @return list of withdrawals for the time deposit
      */
     List<WithdrawalEntity> findByTimeDepositId(Integer timeDepositId);
+
+    /**
+     * Find the withdrawals of several time deposits in one query, as read-only rows.
+     * The foreign key column is read directly, so the deposits are not joined.
+     *
+     * @param timeDepositIds the time deposit IDs
+     * @return the withdrawals, ordered by time deposit, date and id
+     */
+    @Query("SELECT new org.ikigaidigital.infrastructure.adapter.output.persistence.projection.WithdrawalRow("
+            + "w.timeDeposit.id, w.id, w.amount, w.withdrawalDate) FROM WithdrawalEntity w "
+            + "WHERE w.timeDeposit.id IN :timeDepositIds ORDER BY w.timeDeposit.id, w.withdrawalDate, w.id")
+    List<WithdrawalRow> findRowsByTimeDepositIds(@Param("timeDepositIds") Collection<Integer> timeDepositIds);
 }
 
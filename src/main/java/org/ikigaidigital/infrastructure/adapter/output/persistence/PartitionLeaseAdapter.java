@@ -0,0 +1,101 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.application.port.output.PartitionLeasePort;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.IdRange;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistence adapter implementing PartitionLeasePort on the accrual_partitions table.
+ *
+ * Claims pick the lowest free partition with {@code FOR UPDATE SKIP LOCKED}, so
+ * concurrent claimers on any node never wait on, or receive, the same row.
+ * Lease expiry is evaluated against the database clock, so node clocks do not matter.
+ *
+ * Registering again after deposits were added widens the last partition to the new
+ * highest id. A widened partition is pending again and its lease is dropped, so the
+ * ids it gained are processed even if the narrower partition was already done.
+ */
+@Repository
+public class PartitionLeaseAdapter implements PartitionLeasePort {
+
+    private static final String REGISTER_SQL = """
+            INSERT INTO accrual_partitions (period, min_id, max_id)
+            VALUES (?, ?, ?)
+            ON CONFLICT (period, min_id) DO UPDATE
+            SET max_id = EXCLUDED.max_id, status = 'pending', completed_at = NULL,
+                lease_owner = NULL, lease_expires_at = NULL
+            WHERE accrual_partitions.max_id < EXCLUDED.max_id""";
+
+    private static final String CLAIM_SQL = """
+            UPDATE accrual_partitions p
+            SET lease_owner = ?,
+                lease_expires_at = CURRENT_TIMESTAMP + make_interval(secs => ?),
+                attempts = p.attempts + 1
+            FROM (
+                SELECT period, min_id FROM accrual_partitions
+                WHERE period = ? AND status = 'pending'
+                  AND (lease_expires_at IS NULL OR lease_expires_at < CURRENT_TIMESTAMP)
+                ORDER BY min_id
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED
+            ) free
+            WHERE p.period = free.period AND p.min_id = free.min_id
+            RETURNING p.min_id, p.max_id""";
+
+    private static final String COMPLETE_SQL = """
+            UPDATE accrual_partitions
+            SET status = 'done', updated_count = ?, completed_at = CURRENT_TIMESTAMP,
+                lease_owner = NULL, lease_expires_at = NULL
+            WHERE period = ? AND min_id = ? AND status = 'pending' AND lease_owner = ?""";
+
+    private static final String PENDING_SQL = """
+            SELECT min_id, max_id,
+                   CASE WHEN lease_expires_at >= CURRENT_TIMESTAMP THEN lease_owner END AS lease_owner
+            FROM accrual_partitions
+            WHERE period = ? AND status = 'pending'
+            ORDER BY min_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PartitionLeaseAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void registerPartitions(YearMonth period, List<IdRange> partitions) {
+        int periodKey = AccrualPeriodKey.of(period);
+        jdbcTemplate.batchUpdate(REGISTER_SQL, partitions, partitions.size(), (ps, partition) -> {
+            ps.setInt(1, periodKey);
+            ps.setInt(2, partition.minId());
+            ps.setInt(3, partition.maxId());
+        });
+    }
+
+    @Override
+    public Optional<IdRange> claimPartition(YearMonth period, String owner, Duration leaseDuration) {
+        List<IdRange> claimed = jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new IdRange(rs.getInt("min_id"), rs.getInt("max_id")),
+                owner, (double) leaseDuration.toMillis() / 1000, AccrualPeriodKey.of(period));
+        return claimed.stream().findFirst();
+    }
+
+    @Override
+    public boolean completePartition(YearMonth period, IdRange partition, String owner, int updatedCount) {
+        return jdbcTemplate.update(COMPLETE_SQL,
+                updatedCount, AccrualPeriodKey.of(period), partition.minId(), owner) == 1;
+    }
+
+    @Override
+    public List<PendingPartition> findPendingPartitions(YearMonth period) {
+        return jdbcTemplate.query(PENDING_SQL,
+                (rs, rowNum) -> new PendingPartition(
+                        new IdRange(rs.getInt("min_id"), rs.getInt("max_id")), rs.getString("lease_owner")),
+                AccrualPeriodKey.of(period));
+    }
+}
@@ -0,0 +1,96 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the portfolio version of this instance in memory, advanced by PostgreSQL notifications.
+ *
+ * Triggers on {@code time_deposits} and {@code withdrawals} (V14) notify the
+ * {@value #CHANNEL} channel once per transaction that changed rows, and PostgreSQL
+ * delivers the notification only after the transaction committed. Listening on one
+ * connection therefore tells this instance about every committed write, from any
+ * instance or database client, and reading the version costs no statement.
+ *
+ * Notifications sent while the connection is down are lost. The version is advanced
+ * whenever listening starts, and while it is not listening every read returns a new
+ * version, so nothing built earlier is taken to be current.
+ */
+@Component
+public class PortfolioChangeListener implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioChangeListener.class);
+
+    static final String CHANNEL = "portfolio_changed";
+
+    // Bounds how long an interrupt waits to be noticed
+    private static final int RECEIVE_TIMEOUT_MILLIS = 1000;
+
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final DataSource dataSource;
+    private final AtomicLong version = new AtomicLong();
+    private volatile boolean listening;
+
+    public PortfolioChangeListener(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @return the portfolio version; unchanged only while listening and no write was committed
+     */
+    public long version() {
+        return listening ? version.get() : version.incrementAndGet();
+    }
+
+    /**
+     * Listen until the thread is interrupted, holding one pooled connection, and
+     * reconnect after the connection is lost.
+     */
+    @Override
+    public void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                listen();
+            } catch (SQLException e) {
+                if (!Thread.currentThread().isInterrupted()) {
+                    log.warn("Listening for portfolio changes failed; retrying in {} ms", RECONNECT_DELAY_MILLIS, e);
+                }
+            } finally {
+                listening = false;
+            }
+            try {
+                Thread.sleep(RECONNECT_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void listen() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+            }
+            PGConnection notifications = connection.unwrap(PGConnection.class);
+            // Writes committed before LISTEN took effect were not notified
+            version.incrementAndGet();
+            listening = true;
+            while (!Thread.currentThread().isInterrupted()) {
+                PGNotification[] received = notifications.getNotifications(RECEIVE_TIMEOUT_MILLIS);
+                if (received != null && received.length > 0) {
+                    version.incrementAndGet();
+                }
+            }
+        }
+    }
+}
@@ -1,86 +1,401 @@
 package org.ikigaidigital.infrastructure.adapter.output.persistence;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 import org.ikigaidigital.application.port.output.TimeDepositPersistencePort;
+import org.ikigaidigital.domain.model.Money;
+import org.ikigaidigital.domain.model.PlanType;
 import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
 import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.TimeDepositEntity;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.projection.TimeDepositRow;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.projection.WithdrawalRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Persistence adapter implementing TimeDepositPersistencePort.
  * 
  * This adapter handles the conversion between domain objects and JPA entities,
  * completely encapsulating persistence concerns within the infrastructure layer.
+ *
+ * The accrual read/write path depends on the configured {@link WriteBackMode}:
+ * in ENTITY mode deposits are loaded as managed entities and flushed by Hibernate,
+ * in BULK mode they are loaded as read-only projections and written back by the
+ * {@link BulkBalanceWriter}, so the persistence context is never involved.
+ *
+ * Either way every deposit an accrual processed is stamped with the period it was
+ * credited for, and only the balances that changed are rewritten. Accrual reads skip
+ * deposits already credited for the requested period (see {@link AccrualPeriodKey}) and
+ * deposits outside every eligibility window of the scope's rules (see {@link EligibleDepositFilter}).
+ *
+ * Read-only use cases (listing, paging, streaming, simulation) always read
+ * constructor-expression projections, so no entity is hydrated, snapshotted for
+ * dirty checking or kept in the persistence context for them.
+ *
+ * Read paths that return withdrawals load the deposits first and then the withdrawals
+ * of up to {@value #STREAM_FETCH_SIZE} deposits at a time with one {@code IN} query,
+ * instead of joining them in, which would repeat every deposit row once per withdrawal.
  */
 @Repository
 public class TimeDepositPersistenceAdapter implements TimeDepositPersistencePort {
 
+    private static final Logger log = LoggerFactory.getLogger(TimeDepositPersistenceAdapter.class);
+
+    private static final String SELECT_ROW = "SELECT new "
+            + "org.ikigaidigital.infrastructure.adapter.output.persistence.projection.TimeDepositRow("
+            + "t.id, t.planType, t.balance, t.days)";
+
+    private static final int NO_LIMIT = -1;
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     private final JpaTimeDepositRepository jpaRepository;
+    private final JpaWithdrawalRepository withdrawalRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final BulkBalanceWriter bulkBalanceWriter;
+    private final WriteBackMode writeBackMode;
+    private final PortfolioChangeListener portfolioChangeListener;
 
-    public TimeDepositPersistenceAdapter(JpaTimeDepositRepository jpaRepository) {
+    public TimeDepositPersistenceAdapter(
+            JpaTimeDepositRepository jpaRepository,
+            JpaWithdrawalRepository withdrawalRepository,
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            BulkBalanceWriter bulkBalanceWriter,
+            @Value("${time-deposit.persistence.write-back:entity}") WriteBackMode writeBackMode,
+            PortfolioChangeListener portfolioChangeListener) {
         this.jpaRepository = jpaRepository;
+        this.withdrawalRepository = withdrawalRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bulkBalanceWriter = bulkBalanceWriter;
+        this.writeBackMode = writeBackMode;
+        this.portfolioChangeListener = portfolioChangeListener;
     }
 
     @Override
     public List<TimeDeposit> findAllWithWithdrawals() {
-        return jpaRepository.findAllWithWithdrawals().stream()
+        List<TimeDeposit> deposits = jpaRepository.findAllRows().stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
+        for (int from = 0; from < deposits.size(); from += STREAM_FETCH_SIZE) {
+            loadWithdrawals(deposits.subList(from, Math.min(from + STREAM_FETCH_SIZE, deposits.size())));
+        }
+        return deposits;
+    }
+
+    /**
+     * Reads read-only rows through a server-side cursor, like {@link #streamDueFor(AccrualScope, Consumer)}.
+     * Deposits are passed on one fetch of rows at a time, after the withdrawals of the fetch are loaded.
+     */
+    @Override
+    public void streamAll(Consumer<TimeDeposit> consumer) {
+        TypedQuery<TimeDepositRow> query = entityManager
+                .createQuery(SELECT_ROW + " FROM TimeDepositEntity t ORDER BY t.id", TimeDepositRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        List<TimeDeposit> fetched = new ArrayList<>(STREAM_FETCH_SIZE);
+        try (Stream<TimeDepositRow> rows = query.getResultStream()) {
+            rows.map(this::toDomain).forEach(deposit -> {
+                fetched.add(deposit);
+                if (fetched.size() == STREAM_FETCH_SIZE) {
+                    passOn(fetched, consumer);
+                }
+            });
+        }
+        passOn(fetched, consumer);
+    }
+
+    private void passOn(List<TimeDeposit> fetched, Consumer<TimeDeposit> consumer) {
+        loadWithdrawals(fetched);
+        fetched.forEach(consumer);
+        fetched.clear();
     }
 
+    /**
+     * Reads read-only rows, so a page never enters the persistence context.
+     */
+    @Override
+    public List<TimeDeposit> findPageAfter(int afterId, int limit) {
+        List<TimeDeposit> page = jpaRepository.findRowsAfter(afterId, PageRequest.ofSize(limit)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        loadWithdrawals(page);
+        return page;
+    }
+
+    /**
+     * Set the withdrawals of the deposits, read with a single query.
+     */
+    private void loadWithdrawals(List<TimeDeposit> deposits) {
+        if (deposits.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = deposits.stream().map(TimeDeposit::getId).collect(Collectors.toList());
+        Map<Integer, List<Withdrawal>> withdrawalsByDeposit = new HashMap<>();
+        for (WithdrawalRow row : withdrawalRepository.findRowsByTimeDepositIds(ids)) {
+            withdrawalsByDeposit.computeIfAbsent(row.timeDepositId(), id -> new ArrayList<>())
+                    .add(new Withdrawal(row.id(), Money.toCents(row.amount()), row.withdrawalDate()));
+        }
+        for (TimeDeposit deposit : deposits) {
+            deposit.setWithdrawals(withdrawalsByDeposit.getOrDefault(deposit.getId(), List.of()));
+        }
+    }
+
+    /**
+     * Reads read-only rows in either mode: nothing loaded here is written back.
+     */
     @Override
     public List<TimeDeposit> findAll() {
-        return jpaRepository.findAll().stream()
+        return jpaRepository.findAllRows().stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the version kept in memory by the {@link PortfolioChangeListener}, without a statement.
+     */
     @Override
-    public List<TimeDeposit> saveAll(List<TimeDeposit> timeDeposits) {
-        // First, fetch existing entities to update them
-        List<TimeDepositEntity> existingEntities = jpaRepository.findAll();
-
-        // Track entities that actually need updating
-        List<TimeDepositEntity> entitiesToUpdate = new ArrayList<>();
-
-        // Update entities with new balances from domain objects, only if balance changed
-        for (TimeDeposit domain : timeDeposits) {
-            existingEntities.stream()
-                    .filter(e -> e.getId().equals(domain.getId()))
-                    .findFirst()
-                    .ifPresent(entity -> {
-                        BigDecimal newBalance = BigDecimal.valueOf(domain.getBalance());
-                        // Only update if balance actually changed
-                        if (entity.getBalance().compareTo(newBalance) != 0) {
-                            entity.setBalance(newBalance);
-                            entitiesToUpdate.add(entity);
-                        }
-                    });
+    public long portfolioVersion() {
+        return portfolioChangeListener.version();
+    }
+
+    @Override
+    public long countDueFor(AccrualScope scope) {
+        if (scope.isEmpty()) {
+            return 0;
+        }
+        EligibleDepositFilter filter = EligibleDepositFilter.forScope(scope);
+        return createQuery("SELECT count(t) FROM TimeDepositEntity t WHERE " + filter.predicate(),
+                        Long.class, filter, Map.of(), NO_LIMIT)
+                .getSingleResult();
+    }
+
+    @Override
+    public boolean hasDepositsDueFor(AccrualScope scope) {
+        if (scope.isEmpty()) {
+            return false;
+        }
+        EligibleDepositFilter filter = EligibleDepositFilter.forScope(scope);
+        return !createQuery("SELECT t.id FROM TimeDepositEntity t WHERE " + filter.predicate(),
+                        Integer.class, filter, Map.of(), 1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    @Override
+    public List<TimeDeposit> findDueFor(AccrualScope scope) {
+        return findEligible(scope, "", Map.of(), NO_LIMIT);
+    }
+
+    /**
+     * ENTITY mode loads managed entities, so that {@link #saveAll(List, YearMonth)} finds them
+     * in the persistence context; BULK mode selects the columns as plain tuples.
+     */
+    @Override
+    public List<OverdueDeposit> findOverdueFor(AccrualScope scope) {
+        if (scope.isEmpty()) {
+            return List.of();
+        }
+        EligibleDepositFilter filter = EligibleDepositFilter.forScope(scope);
+        String where = " FROM TimeDepositEntity t WHERE " + filter.predicate() + " ORDER BY t.id";
+
+        if (writeBackMode == WriteBackMode.BULK) {
+            return createQuery("SELECT t.id, t.planType, t.balance, t.days, t.lastAccruedPeriod" + where,
+                    Object[].class, filter, Map.of(), NO_LIMIT)
+                    .getResultList().stream()
+                    .map(row -> overdue(
+                            TimeDeposit.ofCents((Integer) row[0], (PlanType) row[1],
+                                    Money.toCents((BigDecimal) row[2]), (Integer) row[3]),
+                            (Integer) row[4]))
+                    .collect(Collectors.toList());
+        }
+        return createQuery("SELECT t" + where, TimeDepositEntity.class, filter, Map.of(), NO_LIMIT)
+                .getResultList().stream()
+                .map(entity -> overdue(toDomain(entity), entity.getLastAccruedPeriod()))
+                .collect(Collectors.toList());
+    }
+
+    private static OverdueDeposit overdue(TimeDeposit deposit, int periodKey) {
+        return switch (periodKey) {
+            case AccrualPeriodKey.ACCRUED_BEFORE_TRACKING -> OverdueDeposit.accruedBeforeTracking(deposit);
+            case AccrualPeriodKey.NEVER_ACCRUED -> new OverdueDeposit(deposit, null);
+            default -> new OverdueDeposit(deposit, AccrualPeriodKey.toPeriod(periodKey));
+        };
+    }
+
+    @Override
+    public List<TimeDeposit> findChunkAfter(int afterId, int limit, AccrualScope scope) {
+        return findEligible(scope, " AND t.id > :afterId", Map.of("afterId", afterId), limit);
+    }
+
+    @Override
+    public Optional<IdRange> findIdRange() {
+        Object[] bounds = jpaRepository.findIdBounds().get(0);
+        if (bounds[0] == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new IdRange((Integer) bounds[0], (Integer) bounds[1]));
+    }
+
+    @Override
+    public List<TimeDeposit> findByIdRange(IdRange range, AccrualScope scope) {
+        return findEligible(scope, " AND t.id BETWEEN :fromId AND :toId",
+                Map.of("fromId", range.minId(), "toId", range.maxId()), NO_LIMIT);
+    }
+
+    /**
+     * Reads read-only rows through a server-side cursor: with a fetch size inside a
+     * transaction the PostgreSQL driver fetches {@value #STREAM_FETCH_SIZE} rows at a time,
+     * and rows never enter the persistence context.
+     */
+    @Override
+    public void streamDueFor(AccrualScope scope, Consumer<TimeDeposit> consumer) {
+        if (scope.isEmpty()) {
+            return;
+        }
+        EligibleDepositFilter filter = EligibleDepositFilter.forScope(scope);
+        TypedQuery<TimeDepositRow> query = createQuery(
+                SELECT_ROW + " FROM TimeDepositEntity t WHERE " + filter.predicate() + " ORDER BY t.id",
+                TimeDepositRow.class, filter, Map.of(), NO_LIMIT)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        try (Stream<TimeDepositRow> rows = query.getResultStream()) {
+            rows.map(this::toDomain).forEach(consumer);
         }
+    }
 
-        // Save only entities that changed
-        if (!entitiesToUpdate.isEmpty()) {
-            jpaRepository.saveAll(entitiesToUpdate);
+    /**
+     * Load the deposits in scope that also match the given id condition, in id order.
+     * ENTITY mode loads managed entities, BULK mode read-only rows.
+     */
+    private List<TimeDeposit> findEligible(
+            AccrualScope scope, String idCondition, Map<String, Object> idParameters, int limit) {
+        if (scope.isEmpty()) {
+            return List.of();
         }
+        EligibleDepositFilter filter = EligibleDepositFilter.forScope(scope);
+        String where = " FROM TimeDepositEntity t WHERE " + filter.predicate() + idCondition + " ORDER BY t.id";
 
-        // Return all domain objects (including unchanged ones)
+        if (writeBackMode == WriteBackMode.BULK) {
+            return createQuery(SELECT_ROW + where, TimeDepositRow.class, filter, idParameters, limit)
+                    .getResultList().stream()
+                    .map(this::toDomain)
+                    .collect(Collectors.toList());
+        }
+        return createQuery("SELECT t" + where, TimeDepositEntity.class, filter, idParameters, limit)
+                .getResultList().stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private <T> TypedQuery<T> createQuery(String jpql, Class<T> resultType, EligibleDepositFilter filter,
+                                          Map<String, Object> idParameters, int limit) {
+        TypedQuery<T> query = filter.bind(entityManager.createQuery(jpql, resultType));
+        idParameters.forEach(query::setParameter);
+        if (limit != NO_LIMIT) {
+            query.setMaxResults(limit);
+        }
+        return query;
+    }
+
+    /**
+     * Every deposit passed in was read as due for the period, so every one is stamped with
+     * it, including those that earned nothing (a zero balance, or interest below half a cent);
+     * otherwise they would stay due and every rerun would read them again.
+     */
+    @Override
+    public List<TimeDeposit> saveAll(List<TimeDeposit> timeDeposits, YearMonth accruedPeriod) {
+        if (timeDeposits.isEmpty()) {
+            return timeDeposits;
+        }
+
+        if (writeBackMode == WriteBackMode.BULK) {
+            bulkBalanceWriter.write(timeDeposits, accruedPeriod);
+        } else {
+            updateEntities(timeDeposits, AccrualPeriodKey.of(accruedPeriod));
+        }
+        timeDeposits.forEach(TimeDeposit::markPersisted);
         return timeDeposits;
     }
 
+    /**
+     * Copy changed balances onto the managed entities and stamp every entity with the period.
+     * Entities are resolved by id through the persistence context, so rows loaded earlier
+     * in the same transaction are reused without another query. Updates are issued in id order.
+     * Entities already credited for the period are skipped.
+     */
+    private void updateEntities(List<TimeDeposit> deposits, int periodKey) {
+        List<TimeDepositEntity> entitiesToUpdate = new ArrayList<>(deposits.size());
+        deposits.stream()
+                .sorted(Comparator.comparingInt(TimeDeposit::getId))
+                .forEach(domain -> {
+                    TimeDepositEntity entity = entityManager.find(TimeDepositEntity.class, domain.getId());
+                    if (entity != null && entity.getLastAccruedPeriod() < periodKey) {
+                        if (domain.isBalanceChanged()) {
+                            entity.setBalance(Money.toDecimal(domain.getBalanceCents()));
+                        }
+                        entity.setLastAccruedPeriod(periodKey);
+                        entitiesToUpdate.add(entity);
+                    }
+                });
+        jpaRepository.saveAll(entitiesToUpdate);
+    }
+
+    @Override
+    public int applyMonthlyInterest(List<InterestRule> rules, YearMonth period) {
+        InterestAccrualSql accrual = InterestAccrualSql.forRules(rules, period);
+        if (accrual.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        int updated = jdbcTemplate.update(accrual.sql(), accrual.parameters().toArray());
+        log.info("Set-based accrual credited {} deposits for {} in {} ms",
+                updated, period, (System.nanoTime() - start) / 1_000_000);
+        return updated;
+    }
+
     /**
      * Convert a TimeDepositEntity to a TimeDeposit domain object.
      */
     private TimeDeposit toDomain(TimeDepositEntity entity) {
-        return new TimeDeposit(
+        return TimeDeposit.ofCents(
                 entity.getId(),
                 entity.getPlanType(),
-                entity.getBalance().doubleValue(),
+                Money.toCents(entity.getBalance()),
                 entity.getDays()
         );
     }
-}
 
+    /**
+     * Convert a read-only TimeDepositRow projection to a TimeDeposit domain object.
+     */
+    private TimeDeposit toDomain(TimeDepositRow row) {
+        return TimeDeposit.ofCents(
+                row.id(),
+                row.planType(),
+                Money.toCents(row.balance()),
+                row.days()
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.application.port.output.WithdrawalPersistencePort;
+import org.ikigaidigital.domain.model.Money;
+import org.ikigaidigital.domain.model.WithdrawalIndex;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Persistence adapter implementing WithdrawalPersistencePort on the withdrawals table.
+ *
+ * The rows are aggregated and ordered by the database and streamed straight into the
+ * index builder, so no entity or intermediate list is materialized.
+ */
+@Repository
+public class WithdrawalAdapter implements WithdrawalPersistencePort {
+
+    private static final String INDEX_SQL = """
+            SELECT time_deposit_id, withdrawal_date, SUM(amount) AS amount
+            FROM withdrawals
+            WHERE withdrawal_date > ?
+            GROUP BY time_deposit_id, withdrawal_date
+            ORDER BY time_deposit_id, withdrawal_date""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WithdrawalAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public WithdrawalIndex indexWithdrawalsAfter(LocalDate date) {
+        WithdrawalIndex.Builder builder = new WithdrawalIndex.Builder();
+        jdbcTemplate.query(INDEX_SQL, rs -> {
+            builder.add(rs.getInt("time_deposit_id"),
+                    rs.getObject("withdrawal_date", LocalDate.class),
+                    Money.toCents(rs.getBigDecimal("amount")));
+        }, Date.valueOf(date));
+        return builder.build();
+    }
+}
@@ -0,0 +1,13 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+/**
+ * How updated balances are written back to the database.
+ *
+ * Modes:
+ * - ENTITY: deposits are read as managed JPA entities and flushed by Hibernate, one UPDATE per row
+ * - BULK: deposits are read as projections and changed balances are sent as bound arrays in a few statements
+ */
+public enum WriteBackMode {
+    ENTITY,
+    BULK
+}
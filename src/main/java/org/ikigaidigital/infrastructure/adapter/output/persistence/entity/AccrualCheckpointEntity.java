@@ -0,0 +1,90 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity representing one committed chunk of an accrual run.
+ * Maps to the accrual_run_checkpoints table in the database.
+ */
+@Entity
+@Table(name = "accrual_run_checkpoints")
+public class AccrualCheckpointEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "sequence", nullable = false)
+    private Integer sequence;
+
+    @Column(name = "first_id", nullable = false)
+    private Integer firstId;
+
+    @Column(name = "last_id", nullable = false)
+    private Integer lastId;
+
+    @Column(name = "deposit_count", nullable = false)
+    private Integer depositCount;
+
+    @Column(name = "balance_checksum", nullable = false)
+    private Long balanceChecksum;
+
+    @Column(name = "committed_at", nullable = false)
+    private LocalDateTime committedAt;
+
+    // Default constructor required by JPA
+    public AccrualCheckpointEntity() {
+    }
+
+    public AccrualCheckpointEntity(Long runId, Integer sequence, Integer firstId, Integer lastId,
+                                   Integer depositCount, Long balanceChecksum) {
+        this.runId = runId;
+        this.sequence = sequence;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.depositCount = depositCount;
+        this.balanceChecksum = balanceChecksum;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        committedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public Integer getSequence() {
+        return sequence;
+    }
+
+    public Integer getFirstId() {
+        return firstId;
+    }
+
+    public Integer getLastId() {
+        return lastId;
+    }
+
+    public Integer getDepositCount() {
+        return depositCount;
+    }
+
+    public Long getBalanceChecksum() {
+        return balanceChecksum;
+    }
+
+    public LocalDateTime getCommittedAt() {
+        return committedAt;
+    }
+}
@@ -0,0 +1,159 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity representing one accrual run in the run ledger.
+ * Maps to the accrual_runs table in the database.
+ */
+@Entity
+@Table(name = "accrual_runs")
+public class AccrualRunEntity {
+
+    public static final String STATUS_RUNNING = "running";
+    public static final String STATUS_COMPLETED = "completed";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "period", nullable = false)
+    private Integer period;
+
+    @Column(name = "last_committed_id", nullable = false)
+    private Integer lastCommittedId;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount;
+
+    @Column(name = "balance_checksum", nullable = false)
+    private Long balanceChecksum;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Default constructor required by JPA
+    public AccrualRunEntity() {
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        startedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Create a run positioned before the first deposit.
+     *
+     * @param period the accrual period the run credits, encoded as yyyymm
+     */
+    public static AccrualRunEntity running(int period) {
+        AccrualRunEntity entity = new AccrualRunEntity();
+        entity.status = STATUS_RUNNING;
+        entity.period = period;
+        entity.lastCommittedId = 0;
+        entity.processedCount = 0L;
+        entity.chunkCount = 0;
+        entity.balanceChecksum = 0L;
+        return entity;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public Integer getLastCommittedId() {
+        return lastCommittedId;
+    }
+
+    public void setLastCommittedId(Integer lastCommittedId) {
+        this.lastCommittedId = lastCommittedId;
+    }
+
+    public Long getProcessedCount() {
+        return processedCount;
+    }
+
+    public void setProcessedCount(Long processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    public Integer getChunkCount() {
+        return chunkCount;
+    }
+
+    public void setChunkCount(Integer chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+
+    public Long getBalanceChecksum() {
+        return balanceChecksum;
+    }
+
+    public void setBalanceChecksum(Long balanceChecksum) {
+        this.balanceChecksum = balanceChecksum;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -28,6 +28,9 @@ public class TimeDepositEntity {
     @Column(name = "days", nullable = false)
     private Integer days;
 
+    @Column(name = "last_accrued_period", nullable = false)
+    private Integer lastAccruedPeriod = 0;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -93,6 +96,14 @@ public class TimeDepositEntity {
         this.days = days;
     }
 
+    public Integer getLastAccruedPeriod() {
+        return lastAccruedPeriod;
+    }
+
+    public void setLastAccruedPeriod(Integer lastAccruedPeriod) {
+        this.lastAccruedPeriod = lastAccruedPeriod;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,19 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence.projection;
+
+import org.ikigaidigital.domain.model.PlanType;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only projection of a time_deposits row.
+ *
+ * Populated through JPQL constructor expressions, so no managed entity,
+ * snapshot copy or dirty-checking state is created for the row.
+ */
+public record TimeDepositRow(
+        Integer id,
+        PlanType planType,
+        BigDecimal balance,
+        Integer days
+) {
+}
@@ -0,0 +1,18 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a withdrawals row, with the id of its time deposit.
+ *
+ * Populated through JPQL constructor expressions, so neither the withdrawal nor
+ * its deposit is loaded as a managed entity.
+ */
+public record WithdrawalRow(
+        Integer timeDepositId,
+        Integer id,
+        BigDecimal amount,
+        LocalDate withdrawalDate
+) {
+}
@@ -0,0 +1,203 @@
+package org.ikigaidigital.infrastructure.config;
+
+import org.ikigaidigital.application.port.output.PartitionLeasePort;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort;
+import org.ikigaidigital.application.service.AccrualJobRegistry;
+import org.ikigaidigital.application.service.AccrualSettings;
+import org.ikigaidigital.application.service.ClusteredAccrualEngine;
+import org.ikigaidigital.application.service.PartitionedAccrualEngine;
+import org.ikigaidigital.application.service.ShadowComparison;
+import org.ikigaidigital.domain.model.CalculationBackend;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wiring for the concurrent parts of the balance update run.
+ *
+ * Beans configured:
+ * - accrualExecutor (bounded pool sized by time-deposit.accrual.parallelism)
+ * - shadowExecutor (single low-priority thread for shadow comparisons)
+ * - ShadowComparison (compares a sample of each run with a candidate backend)
+ * - PartitionedAccrualEngine (runs partitions on the accrual executor)
+ * - ClusteredAccrualEngine (leases partitions shared by all nodes, workers on the accrual executor)
+ * - accrualJobExecutor (single thread for asynchronous balance update jobs)
+ * - AccrualJobRegistry (tracks asynchronous jobs for polling)
+ */
+@Configuration
+public class AccrualExecutionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(AccrualExecutionConfig.class);
+
+    /**
+     * Jobs waiting behind the running one. The registry only admits one active
+     * job at a time, so the queue never grows beyond this in practice.
+     */
+    private static final int JOB_QUEUE_CAPACITY = 1;
+
+    /**
+     * Samples waiting for comparison. Further samples are dropped rather than
+     * slowing down the run that produced them.
+     */
+    private static final int SHADOW_QUEUE_CAPACITY = 64;
+
+    /**
+     * Create the bounded executor used for accrual partitions.
+     * The pool size caps how many database connections a run borrows at once.
+     *
+     * @param accrualSettings the accrual settings
+     * @return the accrual executor
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService accrualExecutor(AccrualSettings accrualSettings) {
+        return Executors.newFixedThreadPool(
+                accrualSettings.parallelism(), new CustomizableThreadFactory("accrual-worker-"));
+    }
+
+    /**
+     * Create the executor that runs shadow comparisons: one thread at minimum
+     * priority, so comparisons only use CPU the accrual workers leave idle.
+     *
+     * @return the shadow executor
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService shadowExecutor() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("accrual-shadow-");
+        threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SHADOW_QUEUE_CAPACITY), threadFactory);
+    }
+
+    /**
+     * Create the ShadowComparison bean.
+     * Shadow mode is turned off with a warning if the candidate backend cannot be loaded,
+     * as it would only compare the reference backend with itself.
+     *
+     * @param shadowExecutor   the shadow executor
+     * @param calculator       the configured calculator, used to check the candidate backend
+     * @param sampleRate       fraction of each chunk to compare; 0 disables shadow mode
+     * @param candidateBackend backend compared with the one in use
+     * @return the ShadowComparison instance
+     */
+    @Bean
+    public ShadowComparison shadowComparison(
+            @Qualifier("shadowExecutor") ExecutorService shadowExecutor,
+            TimeDepositCalculator calculator,
+            @Value("${time-deposit.calculation.shadow.sample-rate:0}") double sampleRate,
+            @Value("${time-deposit.calculation.shadow.candidate-backend:vector}") CalculationBackend candidateBackend) {
+        ShadowComparison shadowComparison = new ShadowComparison(shadowExecutor, sampleRate, candidateBackend);
+        if (shadowComparison.isEnabled()) {
+            try {
+                calculator.withBackend(candidateBackend);
+            } catch (IllegalStateException e) {
+                log.warn("Shadow candidate backend {} is not available (start the JVM with --add-modules "
+                        + "jdk.incubator.vector); shadow mode is disabled", candidateBackend);
+                return ShadowComparison.disabled();
+            }
+            log.info("Shadow mode compares {} of each accrual chunk with the {} backend", sampleRate, candidateBackend);
+        }
+        return shadowComparison;
+    }
+
+    /**
+     * Create the PartitionedAccrualEngine bean.
+     *
+     * @param persistencePort       the time deposit persistence port
+     * @param transactionOperations transaction boundary per partition
+     * @param shadowComparison      applies the calculator to each partition
+     * @param accrualExecutor       the accrual executor
+     * @param accrualSettings       the accrual settings
+     * @return the PartitionedAccrualEngine instance
+     */
+    @Bean
+    public PartitionedAccrualEngine partitionedAccrualEngine(
+            TimeDepositPersistencePort persistencePort,
+            TransactionOperations transactionOperations,
+            ShadowComparison shadowComparison,
+            @Qualifier("accrualExecutor") ExecutorService accrualExecutor,
+            AccrualSettings accrualSettings) {
+        return new PartitionedAccrualEngine(
+                persistencePort, transactionOperations, shadowComparison, accrualExecutor, accrualSettings.chunkSize());
+    }
+
+    /**
+     * Create the ClusteredAccrualEngine bean.
+     * Each node contributes as many workers as its accrual executor has threads.
+     *
+     * @param persistencePort       the time deposit persistence port
+     * @param partitionLeasePort    the partition lease port
+     * @param transactionOperations transaction boundary per claim and per partition
+     * @param shadowComparison      applies the calculator to each partition
+     * @param accrualExecutor       the accrual executor
+     * @param accrualProperties     the accrual properties
+     * @return the ClusteredAccrualEngine instance
+     */
+    @Bean
+    public ClusteredAccrualEngine clusteredAccrualEngine(
+            TimeDepositPersistencePort persistencePort,
+            PartitionLeasePort partitionLeasePort,
+            TransactionOperations transactionOperations,
+            ShadowComparison shadowComparison,
+            @Qualifier("accrualExecutor") ExecutorService accrualExecutor,
+            AccrualProperties accrualProperties) {
+        AccrualProperties.Cluster cluster = accrualProperties.cluster();
+        return new ClusteredAccrualEngine(
+                persistencePort, partitionLeasePort, transactionOperations, shadowComparison, accrualExecutor,
+                accrualProperties.parallelism(), accrualProperties.chunkSize(),
+                nodeId(cluster.nodeId()), cluster.leaseDuration(), cluster.pollInterval());
+    }
+
+    /**
+     * Use the configured node id, else the host name (the pod name on Kubernetes),
+     * suffixed so that restarts of the same host are distinct lease owners.
+     */
+    private static String nodeId(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured;
+        }
+        String host = System.getenv().getOrDefault("HOSTNAME", "node");
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Create the bounded executor that runs asynchronous balance update jobs.
+     * It is separate from the partition pool so a parallel job can fan out
+     * without starving itself of workers.
+     *
+     * @return the accrual job executor
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService accrualJobExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(JOB_QUEUE_CAPACITY), new CustomizableThreadFactory("accrual-job-"));
+    }
+
+    /**
+     * Create the AccrualJobRegistry bean.
+     *
+     * @param accrualJobExecutor the accrual job executor
+     * @param clock              the clock used for job timestamps
+     * @return the AccrualJobRegistry instance
+     */
+    @Bean
+    public AccrualJobRegistry accrualJobRegistry(
+            @Qualifier("accrualJobExecutor") ExecutorService accrualJobExecutor,
+            Clock clock) {
+        return new AccrualJobRegistry(accrualJobExecutor, clock, AccrualJobRegistry.DEFAULT_MAX_RETAINED_JOBS);
+    }
+}
@@ -0,0 +1,53 @@
+package org.ikigaidigital.infrastructure.config;
+
+import org.ikigaidigital.application.service.AccrualMode;
+import org.ikigaidigital.application.service.AccrualSettings;
+import org.ikigaidigital.domain.model.InterestBasis;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Externalized configuration for the balance update run.
+ *
+ * Bound from the {@code time-deposit.accrual} prefix and translated into the
+ * framework-free {@link AccrualSettings} used by the application layer.
+ *
+ * @param mode          execution mode (in-memory, streaming, parallel, sql-pushdown or cluster)
+ * @param chunkSize     number of deposits per chunk in streaming mode, id span per partition in parallel and cluster mode
+ * @param parallelism   number of partitions processed concurrently in parallel and cluster mode
+ * @param cluster       partition leasing settings for cluster mode
+ * @param interestBasis balance interest is calculated on (closing-balance or average-daily-balance)
+ */
+@ConfigurationProperties(prefix = "time-deposit.accrual")
+public record AccrualProperties(
+        @DefaultValue("in-memory") AccrualMode mode,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue Cluster cluster,
+        @DefaultValue("closing-balance") InterestBasis interestBasis
+) {
+
+    /**
+     * Partition leasing settings for cluster mode.
+     *
+     * @param leaseDuration how long a node may hold a partition before others may reclaim it
+     * @param nodeId        lease owner name of this node; generated when blank
+     * @param pollInterval  how often the node that started a run checks partitions leased elsewhere
+     */
+    public record Cluster(
+            @DefaultValue("5m") Duration leaseDuration,
+            String nodeId,
+            @DefaultValue("5s") Duration pollInterval
+    ) {}
+
+    /**
+     * Convert to the application layer settings.
+     *
+     * @return the accrual settings
+     */
+    public AccrualSettings toSettings() {
+        return new AccrualSettings(mode, chunkSize, parallelism, interestBasis);
+    }
+}
@@ -1,5 +1,9 @@
 package org.ikigaidigital.infrastructure.config;
 
+import org.ikigaidigital.application.port.output.InterestRulePersistencePort;
+import org.ikigaidigital.application.service.AccrualSettings;
+import org.ikigaidigital.application.service.InterestRuleRegistry;
+import org.ikigaidigital.domain.model.CalculationBackend;
 import org.ikigaidigital.domain.model.InterestStrategyFactory;
 import org.ikigaidigital.domain.model.TimeDepositCalculator;
 import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
@@ -7,10 +11,23 @@ import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
 import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
 import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
 import org.ikigaidigital.domain.model.strategy.InterestCalculationStrategy;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.PortfolioChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Composition Root - the single place where the dependency graph is assembled.
@@ -26,11 +43,19 @@ import java.util.List;
  * Beans configured:
  * - Interest calculation strategies (Basic, Student, Premium, Internal)
  * - InterestStrategyFactory (aggregates strategies)
- * - TimeDepositCalculator (uses factory for calculations)
+ * - TimeDepositCalculator (uses factory for calculations, scalar or vector backend)
+ * - InterestRuleRegistry (stored rule versions, falling back to the TimeDepositCalculator)
+ * - interestRuleRefresher (reloads the rules every time-deposit.rules.refresh-interval)
+ * - portfolioChangeListenerExecutor (keeps the portfolio version current from database notifications)
+ * - AccrualSettings (how the balance update run is executed)
+ * - Clock (UTC; decides the accrual period and job timestamps)
  */
 @Configuration
+@EnableConfigurationProperties(AccrualProperties.class)
 public class CompositionRootConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(CompositionRootConfig.class);
+
     /**
      * Create the BasicInterestStrategy bean.
      *
@@ -86,13 +111,107 @@ public class CompositionRootConfig {
     /**
      * Create the TimeDepositCalculator bean.
      * This allows the domain class to remain framework-agnostic.
+     * Startup fails if the configured backend cannot be loaded, rather than running
+     * on another backend than the one asked for.
+     *
+     * @throws IllegalStateException if the vector backend is configured without the Vector API module
      *
      * @param strategyFactory the strategy factory for interest calculations
+     * @param backend         how deposit batches are credited
      * @return the TimeDepositCalculator instance
      */
     @Bean
-    public TimeDepositCalculator timeDepositCalculator(InterestStrategyFactory strategyFactory) {
-        return new TimeDepositCalculator(strategyFactory);
+    public TimeDepositCalculator timeDepositCalculator(
+            InterestStrategyFactory strategyFactory,
+            @Value("${time-deposit.calculation.backend:scalar}") CalculationBackend backend) {
+        try {
+            return new TimeDepositCalculator(strategyFactory, backend);
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException(e.getMessage() + " or set time-deposit.calculation.backend to scalar", e);
+        }
+    }
+
+    /**
+     * Create the InterestRuleRegistry bean.
+     * The built-in calculator applies while no rule versions are stored.
+     *
+     * @param interestRulePersistencePort the interest rule persistence port
+     * @param timeDepositCalculator       the calculator of the built-in strategies
+     * @param transactionOperations       transaction boundary of a load
+     * @param clock                       the clock deciding the current period
+     * @return the InterestRuleRegistry instance
+     */
+    @Bean
+    public InterestRuleRegistry interestRuleRegistry(
+            InterestRulePersistencePort interestRulePersistencePort,
+            TimeDepositCalculator timeDepositCalculator,
+            TransactionOperations transactionOperations,
+            Clock clock) {
+        return new InterestRuleRegistry(interestRulePersistencePort, timeDepositCalculator, transactionOperations, clock);
+    }
+
+    /**
+     * Create the single-thread scheduler that reloads the interest rules periodically,
+     * so that rule versions inserted into the table are picked up without a restart.
+     * A zero interval disables the refresh; the rules are then reloaded on request only.
+     *
+     * @param interestRuleRegistry the registry to reload
+     * @param refreshInterval      time between two reloads
+     * @return the refresh scheduler
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService interestRuleRefresher(
+            InterestRuleRegistry interestRuleRegistry,
+            @Value("${time-deposit.rules.refresh-interval:1m}") Duration refreshInterval) {
+        ScheduledExecutorService scheduler =
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("interest-rules-"));
+        if (!refreshInterval.isZero() && !refreshInterval.isNegative()) {
+            long millis = refreshInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    interestRuleRegistry.reloadInterestRules();
+                } catch (RuntimeException e) {
+                    // Keep the current rules and try again at the next interval
+                    log.error("Reloading the interest rules failed", e);
+                }
+            }, millis, millis, TimeUnit.MILLISECONDS);
+        }
+        return scheduler;
     }
-}
 
+    /**
+     * Create the single thread that listens for committed portfolio writes, so that the
+     * portfolio version of this instance follows writes made anywhere.
+     *
+     * @param portfolioChangeListener the listener to run
+     * @return the listener executor
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService portfolioChangeListenerExecutor(PortfolioChangeListener portfolioChangeListener) {
+        ExecutorService executor =
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("portfolio-changes-"));
+        executor.execute(portfolioChangeListener);
+        return executor;
+    }
+
+    /**
+     * Create the AccrualSettings bean from externalized configuration.
+     *
+     * @param accrualProperties the bound accrual properties
+     * @return the AccrualSettings instance
+     */
+    @Bean
+    public AccrualSettings accrualSettings(AccrualProperties accrualProperties) {
+        return accrualProperties.toSettings();
+    }
+
+    /**
+     * Create the Clock bean.
+     *
+     * @return the system clock in UTC
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
@@ -0,0 +1,24 @@
+-- V10__create_interest_rules_table.sql
+-- Effective-dated interest rule versions, loaded and compiled by the application at runtime
+
+CREATE TABLE interest_rules (
+    id SERIAL PRIMARY KEY,
+    plan_type VARCHAR(50) NOT NULL CHECK (plan_type IN ('basic', 'student', 'premium', 'internal')),
+    -- First accrual period (yyyymm) the version applies to, until the plan's next version
+    effective_period INTEGER NOT NULL CHECK (effective_period % 100 BETWEEN 1 AND 12),
+    -- Exact to six decimal places, e.g. 0.010000 for 1%
+    annual_rate DECIMAL(9, 6) NOT NULL,
+    -- Interest accrues only when days > minimum and days < maximum; NULL means unbounded
+    minimum_days_exclusive INTEGER,
+    maximum_days_exclusive INTEGER,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_interest_rules_plan_period UNIQUE (plan_type, effective_period),
+    CONSTRAINT chk_interest_rules_window CHECK (minimum_days_exclusive < maximum_days_exclusive)
+);
+
+-- The rules of the built-in strategies, in force from the first period ever accrued
+INSERT INTO interest_rules (plan_type, effective_period, annual_rate, minimum_days_exclusive, maximum_days_exclusive) VALUES
+    ('basic', 200001, 0.010000, 30, NULL),
+    ('student', 200001, 0.030000, 30, 366),
+    ('premium', 200001, 0.050000, 45, NULL),
+    ('internal', 200001, 0.085000, NULL, 300);
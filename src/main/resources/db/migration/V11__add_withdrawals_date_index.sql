@@ -0,0 +1,7 @@
+-- V11__add_withdrawals_date_index.sql
+-- Serves the withdrawal index of average daily balance runs:
+-- SELECT ... FROM withdrawals WHERE withdrawal_date > ? GROUP BY time_deposit_id, withdrawal_date
+
+-- A run only reads withdrawals dated after the start of its period, a small recent slice
+-- of the table; the covering index answers the query without visiting the heap
+CREATE INDEX idx_withdrawals_date_deposit ON withdrawals(withdrawal_date, time_deposit_id) INCLUDE (amount);
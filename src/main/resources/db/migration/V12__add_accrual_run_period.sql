@@ -0,0 +1,10 @@
+-- V12__add_accrual_run_period.sql
+-- Records the period (yyyymm) a run credits, so an unfinished run is only resumed for its own period
+
+ALTER TABLE accrual_runs ADD COLUMN period INTEGER;
+
+-- Runs started before this migration credited the month they were started in
+UPDATE accrual_runs
+SET period = EXTRACT(YEAR FROM started_at)::int * 100 + EXTRACT(MONTH FROM started_at)::int;
+
+ALTER TABLE accrual_runs ALTER COLUMN period SET NOT NULL;
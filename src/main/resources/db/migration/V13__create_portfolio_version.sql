@@ -0,0 +1,35 @@
+-- V13__create_portfolio_version.sql
+-- Keeps a portfolio version that advances with every committed write to deposits or withdrawals,
+-- so a response built at one version is known to be current while the version is unchanged
+
+CREATE TABLE portfolio_version (
+    id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    version BIGINT NOT NULL
+);
+
+-- Start from the clock, so that a recreated database does not hand out the versions of an older one
+INSERT INTO portfolio_version (id, version)
+VALUES (1, (EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000)::bigint);
+
+-- Advance the version once per writing transaction, whichever client writes: the first write
+-- updates the row and flags the transaction, later statements only read the flag.
+-- The update takes the row lock, so concurrent writers commit their bumps one after another,
+-- and a reader never sees the new version before the writes it covers.
+CREATE FUNCTION bump_portfolio_version() RETURNS trigger AS $$
+BEGIN
+    IF current_setting('portfolio.version_bumped', true) IS DISTINCT FROM 'on' THEN
+        UPDATE portfolio_version SET version = version + 1 WHERE id = 1;
+        -- Transaction-local: reset at commit or rollback, and undone with a rolled-back savepoint
+        PERFORM set_config('portfolio.version_bumped', 'on', true);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_time_deposits_portfolio_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON time_deposits
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_portfolio_version();
+
+CREATE TRIGGER trg_withdrawals_portfolio_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON withdrawals
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_portfolio_version();
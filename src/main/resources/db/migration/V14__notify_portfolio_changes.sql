@@ -0,0 +1,64 @@
+-- V14__notify_portfolio_changes.sql
+-- Replaces the portfolio_version row of V13 with a notification per writing transaction.
+-- Bumping one shared row made every writer hold its lock until commit, so concurrent
+-- partition transactions committed one after another; each instance now keeps the
+-- version in memory and advances it when the notification arrives
+
+DROP TRIGGER trg_time_deposits_portfolio_version ON time_deposits;
+DROP TRIGGER trg_withdrawals_portfolio_version ON withdrawals;
+DROP FUNCTION bump_portfolio_version();
+DROP TABLE portfolio_version;
+
+-- NOTIFY takes no row lock, folds the identical notifications of one transaction into one
+-- and delivers it only after commit, so listeners never hear of uncommitted or rolled-back writes.
+-- Statements that changed no row, such as a rerun finding every deposit already credited,
+-- send nothing and leave cached responses valid
+CREATE FUNCTION notify_portfolio_changed() RETURNS trigger AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM changed_rows) THEN
+        PERFORM pg_notify('portfolio_changed', '');
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- TRUNCATE has no transition table
+CREATE FUNCTION notify_portfolio_truncated() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('portfolio_changed', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A trigger with a transition table handles a single event
+CREATE TRIGGER trg_time_deposits_inserted
+    AFTER INSERT ON time_deposits REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_portfolio_changed();
+
+CREATE TRIGGER trg_time_deposits_updated
+    AFTER UPDATE ON time_deposits REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_portfolio_changed();
+
+CREATE TRIGGER trg_time_deposits_deleted
+    AFTER DELETE ON time_deposits REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_portfolio_changed();
+
+CREATE TRIGGER trg_time_deposits_truncated
+    AFTER TRUNCATE ON time_deposits
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_portfolio_truncated();
+
+CREATE TRIGGER trg_withdrawals_inserted
+    AFTER INSERT ON withdrawals REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_portfolio_changed();
+
+CREATE TRIGGER trg_withdrawals_updated
+    AFTER UPDATE ON withdrawals REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_portfolio_changed();
+
+CREATE TRIGGER trg_withdrawals_deleted
+    AFTER DELETE ON withdrawals REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_portfolio_changed();
+
+CREATE TRIGGER trg_withdrawals_truncated
+    AFTER TRUNCATE ON withdrawals
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_portfolio_truncated();
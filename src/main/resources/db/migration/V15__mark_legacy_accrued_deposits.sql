@@ -0,0 +1,8 @@
+-- V15__mark_legacy_accrued_deposits.sql
+-- Deposits that existed before V7 were credited by the balance update of the time, which recorded no period,
+-- yet V7 gave them 0 ("never credited"). A catch-up would then credit them every period it covers, including
+-- months the old update already paid. Mark them -1 instead: credited, period unknown.
+-- -1 still sorts below every period, so the next monthly run credits and stamps them as usual;
+-- a catch-up refuses them unless it is told the period the old update last credited
+
+UPDATE time_deposits SET last_accrued_period = -1 WHERE last_accrued_period = 0;
@@ -0,0 +1,33 @@
+-- V6__create_accrual_run_ledger.sql
+-- Creates the ledger used to checkpoint chunked accrual runs so they can resume after a crash
+
+CREATE TABLE accrual_runs (
+    id BIGSERIAL PRIMARY KEY,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('running', 'completed')),
+    last_committed_id INTEGER NOT NULL DEFAULT 0,
+    processed_count BIGINT NOT NULL DEFAULT 0,
+    chunk_count INTEGER NOT NULL DEFAULT 0,
+    balance_checksum BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+-- At most one run may be in progress; a second one would credit the same deposits twice
+CREATE UNIQUE INDEX uq_accrual_runs_running ON accrual_runs(status) WHERE status = 'running';
+
+CREATE TABLE accrual_run_checkpoints (
+    id BIGSERIAL PRIMARY KEY,
+    run_id BIGINT NOT NULL,
+    sequence INTEGER NOT NULL,
+    first_id INTEGER NOT NULL,
+    last_id INTEGER NOT NULL,
+    deposit_count INTEGER NOT NULL,
+    balance_checksum BIGINT NOT NULL,
+    committed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_accrual_run
+        FOREIGN KEY (run_id)
+        REFERENCES accrual_runs(id)
+        ON DELETE RESTRICT,
+    CONSTRAINT uq_accrual_run_checkpoint UNIQUE (run_id, sequence)
+);
@@ -0,0 +1,11 @@
+-- V7__add_last_accrued_period.sql
+-- Records the period (yyyymm) a deposit was last credited for, so each period is accrued at most once
+
+-- 0 means the deposit has never been credited
+ALTER TABLE time_deposits ADD COLUMN last_accrued_period INTEGER NOT NULL DEFAULT 0;
+
+-- A run for period P selects last_accrued_period < P. Credited deposits leave that range, but deposits
+-- no rule made eligible for P are never written and stay in it, so a rerun still walks their entries.
+-- The period is a run parameter, so a partial index (whose predicate must be constant) cannot encode it;
+-- leading on the period and carrying the id keeps the pending rows clustered and ordered for keyset reads.
+CREATE INDEX idx_time_deposits_last_accrued_period ON time_deposits(last_accrued_period, id);
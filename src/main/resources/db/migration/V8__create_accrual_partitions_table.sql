@@ -0,0 +1,18 @@
+-- V8__create_accrual_partitions_table.sql
+-- Id-range partitions of an accrual period, leased by application nodes in cluster mode
+
+CREATE TABLE accrual_partitions (
+    period INTEGER NOT NULL,
+    min_id INTEGER NOT NULL,
+    max_id INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'pending' CHECK (status IN ('pending', 'done')),
+    lease_owner VARCHAR(255),
+    lease_expires_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    updated_count INTEGER,
+    completed_at TIMESTAMP,
+    PRIMARY KEY (period, min_id)
+);
+
+-- Claims scan only the pending partitions of a period in id order
+CREATE INDEX idx_accrual_partitions_pending ON accrual_partitions(period, min_id) WHERE status = 'pending';
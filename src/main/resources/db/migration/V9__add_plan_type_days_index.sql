@@ -0,0 +1,9 @@
+-- V9__add_plan_type_days_index.sql
+-- Serves the eligibility predicate of accrual reads: (plan_type = ? AND days > ? AND days < ?) OR ...
+
+-- Each eligibility window is a range on days within one plan, so deposits in a grace period
+-- or past their term are skipped by the index instead of being read and filtered
+CREATE INDEX idx_time_deposits_plan_type_days ON time_deposits(plan_type, days);
+
+-- The composite index covers every lookup the single-column index served
+DROP INDEX idx_time_deposits_plan_type;
@@ -1,10 +1,16 @@
 package org.ikigaidigital;
 
+import org.ikigaidigital.domain.model.CalculationBackend;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.InterestBasis;
 import org.ikigaidigital.domain.model.InterestStrategyFactory;
 import org.ikigaidigital.domain.model.PlanType;
 import org.ikigaidigital.domain.model.TimeDeposit;
 import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.WithdrawalIndex;
 import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
 import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
 import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +18,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -241,6 +252,309 @@ public class TimeDepositCalculatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Projected Interest")
+    class ProjectedInterest {
+
+        @Test
+        @DisplayName("Returns the rounded interest without changing the balance")
+        void returnsInterest_withoutChangingBalance() {
+            TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 7250.00, 45);
+
+            double interest = calculator.calculateMonthlyInterest(deposit);
+
+            assertThat(interest).isEqualTo(6.04);
+            assertThat(deposit.getBalance()).isEqualTo(7250.00);
+            assertThat(deposit.isBalanceChanged()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Matches the interest credited by updateBalance")
+        void matchesUpdateBalance() {
+            TimeDeposit projected = new TimeDeposit(1, PlanType.STUDENT, 12345.67, 100);
+            TimeDeposit credited = new TimeDeposit(2, PlanType.STUDENT, 12345.67, 100);
+
+            double interest = calculator.calculateMonthlyInterest(projected);
+            calculator.updateBalance(new ArrayList<>(List.of(credited)));
+
+            assertThat(credited.getBalance()).isEqualTo(12345.67 + interest);
+        }
+    }
+
+    @Nested
+    @DisplayName("Columnar Batch")
+    class ColumnarBatch {
+
+        @Test
+        @DisplayName("Credits each plan's rows in place and leaves rows without a strategy unchanged")
+        void creditsRowsByPlan() {
+            DepositBatch batch = new DepositBatch(4);
+            batch.add(1, PlanType.PREMIUM, 5000000L, 90);
+            batch.add(2, PlanType.BASIC, 1000000L, 45);
+            batch.add(3, PlanType.INTERNAL, 1000000L, 45);
+            batch.add(4, PlanType.BASIC, 1000000L, 10);
+
+            calculator.accrue(batch);
+
+            assertThat(batch.balanceCents()).startsWith(5020833L, 1000833L, 1000000L, 1000000L);
+        }
+
+        @Test
+        @DisplayName("Matches exact decimal HALF_UP arithmetic for every deposit, including half-cent ties")
+        void matchesExactDecimalArithmetic() {
+            InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                    new BasicInterestStrategy(), new StudentInterestStrategy(),
+                    new PremiumInterestStrategy(), new InternalInterestStrategy()));
+            TimeDepositCalculator fullCalculator = new TimeDepositCalculator(factory);
+            Map<PlanType, InterestRule> rules = new EnumMap<>(PlanType.class);
+            factory.getRules().forEach(rule -> rules.put(rule.planType(), rule));
+            Random random = new Random(42);
+            List<TimeDeposit> deposits = new ArrayList<>();
+            for (int id = 1; id <= 20_000; id++) {
+                PlanType planType = PlanType.values()[random.nextInt(PlanType.values().length)];
+                deposits.add(TimeDeposit.ofCents(id, planType, random.nextInt(100_000_000), random.nextInt(500)));
+            }
+            DepositBatch batch = DepositBatch.of(deposits);
+
+            fullCalculator.accrue(batch);
+
+            for (int row = 0; row < deposits.size(); row++) {
+                TimeDeposit deposit = deposits.get(row);
+                InterestRule rule = rules.get(deposit.getPlanType());
+                long expected = deposit.getBalanceCents();
+                if (rule.appliesTo(deposit.getDays())) {
+                    expected += BigDecimal.valueOf(deposit.getBalanceCents())
+                            .multiply(BigDecimal.valueOf(rule.annualRate()))
+                            .divide(BigDecimal.valueOf(InterestRule.MONTHS_PER_YEAR), 0, RoundingMode.HALF_UP)
+                            .longValueExact();
+                }
+                assertThat(batch.balanceCents()[row]).as("deposit %d", deposit.getId()).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("Rounds an exact half-cent tie up")
+        void roundsHalfCentTieUp() {
+            // 6.00 * 1% / 12 = 0.005 exactly, which binary floating point stores just below the tie
+            List<TimeDeposit> plans = new ArrayList<>(List.of(new TimeDeposit(1, PlanType.BASIC, 6.00, 45)));
+
+            calculator.updateBalance(plans);
+
+            assertThat(plans.get(0).getBalanceCents()).isEqualTo(601L);
+        }
+
+        @Test
+        @DisplayName("Does not allocate when accruing a batch")
+        void accrueDoesNotAllocate() {
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            DepositBatch batch = new DepositBatch(10_000);
+            for (int id = 1; id <= 10_000; id++) {
+                batch.add(id, PlanType.values()[id % PlanType.values().length], 1_000_000L + id, id % 500);
+            }
+            for (int warmUp = 0; warmUp < 20; warmUp++) {
+                calculator.accrue(batch);
+            }
+            long threadId = Thread.currentThread().getId();
+
+            long before = threads.getThreadAllocatedBytes(threadId);
+            calculator.accrue(batch);
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+            // Allow for a stray allocation by the interpreter, far below one byte per row
+            assertThat(allocated).isLessThan(1_000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Vector Backend")
+    class VectorBackend {
+
+        private final InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(), new StudentInterestStrategy(),
+                new PremiumInterestStrategy(), new InternalInterestStrategy()));
+
+        @Test
+        @DisplayName("Is used when the Vector API module is available")
+        void isAvailableUnderTest() {
+            // Surefire starts the JVM with --add-modules jdk.incubator.vector
+            assertThat(new TimeDepositCalculator(factory, CalculationBackend.VECTOR).getBackend())
+                    .isEqualTo(CalculationBackend.VECTOR);
+            assertThat(new TimeDepositCalculator(factory).getBackend()).isEqualTo(CalculationBackend.SCALAR);
+        }
+
+        @Test
+        @DisplayName("Can be derived from a calculator with the same strategies")
+        void isDerivedWithBackend() {
+            TimeDepositCalculator scalar = new TimeDepositCalculator(factory);
+
+            TimeDepositCalculator vector = scalar.withBackend(CalculationBackend.VECTOR);
+
+            assertThat(vector.getBackend()).isEqualTo(CalculationBackend.VECTOR);
+            assertThat(vector.getInterestRules()).isEqualTo(scalar.getInterestRules());
+            assertThat(scalar.getBackend()).isEqualTo(CalculationBackend.SCALAR);
+        }
+
+        @Test
+        @DisplayName("Credits exactly what the scalar backend credits")
+        void matchesScalarBackend() {
+            Random random = new Random(7);
+            PlanType[] planTypes = PlanType.values();
+            // Odd size so that the tail after the last full vector is exercised
+            int size = 50_001;
+            DepositBatch scalar = new DepositBatch(size);
+            DepositBatch vector = new DepositBatch(size);
+            for (int id = 1; id <= size; id++) {
+                PlanType planType = random.nextInt(20) == 0 ? null : planTypes[random.nextInt(planTypes.length)];
+                long balanceCents = random.nextInt(10) == 0
+                        ? -random.nextInt(1_000_000)
+                        : (long) Math.pow(10, random.nextDouble() * 13);
+                int days = random.nextInt(800);
+                scalar.add(id, planType, balanceCents, days);
+                vector.add(id, planType, balanceCents, days);
+            }
+
+            new TimeDepositCalculator(factory, CalculationBackend.SCALAR).accrue(scalar);
+            new TimeDepositCalculator(factory, CalculationBackend.VECTOR).accrue(vector);
+
+            assertThat(vector.balanceCents()).isEqualTo(scalar.balanceCents());
+        }
+
+        @Test
+        @DisplayName("Rounds half-cent ties away from zero and respects every threshold")
+        void roundsTiesAndThresholds() {
+            int[] days = {0, 29, 30, 31, 44, 45, 46, 299, 300, 301, 365, 366, 367};
+            DepositBatch scalar = new DepositBatch(0);
+            DepositBatch vector = new DepositBatch(0);
+            int id = 0;
+            for (PlanType planType : PlanType.values()) {
+                for (int age : days) {
+                    // 6.00 basic and its negation earn exactly half a cent
+                    for (long balanceCents : new long[]{600L, -600L, 1_000_000L, Long.MAX_VALUE / 1_000}) {
+                        scalar.add(++id, planType, balanceCents, age);
+                        vector.add(id, planType, balanceCents, age);
+                    }
+                }
+            }
+
+            new TimeDepositCalculator(factory, CalculationBackend.SCALAR).accrue(scalar);
+            new TimeDepositCalculator(factory, CalculationBackend.VECTOR).accrue(vector);
+
+            assertThat(vector.balanceCents()).isEqualTo(scalar.balanceCents());
+            assertThat(vector.balanceCents()[4 * 3]).isEqualTo(601L);
+            assertThat(vector.balanceCents()[4 * 3 + 1]).isEqualTo(-601L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Average Daily Balance")
+    class AverageDailyBalance {
+
+        private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+        private final InterestStrategyFactory factory = new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(), new StudentInterestStrategy(),
+                new PremiumInterestStrategy(), new InternalInterestStrategy()));
+
+        @Test
+        @DisplayName("Credits the interest on the average daily balance to the current balance")
+        void creditsInterestOnAverage() {
+            // 15100.00 for 10 days, then 12000.00 for 21 days: average 13000.00
+            WithdrawalIndex withdrawals = new WithdrawalIndex.Builder()
+                    .add(1, LocalDate.of(2024, 1, 11), 310_000)
+                    .build();
+            List<TimeDeposit> plans = List.of(
+                    new TimeDeposit(1, PlanType.BASIC, 12000.00, 45),
+                    new TimeDeposit(2, PlanType.BASIC, 12000.00, 45));
+
+            calculator.withAverageDailyBalance(withdrawals, PERIOD).updateBalance(plans);
+
+            // 13000 * 0.01 / 12 = 10.83 and 12000 * 0.01 / 12 = 10.00
+            assertThat(plans.get(0).getBalance()).isEqualTo(12010.83);
+            assertThat(plans.get(1).getBalance()).isEqualTo(12010.00);
+        }
+
+        @Test
+        @DisplayName("Leaves deposits that earn no interest unchanged")
+        void leavesIneligibleDepositsUnchanged() {
+            WithdrawalIndex withdrawals = new WithdrawalIndex.Builder()
+                    .add(1, LocalDate.of(2024, 2, 1), 100_000)
+                    .build();
+            List<TimeDeposit> plans = List.of(new TimeDeposit(1, PlanType.BASIC, 12000.00, 30));
+
+            calculator.withAverageDailyBalance(withdrawals, PERIOD).updateBalance(plans);
+
+            assertThat(plans.get(0).getBalance()).isEqualTo(12000.00);
+        }
+
+        @Test
+        @DisplayName("Reports its basis and keeps it across backends")
+        void keepsBasisAcrossBackends() {
+            TimeDepositCalculator scalar = new TimeDepositCalculator(factory)
+                    .withAverageDailyBalance(WithdrawalIndex.EMPTY, PERIOD);
+
+            TimeDepositCalculator vector = scalar.withBackend(CalculationBackend.VECTOR);
+
+            assertThat(calculator.getInterestBasis()).isEqualTo(InterestBasis.CLOSING_BALANCE);
+            assertThat(scalar.getInterestBasis()).isEqualTo(InterestBasis.AVERAGE_DAILY_BALANCE);
+            assertThat(vector.getInterestBasis()).isEqualTo(InterestBasis.AVERAGE_DAILY_BALANCE);
+            assertThat(vector.getBackend()).isEqualTo(CalculationBackend.VECTOR);
+        }
+
+        @Test
+        @DisplayName("Credits the same on the scalar and vector backends")
+        void matchesAcrossBackends() {
+            Random random = new Random(19);
+            PlanType[] planTypes = PlanType.values();
+            int size = 10_001;
+            WithdrawalIndex.Builder builder = new WithdrawalIndex.Builder();
+            DepositBatch scalar = new DepositBatch(size);
+            DepositBatch vector = new DepositBatch(size);
+            for (int id = 1; id <= size; id++) {
+                long balanceCents = random.nextInt(100_000_000);
+                int days = random.nextInt(800);
+                PlanType planType = planTypes[random.nextInt(planTypes.length)];
+                scalar.add(id, planType, balanceCents, days);
+                vector.add(id, planType, balanceCents, days);
+                for (int day = 1 + random.nextInt(40); day <= 60; day += 1 + random.nextInt(40)) {
+                    builder.add(id, PERIOD.atDay(1).plusDays(day), random.nextInt(1_000_000));
+                }
+            }
+            WithdrawalIndex withdrawals = builder.build();
+
+            new TimeDepositCalculator(factory, CalculationBackend.SCALAR)
+                    .withAverageDailyBalance(withdrawals, PERIOD).accrue(scalar);
+            new TimeDepositCalculator(factory, CalculationBackend.VECTOR)
+                    .withAverageDailyBalance(withdrawals, PERIOD).accrue(vector);
+
+            assertThat(vector.balanceCents()).isEqualTo(scalar.balanceCents());
+        }
+
+        @Test
+        @DisplayName("Does not allocate when accruing a batch")
+        void accrueDoesNotAllocate() {
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            WithdrawalIndex.Builder builder = new WithdrawalIndex.Builder();
+            DepositBatch batch = new DepositBatch(10_000);
+            for (int id = 1; id <= 10_000; id++) {
+                batch.add(id, PlanType.values()[id % PlanType.values().length], 1_000_000L + id, id % 500);
+                builder.add(id, LocalDate.of(2024, 1, 1 + id % 31), 1_000);
+            }
+            TimeDepositCalculator averaging = calculator.withAverageDailyBalance(builder.build(), PERIOD);
+            for (int warmUp = 0; warmUp < 20; warmUp++) {
+                averaging.accrue(batch);
+            }
+            long threadId = Thread.currentThread().getId();
+
+            long before = threads.getThreadAllocatedBytes(threadId);
+            averaging.accrue(batch);
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+            assertThat(allocated).isLessThan(1_000L);
+        }
+    }
+
     @Nested
     @DisplayName("Factory Integration")
     class FactoryIntegration {
@@ -0,0 +1,223 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.JobState;
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.JobStatus;
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase.UpdateBalancesResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AccrualJobRegistry Unit Tests")
+class AccrualJobRegistryTest {
+
+    private static final Instant START = Instant.parse("2024-01-15T10:30:00Z");
+
+    /**
+     * Executor that holds submitted jobs until the test runs them.
+     */
+    private static final class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> pending = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            pending.add(command);
+        }
+
+        void runNext() {
+            pending.remove().run();
+        }
+    }
+
+    /**
+     * Clock the test moves forward explicitly.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = START;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+
+    private final ManualExecutor executor = new ManualExecutor();
+    private final MutableClock clock = new MutableClock();
+    private final AccrualJobRegistry registry = new AccrualJobRegistry(executor, clock, 2);
+
+    @Nested
+    @DisplayName("submit()")
+    class Submit {
+
+        @Test
+        @DisplayName("queues a new job without running it on the caller's thread")
+        void queuesNewJob() {
+            // When
+            JobStatus status = registry.submit(() -> 10, progress -> new UpdateBalancesResult(10));
+
+            // Then
+            assertThat(status.state()).isEqualTo(JobState.QUEUED);
+            assertThat(status.submittedAt()).isEqualTo(START);
+            assertThat(status.startedAt()).isNull();
+            assertThat(status.etaSeconds()).isNull();
+            assertThat(registry.find(status.jobId())).contains(status);
+        }
+
+        @Test
+        @DisplayName("returns the active job instead of starting a second run")
+        void returnsActiveJob() {
+            // Given
+            JobStatus first = registry.submit(() -> 10, progress -> new UpdateBalancesResult(10));
+
+            // When
+            JobStatus second = registry.submit(() -> 10, progress -> new UpdateBalancesResult(10));
+
+            // Then
+            assertThat(second.jobId()).isEqualTo(first.jobId());
+            assertThat(executor.pending).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("starts a new job once the previous one has finished")
+        void startsNewJobAfterFinish() {
+            // Given
+            JobStatus first = registry.submit(() -> 10, progress -> new UpdateBalancesResult(10));
+            executor.runNext();
+
+            // When
+            JobStatus second = registry.submit(() -> 10, progress -> new UpdateBalancesResult(10));
+
+            // Then
+            assertThat(second.jobId()).isNotEqualTo(first.jobId());
+        }
+
+        @Test
+        @DisplayName("evicts the oldest finished jobs beyond the retention limit")
+        void evictsOldestFinishedJobs() {
+            // Given
+            UUID oldest = registry.submit(() -> 0, progress -> new UpdateBalancesResult(0)).jobId();
+            executor.runNext();
+            UUID middle = registry.submit(() -> 0, progress -> new UpdateBalancesResult(0)).jobId();
+            executor.runNext();
+
+            // When
+            UUID newest = registry.submit(() -> 0, progress -> new UpdateBalancesResult(0)).jobId();
+
+            // Then
+            assertThat(registry.find(oldest)).isEmpty();
+            assertThat(registry.find(middle)).isPresent();
+            assertThat(registry.find(newest)).isPresent();
+        }
+    }
+
+    @Nested
+    @DisplayName("job progress")
+    class Progress {
+
+        @Test
+        @DisplayName("reports processed count, throughput and ETA while running")
+        void reportsProgressWhileRunning() {
+            // Given
+            AtomicReference<JobStatus> midway = new AtomicReference<>();
+            AtomicReference<UUID> jobId = new AtomicReference<>();
+            jobId.set(registry.submit(() -> 1000, progress -> {
+                clock.advance(Duration.ofSeconds(2));
+                progress.advance(250);
+                midway.set(registry.find(jobId.get()).orElseThrow());
+                return new UpdateBalancesResult(1000);
+            }).jobId());
+
+            // When
+            executor.runNext();
+
+            // Then
+            JobStatus status = midway.get();
+            assertThat(status.state()).isEqualTo(JobState.RUNNING);
+            assertThat(status.processed()).isEqualTo(250);
+            assertThat(status.total()).isEqualTo(1000);
+            assertThat(status.depositsPerSecond()).isEqualTo(125.0);
+            assertThat(status.etaSeconds()).isEqualTo(6L);
+        }
+
+        @Test
+        @DisplayName("records the result once the job succeeds")
+        void recordsResultOnSuccess() {
+            // Given
+            UUID jobId = registry.submit(() -> 3, progress -> {
+                clock.advance(Duration.ofSeconds(1));
+                progress.advance(3);
+                return new UpdateBalancesResult(3);
+            }).jobId();
+
+            // When
+            executor.runNext();
+
+            // Then
+            JobStatus status = registry.find(jobId).orElseThrow();
+            assertThat(status.state()).isEqualTo(JobState.SUCCEEDED);
+            assertThat(status.result().updatedCount()).isEqualTo(3);
+            assertThat(status.finishedAt()).isEqualTo(START.plusSeconds(1));
+            assertThat(status.etaSeconds()).isZero();
+            assertThat(status.error()).isNull();
+        }
+
+        @Test
+        @DisplayName("records the error once the job fails")
+        void recordsErrorOnFailure() {
+            // Given
+            UUID jobId = registry.submit(() -> 3, progress -> {
+                throw new IllegalStateException("database unavailable");
+            }).jobId();
+
+            // When
+            executor.runNext();
+
+            // Then
+            JobStatus status = registry.find(jobId).orElseThrow();
+            assertThat(status.state()).isEqualTo(JobState.FAILED);
+            assertThat(status.error()).isEqualTo("database unavailable");
+            assertThat(status.result()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("returns empty for an unknown job")
+    void returnsEmptyForUnknownJob() {
+        assertThat(registry.find(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rejects a retention limit below one")
+    void rejectsInvalidRetention() {
+        assertThatThrownBy(() -> new AccrualJobRegistry(executor, clock, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
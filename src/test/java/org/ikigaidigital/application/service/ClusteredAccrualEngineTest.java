@@ -0,0 +1,300 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase;
+import org.ikigaidigital.application.port.output.PartitionLeasePort;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.AccrualScope;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.IdRange;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusteredAccrualEngine Unit Tests")
+class ClusteredAccrualEngineTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    private static final AccrualScope SCOPE = new AccrualScope(PERIOD, List.of());
+    private static final Duration LEASE = Duration.ofMillis(200);
+    private static final Duration POLL = Duration.ofMillis(5);
+
+    @Mock
+    private TimeDepositPersistencePort persistencePort;
+
+    @Mock
+    private TimeDepositCalculator timeDepositCalculator;
+
+    private ExecutorService executor;
+
+    private InMemoryLeases leases;
+
+    /**
+     * Lease table shared by the engines of several simulated nodes.
+     * Leases expire after the requested duration, measured with {@link System#nanoTime()}.
+     */
+    private static final class InMemoryLeases implements PartitionLeasePort {
+
+        private final List<IdRange> registered = new ArrayList<>();
+        private final Map<IdRange, String> owners = new HashMap<>();
+        private final Map<IdRange, Long> expiries = new HashMap<>();
+        private final Set<IdRange> done = new HashSet<>();
+        private final List<String> completedBy = new ArrayList<>();
+        private boolean loseLeases;
+
+        @Override
+        public synchronized void registerPartitions(YearMonth period, List<IdRange> partitions) {
+            for (IdRange partition : partitions) {
+                if (!registered.contains(partition)) {
+                    registered.add(partition);
+                }
+            }
+        }
+
+        @Override
+        public synchronized Optional<IdRange> claimPartition(YearMonth period, String owner, Duration leaseDuration) {
+            Optional<IdRange> free = registered.stream()
+                    .filter(partition -> !done.contains(partition) && !isLeased(partition))
+                    .findFirst();
+            free.ifPresent(partition -> lease(partition, owner, leaseDuration));
+            return free;
+        }
+
+        @Override
+        public synchronized boolean completePartition(YearMonth period, IdRange partition, String owner, int updatedCount) {
+            if (loseLeases || !owner.equals(owners.get(partition)) || !isLeased(partition)) {
+                return false;
+            }
+            done.add(partition);
+            completedBy.add(owner);
+            return true;
+        }
+
+        @Override
+        public synchronized List<PendingPartition> findPendingPartitions(YearMonth period) {
+            return registered.stream()
+                    .filter(partition -> !done.contains(partition))
+                    .map(partition -> new PendingPartition(partition, isLeased(partition) ? owners.get(partition) : null))
+                    .toList();
+        }
+
+        synchronized void lease(IdRange partition, String owner, Duration leaseDuration) {
+            owners.put(partition, owner);
+            expiries.put(partition, System.nanoTime() + leaseDuration.toNanos());
+        }
+
+        synchronized void complete(IdRange partition) {
+            done.add(partition);
+        }
+
+        private boolean isLeased(IdRange partition) {
+            Long expiry = expiries.get(partition);
+            return expiry != null && expiry - System.nanoTime() > 0;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        leases = new InMemoryLeases();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ClusteredAccrualEngine node(String nodeId) {
+        return new ClusteredAccrualEngine(
+                persistencePort, leases,
+                TransactionOperations.withoutTransaction(), ShadowComparison.disabled(), executor, 2, 10, nodeId, LEASE, POLL);
+    }
+
+    @Test
+    @DisplayName("returns zero when there are no deposits")
+    void returnsZero_whenNoDeposits() {
+        when(persistencePort.findIdRange()).thenReturn(Optional.empty());
+
+        UpdateAllBalancesUseCase.UpdateBalancesResult result = node("a").run(SCOPE, timeDepositCalculator, AccrualProgress.NONE);
+
+        assertThat(result.updatedCount()).isZero();
+        assertThat(leases.registered).isEmpty();
+    }
+
+    @Test
+    @DisplayName("nodes share the partitions so each is processed exactly once")
+    void processesEachPartitionOnceAcrossNodes() {
+        // Given
+        when(persistencePort.findIdRange()).thenReturn(Optional.of(new IdRange(1, 50)));
+        when(persistencePort.findByIdRange(any(), eq(SCOPE))).thenAnswer(invocation -> {
+            IdRange range = invocation.getArgument(0);
+            return deposits(range.minId(), range.minId() + 1);
+        });
+        AtomicInteger progressed = new AtomicInteger();
+
+        // When
+        UpdateAllBalancesUseCase.UpdateBalancesResult first = node("a").run(SCOPE, timeDepositCalculator, progressed::addAndGet);
+        UpdateAllBalancesUseCase.UpdateBalancesResult second = node("b").run(SCOPE, timeDepositCalculator, progressed::addAndGet);
+
+        // Then
+        assertThat(leases.registered).hasSize(5);
+        assertThat(first.updatedCount() + second.updatedCount()).isEqualTo(10);
+        assertThat(second.updatedCount()).isZero();
+        assertThat(progressed).hasValue(10);
+        verify(persistencePort, times(5)).saveAll(any(), eq(PERIOD));
+    }
+
+    @Test
+    @DisplayName("reports a partition whose lease was lost before completion")
+    void reportsLostLease() {
+        // Given
+        when(persistencePort.findIdRange()).thenReturn(Optional.of(new IdRange(1, 10)));
+        when(persistencePort.findByIdRange(new IdRange(1, 10), SCOPE)).thenReturn(deposits(1, 2));
+        leases.loseLeases = true;
+
+        // When
+        UpdateAllBalancesUseCase.UpdateBalancesResult result = node("a").run(SCOPE, timeDepositCalculator, AccrualProgress.NONE);
+
+        // Then
+        assertThat(result.updatedCount()).isZero();
+        assertThat(result.failures()).singleElement()
+                .satisfies(failure -> assertThat(failure.reason()).contains("expired"));
+    }
+
+    @Test
+    @DisplayName("keeps working after a failed partition")
+    void continuesAfterFailedPartition() {
+        // Given
+        when(persistencePort.findIdRange()).thenReturn(Optional.of(new IdRange(1, 20)));
+        when(persistencePort.findByIdRange(new IdRange(1, 10), SCOPE))
+                .thenThrow(new IllegalStateException("connection lost"));
+        when(persistencePort.findByIdRange(new IdRange(11, 20), SCOPE)).thenReturn(deposits(11, 12, 13));
+
+        // When
+        UpdateAllBalancesUseCase.UpdateBalancesResult result = node("a").run(SCOPE, timeDepositCalculator, AccrualProgress.NONE);
+
+        // Then
+        assertThat(result.updatedCount()).isEqualTo(3);
+        assertThat(result.failures()).containsExactly(
+                new UpdateAllBalancesUseCase.Failure(1, 10, "connection lost"));
+    }
+
+    @Test
+    @DisplayName("rejects a non-positive lease duration")
+    void rejectsNonPositiveLease() {
+        assertThatThrownBy(() -> new ClusteredAccrualEngine(
+                persistencePort, leases,
+                TransactionOperations.withoutTransaction(), ShadowComparison.disabled(), executor, 1, 10, "a", Duration.ZERO, POLL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("waits for a partition leased by another node before returning")
+    void waitsForPartitionLeasedElsewhere() {
+        // Given
+        when(persistencePort.findIdRange()).thenReturn(Optional.of(new IdRange(1, 20)));
+        when(persistencePort.findByIdRange(new IdRange(1, 10), SCOPE)).thenReturn(deposits(1, 2));
+        leases.registerPartitions(PERIOD, List.of(new IdRange(1, 10), new IdRange(11, 20)));
+        leases.lease(new IdRange(11, 20), "b", LEASE);
+        executor.submit(() -> {
+            Thread.sleep(50);
+            leases.complete(new IdRange(11, 20));
+            return null;
+        });
+
+        // When
+        UpdateAllBalancesUseCase.UpdateBalancesResult result = node("a").run(SCOPE, timeDepositCalculator, AccrualProgress.NONE);
+
+        // Then
+        assertThat(result.updatedCount()).isEqualTo(2);
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(leases.findPendingPartitions(PERIOD)).isEmpty();
+        verify(persistencePort, never()).findByIdRange(new IdRange(11, 20), SCOPE);
+    }
+
+    @Test
+    @DisplayName("reclaims a partition whose node died once its lease expires")
+    void reclaimsPartitionOfDeadNode() {
+        // Given
+        when(persistencePort.findIdRange()).thenReturn(Optional.of(new IdRange(1, 10)));
+        when(persistencePort.findByIdRange(new IdRange(1, 10), SCOPE)).thenReturn(deposits(1, 2, 3));
+        leases.registerPartitions(PERIOD, List.of(new IdRange(1, 10)));
+        leases.lease(new IdRange(1, 10), "dead", Duration.ofMillis(50));
+
+        // When
+        UpdateAllBalancesUseCase.UpdateBalancesResult result = node("a").run(SCOPE, timeDepositCalculator, AccrualProgress.NONE);
+
+        // Then
+        assertThat(result.updatedCount()).isEqualTo(3);
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(leases.completedBy).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("reports a partition still leased elsewhere once nothing completed for a lease duration")
+    void reportsPartitionStillLeased() {
+        // Given
+        when(persistencePort.findIdRange()).thenReturn(Optional.of(new IdRange(1, 10)));
+        leases.registerPartitions(PERIOD, List.of(new IdRange(1, 10)));
+        leases.lease(new IdRange(1, 10), "b", Duration.ofMinutes(5));
+
+        // When
+        UpdateAllBalancesUseCase.UpdateBalancesResult result = node("a").run(SCOPE, timeDepositCalculator, AccrualProgress.NONE);
+
+        // Then
+        assertThat(result.updatedCount()).isZero();
+        assertThat(result.failures()).containsExactly(
+                new UpdateAllBalancesUseCase.Failure(1, 10, "still leased by b"));
+    }
+
+    @Test
+    @DisplayName("does not report a partition that failed once and succeeded on retry")
+    void forgetsFailureRetriedSuccessfully() {
+        // Given
+        when(persistencePort.findIdRange()).thenReturn(Optional.of(new IdRange(1, 10)));
+        when(persistencePort.findByIdRange(new IdRange(1, 10), SCOPE))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(deposits(1, 2));
+
+        // When
+        UpdateAllBalancesUseCase.UpdateBalancesResult result = node("a").run(SCOPE, timeDepositCalculator, AccrualProgress.NONE);
+
+        // Then
+        assertThat(result.updatedCount()).isEqualTo(2);
+        assertThat(result.hasFailures()).isFalse();
+    }
+
+    private static List<TimeDeposit> deposits(int... ids) {
+        return Arrays.stream(ids)
+                .mapToObj(id -> new TimeDeposit(id, PlanType.BASIC, 1000.00, 60))
+                .toList();
+    }
+}
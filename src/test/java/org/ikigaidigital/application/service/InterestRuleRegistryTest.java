@@ -0,0 +1,134 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.application.port.input.ReloadInterestRulesUseCase.InterestRuleSnapshot;
+import org.ikigaidigital.application.port.output.InterestRulePersistencePort;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.ikigaidigital.domain.model.strategy.InterestRuleVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InterestRuleRegistry Unit Tests")
+class InterestRuleRegistryTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-15T10:30:00Z"), ZoneOffset.UTC);
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    private static final InterestRule BASIC = new InterestRule(PlanType.BASIC, 0.01, 30, InterestRule.NO_MAXIMUM);
+    private static final InterestRule BASIC_RAISED = new InterestRule(PlanType.BASIC, 0.02, 30, InterestRule.NO_MAXIMUM);
+
+    @Mock
+    private InterestRulePersistencePort persistencePort;
+
+    private final TimeDepositCalculator builtIn = new TimeDepositCalculator();
+
+    private InterestRuleRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new InterestRuleRegistry(persistencePort, builtIn, TransactionOperations.withoutTransaction(), CLOCK);
+    }
+
+    @Test
+    @DisplayName("loads the rules on first use only")
+    void loadsOnFirstUse() {
+        // Given
+        when(persistencePort.findAllVersions()).thenReturn(List.of(new InterestRuleVersion(BASIC, PERIOD)));
+
+        // When
+        TimeDepositCalculator first = registry.calculatorFor(PERIOD);
+        TimeDepositCalculator second = registry.calculatorFor(PERIOD);
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getInterestRules()).containsExactly(BASIC);
+        verify(persistencePort, times(1)).findAllVersions();
+    }
+
+    @Test
+    @DisplayName("uses the built-in calculator when no versions are stored")
+    void fallsBackToBuiltIn() {
+        // Given
+        when(persistencePort.findAllVersions()).thenReturn(List.of());
+
+        // When
+        InterestRuleSnapshot snapshot = registry.reloadInterestRules();
+
+        // Then
+        assertThat(registry.calculatorFor(PERIOD)).isSameAs(builtIn);
+        assertThat(snapshot.versionCount()).isZero();
+        assertThat(snapshot.currentRules()).containsExactlyInAnyOrderElementsOf(builtIn.getInterestRules());
+    }
+
+    @Test
+    @DisplayName("swaps in changed rules without affecting a calculator already handed out")
+    void swapsChangedRules() {
+        // Given
+        when(persistencePort.findAllVersions())
+                .thenReturn(List.of(new InterestRuleVersion(BASIC, PERIOD)))
+                .thenReturn(List.of(new InterestRuleVersion(BASIC, PERIOD.minusMonths(1)),
+                        new InterestRuleVersion(BASIC_RAISED, PERIOD)));
+        TimeDepositCalculator pinned = registry.calculatorFor(PERIOD);
+
+        // When
+        InterestRuleSnapshot snapshot = registry.reloadInterestRules();
+
+        // Then
+        assertThat(snapshot.generation()).isEqualTo(2);
+        assertThat(snapshot.versionCount()).isEqualTo(2);
+        assertThat(snapshot.currentPeriod()).isEqualTo(PERIOD);
+        assertThat(snapshot.currentRules()).containsExactly(BASIC_RAISED);
+        assertThat(snapshot.loadedAt()).isEqualTo(CLOCK.instant());
+        assertThat(registry.calculatorFor(PERIOD).getInterestRules()).containsExactly(BASIC_RAISED);
+        assertThat(pinned.getInterestRules()).containsExactly(BASIC);
+    }
+
+    @Test
+    @DisplayName("keeps the current generation when the stored rules are unchanged")
+    void keepsGenerationWhenUnchanged() {
+        // Given
+        when(persistencePort.findAllVersions()).thenReturn(List.of(new InterestRuleVersion(BASIC, PERIOD)));
+        TimeDepositCalculator before = registry.calculatorFor(PERIOD);
+
+        // When
+        InterestRuleSnapshot snapshot = registry.reloadInterestRules();
+
+        // Then
+        assertThat(snapshot.generation()).isEqualTo(1);
+        assertThat(registry.calculatorFor(PERIOD)).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("keeps the current rules when the stored versions are invalid")
+    void keepsRulesOnInvalidVersions() {
+        // Given
+        when(persistencePort.findAllVersions())
+                .thenReturn(List.of(new InterestRuleVersion(BASIC, PERIOD)))
+                .thenReturn(List.of(new InterestRuleVersion(BASIC, PERIOD), new InterestRuleVersion(BASIC_RAISED, PERIOD)));
+        TimeDepositCalculator before = registry.calculatorFor(PERIOD);
+
+        // When & Then
+        assertThatThrownBy(() -> registry.reloadInterestRules()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(registry.calculatorFor(PERIOD)).isSameAs(before);
+    }
+}
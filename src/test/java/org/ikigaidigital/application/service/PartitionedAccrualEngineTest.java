@@ -0,0 +1,155 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.AccrualScope;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.IdRange;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartitionedAccrualEngine Unit Tests")
+class PartitionedAccrualEngineTest {
+
+    @Mock
+    private TimeDepositPersistencePort persistencePort;
+
+    @Mock
+    private TimeDepositCalculator timeDepositCalculator;
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    private static final AccrualScope SCOPE = new AccrualScope(PERIOD, List.of());
+
+    private ExecutorService executor;
+
+    private PartitionedAccrualEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        engine = new PartitionedAccrualEngine(
+                persistencePort,
+                TransactionOperations.withoutTransaction(), ShadowComparison.disabled(), executor, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("IdRange.split()")
+    class SplitIdRange {
+
+        @Test
+        @DisplayName("splits into contiguous ranges of at most the given span")
+        void splitsIntoContiguousRanges() {
+            List<IdRange> partitions = new IdRange(1, 25).split(10);
+
+            assertThat(partitions).containsExactly(
+                    new IdRange(1, 10), new IdRange(11, 20), new IdRange(21, 25));
+        }
+
+        @Test
+        @DisplayName("returns a single range when the span covers everything")
+        void returnsSingleRange() {
+            assertThat(new IdRange(5, 5).split(10)).containsExactly(new IdRange(5, 5));
+        }
+
+        @Test
+        @DisplayName("does not overflow at the top of the int range")
+        void doesNotOverflow() {
+            List<IdRange> partitions = new IdRange(Integer.MAX_VALUE - 5, Integer.MAX_VALUE).split(4);
+
+            assertThat(partitions).containsExactly(
+                    new IdRange(Integer.MAX_VALUE - 5, Integer.MAX_VALUE - 2),
+                    new IdRange(Integer.MAX_VALUE - 1, Integer.MAX_VALUE));
+        }
+
+        @Test
+        @DisplayName("rejects inverted ranges")
+        void rejectsInvertedRanges() {
+            assertThatThrownBy(() -> new IdRange(10, 1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("run(period)")
+    class Run {
+
+        @Test
+        @DisplayName("returns zero when there are no deposits")
+        void returnsZero_whenNoDeposits() {
+            when(persistencePort.findIdRange()).thenReturn(Optional.empty());
+
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = engine.run(SCOPE, timeDepositCalculator);
+
+            assertThat(result.updatedCount()).isZero();
+            assertThat(result.hasFailures()).isFalse();
+            verify(persistencePort, never()).findByIdRange(any(), any());
+        }
+
+        @Test
+        @DisplayName("processes every partition and sums the counts")
+        void processesEveryPartition() {
+            when(persistencePort.findIdRange()).thenReturn(Optional.of(new IdRange(1, 30)));
+            when(persistencePort.findByIdRange(new IdRange(1, 10), SCOPE)).thenReturn(deposits(1, 2));
+            when(persistencePort.findByIdRange(new IdRange(11, 20), SCOPE)).thenReturn(Collections.emptyList());
+            when(persistencePort.findByIdRange(new IdRange(21, 30), SCOPE)).thenReturn(deposits(21, 22, 30));
+
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = engine.run(SCOPE, timeDepositCalculator);
+
+            assertThat(result.updatedCount()).isEqualTo(5);
+            assertThat(result.failures()).isEmpty();
+            verify(timeDepositCalculator, times(2)).updateBalance(anyList());
+            verify(persistencePort, times(2)).saveAll(anyList(), eq(PERIOD));
+        }
+
+        @Test
+        @DisplayName("reports a failed partition while the others still complete")
+        void reportsFailedPartition() {
+            when(persistencePort.findIdRange()).thenReturn(Optional.of(new IdRange(1, 20)));
+            when(persistencePort.findByIdRange(new IdRange(1, 10), SCOPE)).thenReturn(deposits(1, 2, 3));
+            when(persistencePort.findByIdRange(new IdRange(11, 20), SCOPE))
+                    .thenThrow(new IllegalStateException("connection lost"));
+
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = engine.run(SCOPE, timeDepositCalculator);
+
+            assertThat(result.updatedCount()).isEqualTo(3);
+            assertThat(result.failures()).containsExactly(
+                    new UpdateAllBalancesUseCase.Failure(11, 20, "connection lost"));
+        }
+    }
+
+    private static List<TimeDeposit> deposits(int... ids) {
+        return Arrays.stream(ids)
+                .mapToObj(id -> new TimeDeposit(id, PlanType.BASIC, 1000.00, 60))
+                .toList();
+    }
+}
@@ -0,0 +1,158 @@
+package org.ikigaidigital.application.service;
+
+import org.ikigaidigital.application.service.ShadowComparison.ShadowStatistics;
+import org.ikigaidigital.domain.model.CalculationBackend;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.InterestStrategyFactory;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShadowComparison Unit Tests")
+class ShadowComparisonTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private final TimeDepositCalculator reference = new TimeDepositCalculator(new InterestStrategyFactory(List.of(
+            new BasicInterestStrategy(), new StudentInterestStrategy(),
+            new PremiumInterestStrategy(), new InternalInterestStrategy())));
+
+    private static List<TimeDeposit> deposits(int count) {
+        PlanType[] planTypes = PlanType.values();
+        List<TimeDeposit> deposits = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            deposits.add(new TimeDeposit(id, planTypes[id % planTypes.length], 1000.00 + id, id % 400));
+        }
+        return deposits;
+    }
+
+    private static long[] balances(List<TimeDeposit> deposits) {
+        return deposits.stream().mapToLong(TimeDeposit::getBalanceCents).toArray();
+    }
+
+    @Test
+    @DisplayName("credits exactly what the reference calculator credits")
+    void creditsLikeReference() {
+        // Given
+        List<TimeDeposit> shadowed = deposits(200);
+        List<TimeDeposit> direct = deposits(200);
+        ShadowComparison comparison = new ShadowComparison(DIRECT, 1.0, CalculationBackend.VECTOR);
+
+        // When
+        comparison.updateBalance(reference, shadowed);
+        reference.updateBalance(direct);
+
+        // Then
+        assertThat(balances(shadowed)).containsExactly(balances(direct));
+    }
+
+    @Test
+    @DisplayName("compares every sampled deposit and finds no mismatch between equivalent backends")
+    void comparesSampledDeposits() {
+        // Given
+        ShadowComparison comparison = new ShadowComparison(DIRECT, 1.0, CalculationBackend.VECTOR);
+
+        // When
+        comparison.updateBalance(reference, deposits(200));
+        comparison.updateBalance(reference, deposits(50));
+
+        // Then
+        ShadowStatistics statistics = comparison.statistics();
+        assertThat(statistics.comparedSamples()).isEqualTo(2);
+        assertThat(statistics.comparedDeposits()).isEqualTo(250);
+        assertThat(statistics.mismatches()).isZero();
+        assertThat(statistics.droppedSamples()).isZero();
+        assertThat(statistics.referenceTime()).isPositive();
+        assertThat(statistics.candidateTime()).isPositive();
+    }
+
+    @Test
+    @DisplayName("counts deposits the candidate credits differently")
+    void countsMismatches() {
+        // Given a strategy whose batch path credits one cent more than its rule
+        BasicInterestStrategy generous = new BasicInterestStrategy() {
+            @Override
+            public void accrue(DepositBatch batch, int[] rows, int from, int to) {
+                super.accrue(batch, rows, from, to);
+                for (int i = from; i < to; i++) {
+                    batch.balanceCents()[rows[i]]++;
+                }
+            }
+        };
+        TimeDepositCalculator drifted = new TimeDepositCalculator(new InterestStrategyFactory(List.of(generous)));
+        List<TimeDeposit> deposits = List.of(
+                new TimeDeposit(1, PlanType.BASIC, 1000.00, 60),
+                new TimeDeposit(2, PlanType.BASIC, 2000.00, 90),
+                new TimeDeposit(3, PlanType.PREMIUM, 3000.00, 90));
+        ShadowComparison comparison = new ShadowComparison(DIRECT, 1.0, CalculationBackend.VECTOR);
+
+        // When
+        comparison.updateBalance(drifted, deposits);
+
+        // Then the run keeps the reference result and the two basic deposits are reported
+        assertThat(deposits.get(0).getBalanceCents()).isEqualTo(100_084);
+        assertThat(comparison.statistics().mismatches()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("samples nothing when disabled")
+    void samplesNothingWhenDisabled() {
+        // Given
+        ShadowComparison comparison = ShadowComparison.disabled();
+        List<TimeDeposit> deposits = deposits(100);
+        List<TimeDeposit> direct = deposits(100);
+
+        // When
+        comparison.updateBalance(reference, deposits);
+        reference.updateBalance(direct);
+
+        // Then
+        assertThat(comparison.isEnabled()).isFalse();
+        assertThat(comparison.statistics().comparedSamples()).isZero();
+        assertThat(balances(deposits)).containsExactly(balances(direct));
+    }
+
+    @Test
+    @DisplayName("drops the sample instead of blocking when the executor is saturated")
+    void dropsSampleWhenSaturated() {
+        // Given
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        ShadowComparison comparison = new ShadowComparison(saturated, 1.0, CalculationBackend.VECTOR);
+        List<TimeDeposit> deposits = deposits(10);
+        List<TimeDeposit> direct = deposits(10);
+
+        // When
+        comparison.updateBalance(reference, deposits);
+        reference.updateBalance(direct);
+
+        // Then
+        assertThat(comparison.statistics().droppedSamples()).isEqualTo(1);
+        assertThat(comparison.statistics().comparedSamples()).isZero();
+        assertThat(balances(deposits)).containsExactly(balances(direct));
+    }
+
+    @Test
+    @DisplayName("rejects a sample rate outside 0..1")
+    void rejectsInvalidSampleRate() {
+        assertThatThrownBy(() -> new ShadowComparison(DIRECT, 1.5, CalculationBackend.VECTOR))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ShadowComparison(DIRECT, Double.NaN, CalculationBackend.VECTOR))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,24 +1,53 @@
 package org.ikigaidigital.application.service;
 
+import org.ikigaidigital.application.port.input.GetAllTimeDepositsUseCase;
+import org.ikigaidigital.application.port.input.SimulateAccrualUseCase;
 import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase;
+import org.ikigaidigital.application.port.output.AccrualRunLedgerPort;
+import org.ikigaidigital.application.port.output.AccrualRunLedgerPort.AccrualRun;
+import org.ikigaidigital.application.port.output.AccrualRunLedgerPort.Checkpoint;
 import org.ikigaidigital.application.port.output.TimeDepositPersistencePort;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.AccrualScope;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.OverdueDeposit;
+import org.ikigaidigital.application.port.output.WithdrawalPersistencePort;
+import org.ikigaidigital.domain.model.InterestBasis;
 import org.ikigaidigital.domain.model.PlanType;
 import org.ikigaidigital.domain.model.TimeDeposit;
 import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.WithdrawalIndex;
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,11 +60,40 @@ class TimeDepositApplicationServiceTest {
     @Mock
     private TimeDepositCalculator timeDepositCalculator;
 
+    @Mock
+    private WithdrawalPersistencePort withdrawalPort;
+
+    @Mock
+    private InterestRuleRegistry interestRuleRegistry;
+
+    @Mock
+    private PartitionedAccrualEngine partitionedAccrualEngine;
+
+    @Mock
+    private ClusteredAccrualEngine clusteredAccrualEngine;
+
+    @Mock
+    private AccrualJobRegistry accrualJobRegistry;
+
+    @Mock
+    private AccrualRunLedgerPort runLedger;
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-15T10:30:00Z"), ZoneOffset.UTC);
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    private static final AccrualScope SCOPE = new AccrualScope(PERIOD, List.of());
+
     private TimeDepositApplicationService service;
 
     @BeforeEach
     void setUp() {
-        service = new TimeDepositApplicationService(persistencePort, timeDepositCalculator);
+        lenient().when(persistencePort.hasDepositsDueFor(any())).thenReturn(true);
+        lenient().when(interestRuleRegistry.calculatorFor(PERIOD)).thenReturn(timeDepositCalculator);
+        service = new TimeDepositApplicationService(
+                persistencePort, withdrawalPort, interestRuleRegistry,
+                TransactionOperations.withoutTransaction(), ShadowComparison.disabled(), AccrualSettings.defaults(),
+                partitionedAccrualEngine, clusteredAccrualEngine, accrualJobRegistry, runLedger, CLOCK);
     }
 
     @Nested
@@ -74,6 +132,92 @@ class TimeDepositApplicationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("streamAllTimeDeposits()")
+    class StreamAllTimeDeposits {
+
+        @Test
+        @DisplayName("passes every streamed deposit to the consumer")
+        void passesDepositsToConsumer() {
+            // Given
+            doAnswer(invocation -> {
+                Consumer<TimeDeposit> consumer = invocation.getArgument(0);
+                consumer.accept(new TimeDeposit(1, PlanType.BASIC, 10000.00, 45));
+                consumer.accept(new TimeDeposit(2, PlanType.PREMIUM, 20000.00, 60));
+                return null;
+            }).when(persistencePort).streamAll(any());
+            List<TimeDeposit> received = new ArrayList<>();
+
+            // When
+            service.streamAllTimeDeposits(received::add);
+
+            // Then
+            assertThat(received).extracting(TimeDeposit::getId).containsExactly(1, 2);
+            verify(persistencePort, never()).findAllWithWithdrawals();
+        }
+    }
+
+    @Nested
+    @DisplayName("portfolioVersion()")
+    class PortfolioVersion {
+
+        @Test
+        @DisplayName("reads the version kept by the store")
+        void readsStoredVersion() {
+            // Given
+            when(persistencePort.portfolioVersion()).thenReturn(42L);
+
+            // When & Then
+            assertThat(service.portfolioVersion()).isEqualTo(42L);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTimeDeposits()")
+    class GetTimeDeposits {
+
+        @Test
+        @DisplayName("reads one row more than the limit to find the next page")
+        void returnsNextAfterId() {
+            // Given
+            when(persistencePort.findPageAfter(10, 3)).thenReturn(List.of(
+                    new TimeDeposit(11, PlanType.BASIC, 100.00, 45),
+                    new TimeDeposit(12, PlanType.BASIC, 100.00, 45),
+                    new TimeDeposit(14, PlanType.BASIC, 100.00, 45)));
+
+            // When
+            GetAllTimeDepositsUseCase.TimeDepositPage page = service.getTimeDeposits(10, 2);
+
+            // Then
+            assertThat(page.deposits()).extracting(TimeDeposit::getId).containsExactly(11, 12);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(page.nextAfterId()).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("has no next page when fewer rows than the limit remain")
+        void endsOnLastPage() {
+            // Given
+            when(persistencePort.findPageAfter(12, 3)).thenReturn(List.of(
+                    new TimeDeposit(14, PlanType.BASIC, 100.00, 45)));
+
+            // When
+            GetAllTimeDepositsUseCase.TimeDepositPage page = service.getTimeDeposits(12, 2);
+
+            // Then
+            assertThat(page.deposits()).extracting(TimeDeposit::getId).containsExactly(14);
+            assertThat(page.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("rejects a limit out of range")
+        void rejectsLimitOutOfRange() {
+            assertThatThrownBy(() -> service.getTimeDeposits(0, 0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.getTimeDeposits(0, 1001)).isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(persistencePort);
+        }
+    }
+
     @Nested
     @DisplayName("updateAllBalances()")
     class UpdateAllBalances {
@@ -84,25 +228,25 @@ class TimeDepositApplicationServiceTest {
             // Given
             TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 10000.00, 45);
             List<TimeDeposit> deposits = new ArrayList<>(List.of(deposit));
-            when(persistencePort.findAll()).thenReturn(deposits);
-            when(persistencePort.saveAll(deposits)).thenReturn(deposits);
+            when(persistencePort.findDueFor(SCOPE)).thenReturn(deposits);
+            when(persistencePort.saveAll(deposits, PERIOD)).thenReturn(deposits);
 
             // When
             UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
 
             // Then
             assertThat(result.updatedCount()).isEqualTo(1);
-            verify(persistencePort).findAll();
+            verify(persistencePort).findDueFor(SCOPE);
             verify(timeDepositCalculator).updateBalance(deposits);
-            verify(persistencePort).saveAll(deposits);
+            verify(persistencePort).saveAll(deposits, PERIOD);
         }
 
         @Test
         @DisplayName("returns zero count for empty list")
         void returnsZeroCountForEmptyList() {
             // Given
-            when(persistencePort.findAll()).thenReturn(Collections.emptyList());
-            when(persistencePort.saveAll(anyList())).thenReturn(Collections.emptyList());
+            when(persistencePort.findDueFor(SCOPE)).thenReturn(Collections.emptyList());
+            when(persistencePort.saveAll(anyList(), any())).thenReturn(Collections.emptyList());
 
             // When
             UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
@@ -121,8 +265,8 @@ class TimeDepositApplicationServiceTest {
                     new TimeDeposit(2, PlanType.STUDENT, 5000.00, 100),
                     new TimeDeposit(3, PlanType.PREMIUM, 50000.00, 60)
             ));
-            when(persistencePort.findAll()).thenReturn(deposits);
-            when(persistencePort.saveAll(deposits)).thenReturn(deposits);
+            when(persistencePort.findDueFor(SCOPE)).thenReturn(deposits);
+            when(persistencePort.saveAll(deposits, PERIOD)).thenReturn(deposits);
 
             // When
             UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
@@ -131,6 +275,631 @@ class TimeDepositApplicationServiceTest {
             assertThat(result.updatedCount()).isEqualTo(3);
             verify(timeDepositCalculator).updateBalance(deposits);
         }
+
+        @Test
+        @DisplayName("does nothing when every deposit is already accrued for the period")
+        void skipsWhenAlreadyAccrued() {
+            // Given
+            when(persistencePort.hasDepositsDueFor(SCOPE)).thenReturn(false);
+
+            // When
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
+
+            // Then
+            assertThat(result.updatedCount()).isZero();
+            verify(persistencePort, never()).findDueFor(any());
+            verify(persistencePort, never()).saveAll(anyList(), any());
+            verify(timeDepositCalculator, never()).updateBalance(anyList());
+        }
+
+        @Test
+        @DisplayName("only reads deposits eligible under the calculator's interest rules")
+        void scopesReadsToInterestRules() {
+            // Given
+            List<InterestRule> rules = List.of(new BasicInterestStrategy().rule());
+            AccrualScope scope = new AccrualScope(PERIOD, rules);
+            when(timeDepositCalculator.getInterestRules()).thenReturn(rules);
+            when(persistencePort.findDueFor(scope)).thenReturn(Collections.emptyList());
+
+            // When
+            service.updateAllBalances();
+
+            // Then
+            verify(persistencePort).hasDepositsDueFor(scope);
+            verify(persistencePort).findDueFor(scope);
+        }
     }
-}
 
+    @Nested
+    @DisplayName("updateAllBalances() in streaming mode")
+    class UpdateAllBalancesStreaming {
+
+        private static final int CHUNK_SIZE = 2;
+
+        @BeforeEach
+        void setUp() {
+            service = new TimeDepositApplicationService(
+                    persistencePort, withdrawalPort, interestRuleRegistry,
+                    TransactionOperations.withoutTransaction(), ShadowComparison.disabled(),
+                    new AccrualSettings(AccrualMode.STREAMING, CHUNK_SIZE, 1),
+                    partitionedAccrualEngine, clusteredAccrualEngine, accrualJobRegistry, runLedger, CLOCK);
+            lenient().when(runLedger.startRun(PERIOD)).thenReturn(new AccrualRun(1L, PERIOD, 0, 0, 0, 0));
+        }
+
+        @Test
+        @DisplayName("walks deposits by keyset until a short chunk is returned")
+        void walksDepositsByKeyset() {
+            // Given
+            List<TimeDeposit> firstChunk = List.of(
+                    new TimeDeposit(1, PlanType.BASIC, 10000.00, 45),
+                    new TimeDeposit(4, PlanType.STUDENT, 5000.00, 100));
+            List<TimeDeposit> secondChunk = List.of(
+                    new TimeDeposit(7, PlanType.PREMIUM, 50000.00, 60));
+            when(persistencePort.findChunkAfter(0, CHUNK_SIZE, SCOPE)).thenReturn(firstChunk);
+            when(persistencePort.findChunkAfter(4, CHUNK_SIZE, SCOPE)).thenReturn(secondChunk);
+
+            // When
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
+
+            // Then
+            assertThat(result.updatedCount()).isEqualTo(3);
+            verify(timeDepositCalculator).updateBalance(firstChunk);
+            verify(timeDepositCalculator).updateBalance(secondChunk);
+            verify(persistencePort).saveAll(firstChunk, PERIOD);
+            verify(persistencePort).saveAll(secondChunk, PERIOD);
+            verify(persistencePort, never()).findDueFor(any());
+        }
+
+        @Test
+        @DisplayName("keeps the calculator it started with when the rules are reloaded mid-run")
+        void keepsCalculatorAcrossReload() {
+            // Given
+            TimeDepositCalculator reloaded = mock(TimeDepositCalculator.class);
+            List<TimeDeposit> firstChunk = List.of(
+                    new TimeDeposit(1, PlanType.BASIC, 10000.00, 45),
+                    new TimeDeposit(4, PlanType.STUDENT, 5000.00, 100));
+            List<TimeDeposit> secondChunk = List.of(
+                    new TimeDeposit(7, PlanType.PREMIUM, 50000.00, 60));
+            when(persistencePort.findChunkAfter(0, CHUNK_SIZE, SCOPE)).thenAnswer(invocation -> {
+                lenient().when(interestRuleRegistry.calculatorFor(PERIOD)).thenReturn(reloaded);
+                return firstChunk;
+            });
+            when(persistencePort.findChunkAfter(4, CHUNK_SIZE, SCOPE)).thenReturn(secondChunk);
+
+            // When
+            service.updateAllBalances();
+
+            // Then
+            verify(timeDepositCalculator).updateBalance(firstChunk);
+            verify(timeDepositCalculator).updateBalance(secondChunk);
+            verify(interestRuleRegistry, times(1)).calculatorFor(PERIOD);
+            verifyNoInteractions(reloaded);
+        }
+
+        @Test
+        @DisplayName("stops on an empty chunk after a full one")
+        void stopsOnEmptyChunk() {
+            // Given
+            List<TimeDeposit> fullChunk = List.of(
+                    new TimeDeposit(1, PlanType.BASIC, 10000.00, 45),
+                    new TimeDeposit(2, PlanType.STUDENT, 5000.00, 100));
+            when(persistencePort.findChunkAfter(0, CHUNK_SIZE, SCOPE)).thenReturn(fullChunk);
+            when(persistencePort.findChunkAfter(2, CHUNK_SIZE, SCOPE)).thenReturn(Collections.emptyList());
+
+            // When
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
+
+            // Then
+            assertThat(result.updatedCount()).isEqualTo(2);
+            verify(persistencePort).saveAll(fullChunk, PERIOD);
+            verify(persistencePort, times(1)).saveAll(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("runs each chunk in its own transaction")
+        void runsEachChunkInOwnTransaction() {
+            // Given
+            TransactionOperations transactionOperations = mock(TransactionOperations.class);
+            when(transactionOperations.execute(any())).thenAnswer(invocation ->
+                    TransactionOperations.withoutTransaction().execute(invocation.getArgument(0)));
+            service = new TimeDepositApplicationService(
+                    persistencePort, withdrawalPort, interestRuleRegistry, transactionOperations, ShadowComparison.disabled(),
+                    new AccrualSettings(AccrualMode.STREAMING, CHUNK_SIZE, 1),
+                    partitionedAccrualEngine, clusteredAccrualEngine, accrualJobRegistry, runLedger, CLOCK);
+            when(persistencePort.findChunkAfter(0, CHUNK_SIZE, SCOPE)).thenReturn(List.of(
+                    new TimeDeposit(1, PlanType.BASIC, 10000.00, 45),
+                    new TimeDeposit(2, PlanType.BASIC, 10000.00, 45)));
+            when(persistencePort.findChunkAfter(2, CHUNK_SIZE, SCOPE)).thenReturn(List.of(
+                    new TimeDeposit(3, PlanType.BASIC, 10000.00, 45)));
+
+            // When
+            service.updateAllBalances();
+
+            // Then - ledger lookup, due check and run start, then one per chunk
+            verify(transactionOperations, times(5)).execute(any());
+        }
+
+        @Test
+        @DisplayName("checkpoints each chunk and completes the run")
+        void checkpointsEachChunk() {
+            // Given
+            when(persistencePort.findChunkAfter(0, CHUNK_SIZE, SCOPE)).thenReturn(List.of(
+                    new TimeDeposit(1, PlanType.BASIC, 100.00, 45),
+                    new TimeDeposit(2, PlanType.BASIC, 200.50, 45)));
+            when(persistencePort.findChunkAfter(2, CHUNK_SIZE, SCOPE)).thenReturn(List.of(
+                    new TimeDeposit(5, PlanType.BASIC, 10.25, 45)));
+
+            // When
+            service.updateAllBalances();
+
+            // Then
+            verify(runLedger).recordCheckpoint(1L, new Checkpoint(1, 2, 2, 30050));
+            verify(runLedger).recordCheckpoint(1L, new Checkpoint(5, 5, 1, 1025));
+            verify(runLedger).completeRun(1L);
+        }
+
+        @Test
+        @DisplayName("resumes an unfinished run after its last checkpoint")
+        void resumesUnfinishedRun() {
+            // Given
+            when(runLedger.findUnfinishedRun()).thenReturn(Optional.of(new AccrualRun(9L, PERIOD, 4, 4, 2, 123)));
+            List<TimeDeposit> remaining = List.of(new TimeDeposit(7, PlanType.PREMIUM, 50000.00, 60));
+            when(persistencePort.findChunkAfter(4, CHUNK_SIZE, SCOPE)).thenReturn(remaining);
+
+            // When
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
+
+            // Then
+            assertThat(result.updatedCount()).isEqualTo(1);
+            verify(persistencePort, never()).findChunkAfter(0, CHUNK_SIZE, SCOPE);
+            verify(runLedger, never()).startRun(any());
+            verify(timeDepositCalculator).updateBalance(remaining);
+            verify(runLedger).completeRun(9L);
+        }
+
+        @Test
+        @DisplayName("finishes an unfinished run of an earlier period before starting the current one")
+        void finishesEarlierPeriodRunFirst() {
+            // Given
+            YearMonth previous = PERIOD.minusMonths(1);
+            AccrualScope previousScope = new AccrualScope(previous, List.of());
+            TimeDepositCalculator previousCalculator = mock(TimeDepositCalculator.class);
+            when(interestRuleRegistry.calculatorFor(previous)).thenReturn(previousCalculator);
+            when(runLedger.findUnfinishedRun()).thenReturn(Optional.of(new AccrualRun(9L, previous, 4, 4, 2, 123)));
+            List<TimeDeposit> owedPrevious = List.of(new TimeDeposit(7, PlanType.PREMIUM, 50000.00, 60));
+            when(persistencePort.findChunkAfter(4, CHUNK_SIZE, previousScope)).thenReturn(owedPrevious);
+            List<TimeDeposit> current = List.of(new TimeDeposit(1, PlanType.BASIC, 10000.00, 45));
+            when(persistencePort.findChunkAfter(0, CHUNK_SIZE, SCOPE)).thenReturn(current);
+
+            // When
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
+
+            // Then
+            assertThat(result.updatedCount()).isEqualTo(2);
+            InOrder inOrder = inOrder(persistencePort, runLedger);
+            inOrder.verify(persistencePort).saveAll(owedPrevious, previous);
+            inOrder.verify(runLedger).completeRun(9L);
+            inOrder.verify(runLedger).startRun(PERIOD);
+            inOrder.verify(persistencePort).saveAll(current, PERIOD);
+            inOrder.verify(runLedger).completeRun(1L);
+            verify(previousCalculator).updateBalance(owedPrevious);
+            verify(persistencePort, never()).findChunkAfter(4, CHUNK_SIZE, SCOPE);
+        }
+
+        @Test
+        @DisplayName("refuses to resume an unfinished run of a later period")
+        void refusesLaterPeriodRun() {
+            // Given
+            when(runLedger.findUnfinishedRun())
+                    .thenReturn(Optional.of(new AccrualRun(9L, PERIOD.plusMonths(1), 4, 4, 2, 123)));
+
+            // When & Then
+            assertThatThrownBy(() -> service.updateAllBalances())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Accrual run 9");
+            verify(persistencePort, never()).findChunkAfter(anyInt(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("leaves the run unfinished when a chunk fails")
+        void leavesRunUnfinishedOnFailure() {
+            // Given
+            when(persistencePort.findChunkAfter(0, CHUNK_SIZE, SCOPE)).thenReturn(List.of(
+                    new TimeDeposit(1, PlanType.BASIC, 10000.00, 45),
+                    new TimeDeposit(2, PlanType.BASIC, 10000.00, 45)));
+            when(persistencePort.findChunkAfter(2, CHUNK_SIZE, SCOPE)).thenThrow(new IllegalStateException("connection lost"));
+
+            // When
+            assertThatThrownBy(() -> service.updateAllBalances())
+                    .isInstanceOf(IllegalStateException.class);
+
+            // Then
+            verify(runLedger).recordCheckpoint(eq(1L), any(Checkpoint.class));
+            verify(runLedger, never()).completeRun(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("submitUpdateAllBalances()")
+    class SubmitUpdateAllBalances {
+
+        @Test
+        @DisplayName("runs the configured mode through the job registry and reports each chunk")
+        void runsThroughJobRegistry() {
+            // Given
+            AccrualJobRegistry registry = new AccrualJobRegistry(Runnable::run, CLOCK, 10);
+            service = new TimeDepositApplicationService(
+                    persistencePort, withdrawalPort, interestRuleRegistry,
+                    TransactionOperations.withoutTransaction(), ShadowComparison.disabled(),
+                    new AccrualSettings(AccrualMode.STREAMING, 2, 1),
+                    partitionedAccrualEngine, clusteredAccrualEngine, registry, runLedger, CLOCK);
+            when(persistencePort.countDueFor(SCOPE)).thenReturn(3L);
+            when(runLedger.startRun(PERIOD)).thenReturn(new AccrualRun(1L, PERIOD, 0, 0, 0, 0));
+            when(persistencePort.findChunkAfter(0, 2, SCOPE)).thenReturn(List.of(
+                    new TimeDeposit(1, PlanType.BASIC, 10000.00, 45),
+                    new TimeDeposit(2, PlanType.BASIC, 10000.00, 45)));
+            when(persistencePort.findChunkAfter(2, 2, SCOPE)).thenReturn(List.of(
+                    new TimeDeposit(3, PlanType.BASIC, 10000.00, 45)));
+
+            // When
+            UpdateAllBalancesUseCase.JobStatus submitted = service.submitUpdateAllBalances();
+
+            // Then
+            UpdateAllBalancesUseCase.JobStatus status = service.findUpdateJob(submitted.jobId()).orElseThrow();
+            assertThat(status.state()).isEqualTo(UpdateAllBalancesUseCase.JobState.SUCCEEDED);
+            assertThat(status.processed()).isEqualTo(3);
+            assertThat(status.total()).isEqualTo(3);
+            assertThat(status.result().updatedCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("counts the deposits still due for an unfinished earlier run into the total")
+        void countsEarlierRunIntoTotal() {
+            // Given
+            AccrualJobRegistry registry = new AccrualJobRegistry(Runnable::run, CLOCK, 10);
+            service = new TimeDepositApplicationService(
+                    persistencePort, withdrawalPort, interestRuleRegistry,
+                    TransactionOperations.withoutTransaction(), ShadowComparison.disabled(),
+                    new AccrualSettings(AccrualMode.STREAMING, 2, 1),
+                    partitionedAccrualEngine, clusteredAccrualEngine, registry, runLedger, CLOCK);
+            YearMonth previous = PERIOD.minusMonths(1);
+            when(interestRuleRegistry.calculatorFor(previous)).thenReturn(mock(TimeDepositCalculator.class));
+            when(runLedger.findUnfinishedRun()).thenReturn(Optional.of(new AccrualRun(9L, previous, 4, 4, 2, 123)));
+            when(runLedger.startRun(PERIOD)).thenReturn(new AccrualRun(1L, PERIOD, 0, 0, 0, 0));
+            when(persistencePort.countDueFor(SCOPE)).thenReturn(3L);
+            when(persistencePort.countDueFor(new AccrualScope(previous, List.of()))).thenReturn(2L);
+
+            // When
+            UpdateAllBalancesUseCase.JobStatus submitted = service.submitUpdateAllBalances();
+
+            // Then
+            assertThat(service.findUpdateJob(submitted.jobId()).orElseThrow().total()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("updateAllBalances() in parallel mode")
+    class UpdateAllBalancesParallel {
+
+        @Test
+        @DisplayName("delegates to the partitioned engine")
+        void delegatesToPartitionedEngine() {
+            // Given
+            service = new TimeDepositApplicationService(
+                    persistencePort, withdrawalPort, interestRuleRegistry,
+                    TransactionOperations.withoutTransaction(), ShadowComparison.disabled(),
+                    new AccrualSettings(AccrualMode.PARALLEL, 100, 4),
+                    partitionedAccrualEngine, clusteredAccrualEngine, accrualJobRegistry, runLedger, CLOCK);
+            UpdateAllBalancesUseCase.UpdateBalancesResult expected =
+                    new UpdateAllBalancesUseCase.UpdateBalancesResult(42);
+            when(partitionedAccrualEngine.run(eq(SCOPE), eq(timeDepositCalculator), any())).thenReturn(expected);
+
+            // When
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+            verify(persistencePort).hasDepositsDueFor(SCOPE);
+            verifyNoMoreInteractions(persistencePort);
+            verify(timeDepositCalculator, never()).updateBalance(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("updateAllBalances() in cluster mode")
+    class UpdateAllBalancesCluster {
+
+        @Test
+        @DisplayName("delegates to the clustered engine")
+        void delegatesToClusteredEngine() {
+            // Given
+            service = new TimeDepositApplicationService(
+                    persistencePort, withdrawalPort, interestRuleRegistry,
+                    TransactionOperations.withoutTransaction(), ShadowComparison.disabled(),
+                    new AccrualSettings(AccrualMode.CLUSTER, 100, 4),
+                    partitionedAccrualEngine, clusteredAccrualEngine, accrualJobRegistry, runLedger, CLOCK);
+            UpdateAllBalancesUseCase.UpdateBalancesResult expected =
+                    new UpdateAllBalancesUseCase.UpdateBalancesResult(42);
+            when(clusteredAccrualEngine.run(eq(SCOPE), eq(timeDepositCalculator), any())).thenReturn(expected);
+
+            // When
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+            verifyNoInteractions(partitionedAccrualEngine);
+            verify(timeDepositCalculator, never()).updateBalance(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("updateAllBalances() in SQL push-down mode")
+    class UpdateAllBalancesSqlPushdown {
+
+        @Test
+        @DisplayName("hands the calculator's rules to the persistence port")
+        void handsRulesToPersistencePort() {
+            // Given
+            service = new TimeDepositApplicationService(
+                    persistencePort, withdrawalPort, interestRuleRegistry,
+                    TransactionOperations.withoutTransaction(), ShadowComparison.disabled(),
+                    new AccrualSettings(AccrualMode.SQL_PUSHDOWN, 100, 1),
+                    partitionedAccrualEngine, clusteredAccrualEngine, accrualJobRegistry, runLedger, CLOCK);
+            List<InterestRule> rules = List.of(new BasicInterestStrategy().rule());
+            when(timeDepositCalculator.getInterestRules()).thenReturn(rules);
+            when(persistencePort.applyMonthlyInterest(rules, PERIOD)).thenReturn(7);
+
+            // When
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = service.updateAllBalances();
+
+            // Then
+            assertThat(result.updatedCount()).isEqualTo(7);
+            verify(persistencePort, never()).findDueFor(any());
+            verify(persistencePort, never()).saveAll(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("refuses to start while a checkpointed run is unfinished")
+        void refusesWhileRunUnfinished() {
+            // Given
+            service = new TimeDepositApplicationService(
+                    persistencePort, withdrawalPort, interestRuleRegistry,
+                    TransactionOperations.withoutTransaction(), ShadowComparison.disabled(),
+                    new AccrualSettings(AccrualMode.SQL_PUSHDOWN, 100, 1),
+                    partitionedAccrualEngine, clusteredAccrualEngine, accrualJobRegistry, runLedger, CLOCK);
+            when(runLedger.findUnfinishedRun()).thenReturn(Optional.of(new AccrualRun(3L, PERIOD, 10, 10, 1, 0)));
+
+            // When & Then
+            assertThatThrownBy(() -> service.updateAllBalances())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Accrual run 3");
+            verify(persistencePort, never()).applyMonthlyInterest(anyList(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("updateAllBalances() on the average daily balance basis")
+    class UpdateAllBalancesAverageDailyBalance {
+
+        @Test
+        @DisplayName("indexes the withdrawals since the period start once and binds them to the calculator")
+        void bindsWithdrawalIndex() {
+            // Given
+            service = new TimeDepositApplicationService(
+                    persistencePort, withdrawalPort, interestRuleRegistry,
+                    TransactionOperations.withoutTransaction(), ShadowComparison.disabled(),
+                    new AccrualSettings(AccrualMode.IN_MEMORY, 100, 1, InterestBasis.AVERAGE_DAILY_BALANCE),
+                    partitionedAccrualEngine, clusteredAccrualEngine, accrualJobRegistry, runLedger, CLOCK);
+            WithdrawalIndex withdrawals = new WithdrawalIndex.Builder()
+                    .add(1, LocalDate.of(2024, 1, 11), 310_000)
+                    .build();
+            when(withdrawalPort.indexWithdrawalsAfter(LocalDate.of(2024, 1, 1))).thenReturn(withdrawals);
+            when(interestRuleRegistry.calculatorFor(PERIOD)).thenReturn(new TimeDepositCalculator());
+            TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 12000.00, 45);
+            List<TimeDeposit> deposits = new ArrayList<>(List.of(deposit));
+            when(persistencePort.findDueFor(any())).thenReturn(deposits);
+            when(persistencePort.saveAll(deposits, PERIOD)).thenReturn(deposits);
+
+            // When
+            service.updateAllBalances();
+
+            // Then
+            // Interest on the 13000.00 average, credited to the 12000.00 balance
+            assertThat(deposit.getBalance()).isEqualTo(12010.83);
+            verify(withdrawalPort, times(1)).indexWithdrawalsAfter(any());
+        }
+
+        @Test
+        @DisplayName("does not read withdrawals on the closing balance basis")
+        void skipsWithdrawalsOnClosingBalance() {
+            // Given
+            when(persistencePort.findDueFor(SCOPE)).thenReturn(List.of());
+
+            // When
+            service.updateAllBalances();
+
+            // Then
+            verifyNoInteractions(withdrawalPort);
+        }
+
+        @Test
+        @DisplayName("is not supported in SQL push-down mode")
+        void rejectsSqlPushdown() {
+            assertThatThrownBy(() -> new AccrualSettings(
+                    AccrualMode.SQL_PUSHDOWN, 100, 1, InterestBasis.AVERAGE_DAILY_BALANCE))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("catchUpBalances()")
+    class CatchUpBalances {
+
+        @Test
+        @DisplayName("credits each overdue deposit the periods it missed in one read and one write")
+        void creditsMissedPeriods() {
+            // Given
+            when(interestRuleRegistry.calculatorFor(any())).thenReturn(new TimeDepositCalculator());
+            TimeDeposit neverAccrued = new TimeDeposit(1, PlanType.BASIC, 12000.00, 200);
+            TimeDeposit accruedInNovember = new TimeDeposit(2, PlanType.BASIC, 12000.00, 200);
+            when(persistencePort.findOverdueFor(any())).thenReturn(List.of(
+                    new OverdueDeposit(neverAccrued, null),
+                    new OverdueDeposit(accruedInNovember, YearMonth.of(2023, 11))));
+
+            // When
+            UpdateAllBalancesUseCase.UpdateBalancesResult result = service.catchUpBalances(3, null);
+
+            // Then
+            assertThat(result.updatedCount()).isEqualTo(2);
+            // Three periods: 12010.00, 12020.01, 12030.03; December and January: 12010.00, 12020.01
+            assertThat(neverAccrued.getBalance()).isEqualTo(12030.03);
+            assertThat(accruedInNovember.getBalance()).isEqualTo(12020.01);
+            verify(persistencePort).findOverdueFor(argThat(scope -> scope.period().equals(PERIOD)
+                    && scope.rules().size() == 3));
+            verify(persistencePort).saveAll(List.of(neverAccrued, accruedInNovember), PERIOD);
+            verify(interestRuleRegistry).calculatorFor(YearMonth.of(2023, 11));
+            verify(persistencePort, never()).findDueFor(any());
+        }
+
+        @Test
+        @DisplayName("rejects a period count out of range")
+        void rejectsPeriodsOutOfRange() {
+            assertThatThrownBy(() -> service.catchUpBalances(0, null)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service.catchUpBalances(25, null)).isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(persistencePort);
+        }
+
+        @Test
+        @DisplayName("refuses to start while a checkpointed run is unfinished")
+        void refusesWhileRunUnfinished() {
+            // Given
+            when(runLedger.findUnfinishedRun()).thenReturn(Optional.of(new AccrualRun(3L, PERIOD, 10, 10, 1, 0)));
+
+            // When & Then
+            assertThatThrownBy(() -> service.catchUpBalances(2, null))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Accrual run 3");
+            verify(persistencePort, never()).findOverdueFor(any());
+        }
+
+        @Test
+        @DisplayName("refuses a deposit credited before periods were recorded unless its last period is given")
+        void refusesUntrackedDeposit_withoutLastPeriod() {
+            // Given
+            when(interestRuleRegistry.calculatorFor(any())).thenReturn(new TimeDepositCalculator());
+            TimeDeposit untracked = new TimeDeposit(1, PlanType.BASIC, 12000.00, 200);
+            when(persistencePort.findOverdueFor(any())).thenReturn(List.of(
+                    OverdueDeposit.accruedBeforeTracking(untracked)));
+
+            // When & Then
+            assertThatThrownBy(() -> service.catchUpBalances(3, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("1 overdue deposits");
+            assertThat(untracked.getBalance()).isEqualTo(12000.00);
+            verify(persistencePort, never()).saveAll(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("credits a deposit credited before periods were recorded only the periods after the given one")
+        void creditsUntrackedDeposit_afterLastPeriod() {
+            // Given
+            when(interestRuleRegistry.calculatorFor(any())).thenReturn(new TimeDepositCalculator());
+            TimeDeposit untracked = new TimeDeposit(1, PlanType.BASIC, 12000.00, 200);
+            when(persistencePort.findOverdueFor(any())).thenReturn(List.of(
+                    OverdueDeposit.accruedBeforeTracking(untracked)));
+
+            // When - the old update last credited November
+            service.catchUpBalances(3, YearMonth.of(2023, 11));
+
+            // Then - December and January only
+            assertThat(untracked.getBalance()).isEqualTo(12020.01);
+            verify(persistencePort).saveAll(List.of(untracked), PERIOD);
+        }
+
+        @Test
+        @DisplayName("rejects a last untracked period that is not before the current one")
+        void rejectsCurrentLastUntrackedPeriod() {
+            assertThatThrownBy(() -> service.catchUpBalances(3, PERIOD)).isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(persistencePort);
+        }
+
+        @Test
+        @DisplayName("counts the missed periods of an overdue deposit up to the limit")
+        void countsMissedPeriods() {
+            TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 12000.00, 200);
+            YearMonth november = YearMonth.of(2023, 11);
+
+            assertThat(new OverdueDeposit(deposit, null).missedPeriods(PERIOD, 3, november)).isEqualTo(3);
+            assertThat(new OverdueDeposit(deposit, YearMonth.of(2023, 12)).missedPeriods(PERIOD, 3, null)).isEqualTo(1);
+            assertThat(new OverdueDeposit(deposit, YearMonth.of(2022, 12)).missedPeriods(PERIOD, 3, null)).isEqualTo(3);
+            assertThat(OverdueDeposit.accruedBeforeTracking(deposit).missedPeriods(PERIOD, 3, november)).isEqualTo(2);
+            assertThatThrownBy(() -> OverdueDeposit.accruedBeforeTracking(deposit).missedPeriods(PERIOD, 3, null))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("simulateAccrual()")
+    class SimulateAccrual {
+
+        @Test
+        @DisplayName("totals the projected interest per plan without writing anything")
+        void totalsPerPlan_withoutWriting() {
+            // Given
+            TimeDeposit basic = new TimeDeposit(1, PlanType.BASIC, 10000.00, 45);
+            TimeDeposit premium = new TimeDeposit(2, PlanType.PREMIUM, 20000.00, 60);
+            TimeDeposit otherBasic = new TimeDeposit(3, PlanType.BASIC, 5000.10, 90);
+            doAnswer(invocation -> {
+                Consumer<TimeDeposit> consumer = invocation.getArgument(1);
+                List.of(basic, premium, otherBasic).forEach(consumer);
+                return null;
+            }).when(persistencePort).streamDueFor(eq(SCOPE), any());
+            when(timeDepositCalculator.calculateMonthlyInterestCents(basic)).thenReturn(833L);
+            when(timeDepositCalculator.calculateMonthlyInterestCents(premium)).thenReturn(8333L);
+            when(timeDepositCalculator.calculateMonthlyInterestCents(otherBasic)).thenReturn(417L);
+            List<SimulateAccrualUseCase.ProjectedInterest> projections = new ArrayList<>();
+
+            // When
+            SimulateAccrualUseCase.AccrualSimulation simulation = service.simulateAccrual(projections::add);
+
+            // Then
+            assertThat(simulation.period()).isEqualTo(PERIOD);
+            assertThat(simulation.plans()).containsExactly(
+                    new SimulateAccrualUseCase.PlanTotal(PlanType.BASIC, 2, new BigDecimal("15000.10"), new BigDecimal("12.50")),
+                    new SimulateAccrualUseCase.PlanTotal(PlanType.PREMIUM, 1, new BigDecimal("20000.00"), new BigDecimal("83.33")));
+            assertThat(simulation.depositCount()).isEqualTo(3);
+            assertThat(simulation.projectedInterest()).isEqualByComparingTo("95.83");
+            assertThat(projections).extracting(SimulateAccrualUseCase.ProjectedInterest::id).containsExactly(1, 2, 3);
+            assertThat(projections.get(1).projectedInterestCents()).isEqualTo(8333L);
+            assertThat(basic.getBalance()).isEqualTo(10000.00);
+            verify(persistencePort, never()).saveAll(anyList(), any());
+            verify(timeDepositCalculator, never()).updateBalance(anyList());
+            verifyNoInteractions(runLedger);
+        }
+
+        @Test
+        @DisplayName("reports no plans when nothing is due")
+        void reportsNoPlans_whenNothingDue() {
+            // When
+            SimulateAccrualUseCase.AccrualSimulation simulation = service.simulateAccrual();
+
+            // Then
+            assertThat(simulation.plans()).isEmpty();
+            assertThat(simulation.depositCount()).isZero();
+            assertThat(simulation.projectedInterest()).isEqualByComparingTo(BigDecimal.ZERO);
+            verify(persistencePort).streamDueFor(eq(SCOPE), any());
+        }
+
+        @Test
+        @DisplayName("streams inside a read-only transaction when called without a consumer")
+        void readOnlyTransaction_withoutConsumer() throws NoSuchMethodException {
+            // When
+            Transactional transactional = TimeDepositApplicationService.class
+                    .getMethod("simulateAccrual").getAnnotation(Transactional.class);
+
+            // Then
+            assertThat(transactional).isNotNull();
+            assertThat(transactional.readOnly()).isTrue();
+        }
+    }
+}
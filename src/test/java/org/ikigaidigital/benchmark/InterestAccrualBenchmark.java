@@ -0,0 +1,80 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.model.CalculationBackend;
+import org.ikigaidigital.domain.model.DepositBatch;
+import org.ikigaidigital.domain.model.InterestStrategyFactory;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark of the interest calculation hot path.
+ *
+ * Accrues one month of interest on a preallocated {@link DepositBatch} with each
+ * {@link CalculationBackend}. Run with the GC profiler to check that accrual does not
+ * allocate ({@code gc.alloc.rate.norm} should be 0 B/op); see the README for the
+ * command line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class InterestAccrualBenchmark {
+
+    @Param({"100000"})
+    private int deposits;
+
+    @Param({"SCALAR", "VECTOR"})
+    private CalculationBackend backend;
+
+    private TimeDepositCalculator calculator;
+    private DepositBatch batch;
+    private long[] openingBalances;
+
+    @Setup(Level.Trial)
+    public void createBatch() {
+        calculator = new TimeDepositCalculator(new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(), new StudentInterestStrategy(),
+                new PremiumInterestStrategy(), new InternalInterestStrategy())), backend);
+        Random random = new Random(42);
+        PlanType[] planTypes = PlanType.values();
+        batch = new DepositBatch(deposits);
+        for (int id = 1; id <= deposits; id++) {
+            batch.add(id, planTypes[random.nextInt(planTypes.length)],
+                    random.nextInt(100_000_000), random.nextInt(500));
+        }
+        openingBalances = batch.balanceCents().clone();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBalances() {
+        System.arraycopy(openingBalances, 0, batch.balanceCents(), 0, deposits);
+    }
+
+    @Benchmark
+    public long[] accrue() {
+        calculator.accrue(batch);
+        return batch.balanceCents();
+    }
+}
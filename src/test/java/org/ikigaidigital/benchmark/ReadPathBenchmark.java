@@ -0,0 +1,124 @@
+package org.ikigaidigital.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.ikigaidigital.TimeDepositApplication;
+import org.ikigaidigital.domain.model.Money;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.JpaTimeDepositRepository;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.TimeDepositEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of reading one keyset page of deposits, before and after read paths moved to projections.
+ *
+ * {@code entityPage} is the former read path: managed {@link TimeDepositEntity} instances,
+ * hydrated with their snapshot for dirty checking, copied into {@link TimeDeposit}s.
+ * {@code projectionPage} is the current one: the constructor-expression query of
+ * {@link JpaTimeDepositRepository#findRowsAfter}, copied into {@link TimeDeposit}s. Both run
+ * in a read-write transaction, as the entity path used to.
+ *
+ * The score is the time per page; with {@code -prof gc}, {@code gc.alloc.rate.norm} divided
+ * by {@code pageSize} is the allocation per row. Needs Docker: the table lives in a
+ * Testcontainers PostgreSQL seeded with {@value #DEPOSITS} deposits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int DEPOSITS = 20_000;
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private JpaTimeDepositRepository repository;
+    private TransactionTemplate transaction;
+    private int afterId;
+
+    @Setup
+    public void start() {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        context = new SpringApplicationBuilder(TimeDepositApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "time-deposit.rules.refresh-interval=0",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run();
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO time_deposits (plan_type, balance, days, created_at, updated_at)
+                SELECT (ARRAY['basic', 'student', 'premium', 'internal'])[1 + i % 4], 1000 + i, i % 500,
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM generate_series(1, ?) AS i""", DEPOSITS);
+        entityManager = context.getBean(EntityManager.class);
+        repository = context.getBean(JpaTimeDepositRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown
+    public void stop() {
+        context.close();
+        postgres.stop();
+    }
+
+    /**
+     * Walk the table page by page, so that successive invocations read different rows.
+     */
+    private int nextAfterId() {
+        afterId = afterId + pageSize >= DEPOSITS ? 0 : afterId + pageSize;
+        return afterId;
+    }
+
+    @Benchmark
+    public List<TimeDeposit> entityPage() {
+        int after = nextAfterId();
+        return transaction.execute(status -> entityManager
+                .createQuery("SELECT t FROM TimeDepositEntity t WHERE t.id > :afterId ORDER BY t.id",
+                        TimeDepositEntity.class)
+                .setParameter("afterId", after)
+                .setMaxResults(pageSize)
+                .getResultList().stream()
+                .map(entity -> TimeDeposit.ofCents(entity.getId(), entity.getPlanType(),
+                        Money.toCents(entity.getBalance()), entity.getDays()))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TimeDeposit> projectionPage() {
+        int after = nextAfterId();
+        return transaction.execute(status -> repository.findRowsAfter(after, PageRequest.ofSize(pageSize)).stream()
+                .map(row -> TimeDeposit.ofCents(row.id(), row.planType(), Money.toCents(row.balance()), row.days()))
+                .toList());
+    }
+}
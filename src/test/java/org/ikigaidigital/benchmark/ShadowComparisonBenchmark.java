@@ -0,0 +1,95 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.application.service.ShadowComparison;
+import org.ikigaidigital.domain.model.CalculationBackend;
+import org.ikigaidigital.domain.model.InterestStrategyFactory;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark of the cost shadow mode adds to crediting one accrual chunk.
+ *
+ * The executor is set up like the application's shadow executor (one minimum-priority
+ * thread, bounded queue), so the score includes any CPU the comparisons take from the
+ * run. {@code sampleRate = 0} is the baseline without shadow mode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ShadowComparisonBenchmark {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"0", "0.01", "0.1"})
+    public double sampleRate;
+
+    private ThreadPoolExecutor executor;
+    private ShadowComparison shadowComparison;
+    private TimeDepositCalculator calculator;
+    private List<TimeDeposit> chunk;
+    private long[] initialBalanceCents;
+
+    @Setup
+    public void createChunk() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("accrual-shadow-");
+        threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+        threadFactory.setDaemon(true);
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(64), threadFactory);
+        shadowComparison = new ShadowComparison(executor, sampleRate, CalculationBackend.VECTOR);
+        calculator = new TimeDepositCalculator(new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(), new StudentInterestStrategy(),
+                new PremiumInterestStrategy(), new InternalInterestStrategy())));
+
+        Random random = new Random(42);
+        PlanType[] planTypes = PlanType.values();
+        chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            chunk.add(TimeDeposit.ofCents(i + 1, planTypes[random.nextInt(planTypes.length)],
+                    random.nextInt(100_000_000), random.nextInt(500)));
+        }
+        initialBalanceCents = chunk.stream().mapToLong(TimeDeposit::getBalanceCents).toArray();
+    }
+
+    @TearDown
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<TimeDeposit> updateBalance() {
+        // Start every chunk from the same balances instead of compounding them across invocations
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            chunk.get(i).setBalanceCents(initialBalanceCents[i]);
+        }
+        shadowComparison.updateBalance(calculator, chunk);
+        return chunk;
+    }
+}
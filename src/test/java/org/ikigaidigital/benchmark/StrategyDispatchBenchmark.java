@@ -0,0 +1,85 @@
+package org.ikigaidigital.benchmark;
+
+import org.ikigaidigital.domain.model.InterestStrategyFactory;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestCalculationStrategy;
+import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark of resolving and calling the interest strategy of one deposit.
+ *
+ * {@code streamLookup} reproduces the former factory lookup (a stream over the strategy
+ * list per deposit) as the baseline; {@code tableLookup} goes through the factory's
+ * ordinal dispatch table. Scores are per deposit, over a mix of all four plan types.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(StrategyDispatchBenchmark.DEPOSITS)
+public class StrategyDispatchBenchmark {
+
+    static final int DEPOSITS = 10_000;
+
+    private List<InterestCalculationStrategy> strategies;
+    private InterestStrategyFactory factory;
+    private TimeDeposit[] deposits;
+
+    @Setup
+    public void createDeposits() {
+        strategies = List.of(new BasicInterestStrategy(), new StudentInterestStrategy(),
+                new PremiumInterestStrategy(), new InternalInterestStrategy());
+        factory = new InterestStrategyFactory(strategies);
+        Random random = new Random(42);
+        PlanType[] planTypes = PlanType.values();
+        deposits = new TimeDeposit[DEPOSITS];
+        for (int i = 0; i < DEPOSITS; i++) {
+            deposits[i] = TimeDeposit.ofCents(i + 1, planTypes[random.nextInt(planTypes.length)],
+                    random.nextInt(100_000_000), random.nextInt(500));
+        }
+    }
+
+    @Benchmark
+    public double streamLookup() {
+        double total = 0;
+        for (TimeDeposit deposit : deposits) {
+            PlanType planType = deposit.getPlanType();
+            total += strategies.stream()
+                    .filter(strategy -> strategy.supports(planType))
+                    .findFirst()
+                    .map(strategy -> strategy.calculateInterest(deposit))
+                    .orElse(0.0);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double tableLookup() {
+        double total = 0;
+        for (TimeDeposit deposit : deposits) {
+            total += factory.calculateInterest(deposit);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,161 @@
+package org.ikigaidigital.domain.model;
+
+import org.ikigaidigital.domain.model.BalanceProjector.Projection;
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("BalanceProjector Tests")
+class BalanceProjectorTest {
+
+    private TimeDepositCalculator calculator;
+    private BalanceProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new TimeDepositCalculator(new InterestStrategyFactory(List.of(
+                new BasicInterestStrategy(),
+                new StudentInterestStrategy(),
+                new PremiumInterestStrategy(),
+                new InternalInterestStrategy()
+        )));
+        projector = calculator.projector();
+    }
+
+    /**
+     * Apply the calculator once per period, ageing the deposit between periods.
+     */
+    private long iterate(PlanType planType, double balance, int days, int periods) {
+        long current = Money.toCents(balance);
+        for (int k = 0; k < periods; k++) {
+            TimeDeposit deposit = TimeDeposit.ofCents(1, planType, current, days + k * BalanceProjector.DEFAULT_DAYS_PER_PERIOD);
+            calculator.updateBalance(List.of(deposit));
+            current = deposit.getBalanceCents();
+        }
+        return current;
+    }
+
+    @Nested
+    @DisplayName("Plan thresholds")
+    class PlanThresholds {
+
+        @Test
+        @DisplayName("basic plan earns from the first period after the grace period")
+        void basic_earnsAfterGracePeriod() {
+            // 10 days old: ages 10, 40, 70 -> only the first period is in the grace period
+            Projection projection = projector.project(new TimeDeposit(1, PlanType.BASIC, 10000.00, 10), 3);
+
+            assertThat(projection.earningPeriods()).isEqualTo(2);
+            assertThat(projection.balanceCents()).isEqualTo(1001667L);
+        }
+
+        @Test
+        @DisplayName("student plan stops earning at 366 days")
+        void student_stopsAtCap() {
+            // ages 300, 330, 360, 390, ... -> three periods below 366
+            Projection projection = projector.project(new TimeDeposit(1, PlanType.STUDENT, 5000.00, 300), 12);
+
+            assertThat(projection.earningPeriods()).isEqualTo(3);
+            assertThat(projection.balanceCents()).isCloseTo(iterate(PlanType.STUDENT, 5000.00, 300, 12), within(2L));
+        }
+
+        @Test
+        @DisplayName("premium plan starts earning after 45 days")
+        void premium_startsAfterMinimum() {
+            // ages 0, 30, 60, 90 -> the last two are past 45 days
+            Projection projection = projector.project(new TimeDeposit(1, PlanType.PREMIUM, 50000.00, 0), 4);
+
+            assertThat(projection.earningPeriods()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("internal plan terminates at 300 days")
+        void internal_terminatesAt300Days() {
+            // ages 250, 280, 310 -> the last is past termination
+            Projection projection = projector.project(new TimeDeposit(1, PlanType.INTERNAL, 1000.00, 250), 3);
+
+            assertThat(projection.earningPeriods()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("plans without a rule keep their balance")
+        void noRule_keepsBalance() {
+            BalanceProjector basicOnly = new BalanceProjector(List.of(new BasicInterestStrategy().rule()));
+
+            Projection projection = basicOnly.project(new TimeDeposit(1, PlanType.PREMIUM, 50000.00, 90), 12);
+
+            assertThat(projection.earningPeriods()).isZero();
+            assertThat(projection.balanceCents()).isEqualTo(5000000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Agreement with the calculator")
+    class AgreementWithCalculator {
+
+        @Test
+        @DisplayName("matches iterating updateBalance within half a cent per earning period")
+        void matchesIteratedCalculator() {
+            for (PlanType planType : PlanType.values()) {
+                for (int days = 0; days <= 420; days += 15) {
+                    for (int periods : new int[] {0, 1, 2, 6, 12, 24}) {
+                        Projection projection = projector.project(new TimeDeposit(1, planType, 12345.67, days), periods);
+                        long iterated = iterate(planType, 12345.67, days, periods);
+
+                        assertThat(projection.balanceCents())
+                                .as("%s at %d days over %d periods", planType, days, periods)
+                                .isCloseTo(iterated, within(projection.earningPeriods() / 2L));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("a single period equals updateBalance exactly")
+        void singlePeriod_equalsUpdateBalance() {
+            TimeDeposit deposit = new TimeDeposit(1, PlanType.PREMIUM, 7250.00, 60);
+
+            Projection projection = projector.project(deposit, 1);
+
+            assertThat(projection.balanceCents()).isEqualTo(iterate(PlanType.PREMIUM, 7250.00, 60, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch projection")
+    class BatchProjection {
+
+        @Test
+        @DisplayName("projects every deposit in list order without modifying them")
+        void projectsAllInOrder() {
+            TimeDeposit basic = new TimeDeposit(1, PlanType.BASIC, 10000.00, 45);
+            TimeDeposit student = new TimeDeposit(2, PlanType.STUDENT, 5000.00, 400);
+
+            List<Projection> projections = projector.projectAll(List.of(basic, student), 12);
+
+            assertThat(projections).extracting(Projection::depositId).containsExactly(1, 2);
+            assertThat(projections.get(0).earningPeriods()).isEqualTo(12);
+            assertThat(projections.get(1).earningPeriods()).isZero();
+            assertThat(basic.getBalance()).isEqualTo(10000.00);
+            assertThat(basic.isBalanceChanged()).isFalse();
+        }
+
+        @Test
+        @DisplayName("rejects a negative number of periods")
+        void rejectsNegativePeriods() {
+            assertThatThrownBy(() -> projector.projectAll(List.of(new TimeDeposit(1, PlanType.BASIC, 1.00, 45)), -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
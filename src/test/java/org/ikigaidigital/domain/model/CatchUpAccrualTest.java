@@ -0,0 +1,215 @@
+package org.ikigaidigital.domain.model;
+
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.RuleBasedInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CatchUpAccrual.
+ *
+ * Catching up is checked against one monthly run per period with the deposit's age in that period.
+ */
+@DisplayName("CatchUpAccrual Tests")
+class CatchUpAccrualTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 3);
+
+    private static final TimeDepositCalculator CALCULATOR = new TimeDepositCalculator(new InterestStrategyFactory(List.of(
+            new BasicInterestStrategy(), new StudentInterestStrategy(),
+            new PremiumInterestStrategy(), new InternalInterestStrategy())));
+
+    private static CatchUpAccrual catchUp(int periods) {
+        return new CatchUpAccrual(PERIOD, periods, period -> CALCULATOR);
+    }
+
+    private static int[] missed(int count, int periods) {
+        int[] missed = new int[count];
+        Arrays.fill(missed, periods);
+        return missed;
+    }
+
+    @Nested
+    @DisplayName("accrue() method")
+    class Accrue {
+
+        @Test
+        @DisplayName("credits one period like a monthly run")
+        void singlePeriodMatchesMonthlyRun() {
+            List<TimeDeposit> deposits = List.of(new TimeDeposit(1, PlanType.BASIC, 10000.00, 45));
+
+            catchUp(1).accrue(deposits, missed(1, 1));
+
+            assertThat(deposits.get(0).getBalance()).isEqualTo(10008.33);
+        }
+
+        @Test
+        @DisplayName("credits only the periods after the grace period ended")
+        void crossesGracePeriod() {
+            // Ages 15, 45 and 75 in January, February and March
+            List<TimeDeposit> deposits = List.of(new TimeDeposit(1, PlanType.BASIC, 12000.00, 75));
+
+            catchUp(3).accrue(deposits, missed(1, 3));
+
+            // 12000.00 + 10.00, then 12010.00 + 10.01
+            assertThat(deposits.get(0).getBalance()).isEqualTo(12020.01);
+        }
+
+        @Test
+        @DisplayName("stops crediting once a plan's cap is reached")
+        void crossesCap() {
+            // Ages 340, 370 and 400: the student plan earns in January only
+            List<TimeDeposit> deposits = List.of(new TimeDeposit(1, PlanType.STUDENT, 10000.00, 400));
+
+            catchUp(3).accrue(deposits, missed(1, 3));
+
+            assertThat(deposits.get(0).getBalance()).isEqualTo(10025.00);
+        }
+
+        @Test
+        @DisplayName("skips periods before the deposit was opened")
+        void skipsPeriodsBeforeOpening() {
+            // The internal plan has no grace period; the deposit is 20 days old in March
+            List<TimeDeposit> deposits = List.of(new TimeDeposit(1, PlanType.INTERNAL, 12000.00, 20));
+
+            catchUp(3).accrue(deposits, missed(1, 3));
+
+            // 12000 * 0.085 / 12 = 85.00, once
+            assertThat(deposits.get(0).getBalance()).isEqualTo(12085.00);
+        }
+
+        @Test
+        @DisplayName("credits each deposit only the periods it missed")
+        void creditsMissedPeriodsOnly() {
+            List<TimeDeposit> deposits = List.of(
+                    new TimeDeposit(1, PlanType.BASIC, 12000.00, 200),
+                    new TimeDeposit(2, PlanType.BASIC, 12000.00, 200));
+
+            catchUp(3).accrue(deposits, new int[]{1, 2});
+
+            assertThat(deposits.get(0).getBalance()).isEqualTo(12010.00);
+            assertThat(deposits.get(1).getBalance()).isEqualTo(12020.01);
+            assertThat(deposits.get(0).isBalanceChanged()).isTrue();
+        }
+
+        @Test
+        @DisplayName("credits every period with the rules in force for it")
+        void usesRulesOfEachPeriod() {
+            TimeDepositCalculator raised = new TimeDepositCalculator(new InterestStrategyFactory(List.of(
+                    new RuleBasedInterestStrategy(new InterestRule(PlanType.BASIC, 0.12, 30, InterestRule.NO_MAXIMUM)))));
+            List<YearMonth> resolved = new ArrayList<>();
+            CatchUpAccrual catchUp = new CatchUpAccrual(PERIOD, 2, period -> {
+                resolved.add(period);
+                return period.equals(PERIOD) ? raised : CALCULATOR;
+            });
+            List<TimeDeposit> deposits = List.of(new TimeDeposit(1, PlanType.BASIC, 12000.00, 200));
+
+            catchUp.accrue(deposits, missed(1, 2));
+
+            // 1% in February, 12% in March
+            assertThat(deposits.get(0).getBalance()).isEqualTo(12130.10);
+            assertThat(resolved).containsExactly(YearMonth.of(2024, 2), PERIOD);
+            assertThat(catchUp.firstPeriod()).isEqualTo(YearMonth.of(2024, 2));
+            assertThat(catchUp.lastPeriod()).isEqualTo(PERIOD);
+        }
+
+        @Test
+        @DisplayName("matches one monthly run per period for random deposits")
+        void matchesMonthlyRuns() {
+            Random random = new Random(20);
+            PlanType[] planTypes = PlanType.values();
+            int periods = 6;
+            List<TimeDeposit> deposits = new ArrayList<>();
+            List<TimeDeposit> expected = new ArrayList<>();
+            int[] missed = new int[500];
+            for (int id = 0; id < missed.length; id++) {
+                PlanType planType = planTypes[random.nextInt(planTypes.length)];
+                long balanceCents = random.nextInt(100_000_000);
+                int days = random.nextInt(600);
+                deposits.add(TimeDeposit.ofCents(id, planType, balanceCents, days));
+                missed[id] = 1 + random.nextInt(periods + 2);
+                long cents = balanceCents;
+                for (int before = Math.min(missed[id], periods) - 1; before >= 0; before--) {
+                    int age = days - before * CatchUpAccrual.DAYS_PER_PERIOD;
+                    if (age < 0) {
+                        continue;
+                    }
+                    TimeDeposit monthly = TimeDeposit.ofCents(id, planType, cents, age);
+                    CALCULATOR.updateBalance(List.of(monthly));
+                    cents = monthly.getBalanceCents();
+                }
+                expected.add(TimeDeposit.ofCents(id, planType, cents, days));
+            }
+
+            catchUp(periods).accrue(deposits, missed);
+
+            assertThat(deposits).extracting(TimeDeposit::getBalanceCents)
+                    .containsExactlyElementsOf(expected.stream().map(TimeDeposit::getBalanceCents).toList());
+        }
+
+        @Test
+        @DisplayName("rejects a missed period count per deposit of the wrong length")
+        void rejectsMismatchedCounts() {
+            List<TimeDeposit> deposits = List.of(new TimeDeposit(1, PlanType.BASIC, 12000.00, 200));
+
+            assertThatThrownBy(() -> catchUp(2).accrue(deposits, new int[0]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("eligibilityRules() method")
+    class EligibilityRules {
+
+        @Test
+        @DisplayName("shifts and merges the windows of all periods into one per plan")
+        void mergesShiftedWindows() {
+            assertThat(catchUp(3).eligibilityRules()).containsExactlyInAnyOrder(
+                    new InterestRule(PlanType.BASIC, 0.01, 30, InterestRule.NO_MAXIMUM),
+                    new InterestRule(PlanType.STUDENT, 0.03, 30, 366 + 60),
+                    new InterestRule(PlanType.PREMIUM, 0.05, 45, InterestRule.NO_MAXIMUM),
+                    new InterestRule(PlanType.INTERNAL, 0.085, InterestRule.NO_MINIMUM, 300 + 60));
+        }
+
+        @Test
+        @DisplayName("keeps disjoint windows apart")
+        void keepsDisjointWindows() {
+            TimeDepositCalculator narrow = new TimeDepositCalculator(new InterestStrategyFactory(List.of(
+                    new RuleBasedInterestStrategy(new InterestRule(PlanType.BASIC, 0.01, 30, 40)))));
+
+            List<InterestRule> rules = new CatchUpAccrual(PERIOD, 2, period -> narrow).eligibilityRules();
+
+            assertThat(rules).containsExactlyInAnyOrder(
+                    new InterestRule(PlanType.BASIC, 0.01, 30, 40),
+                    new InterestRule(PlanType.BASIC, 0.01, 60, 70));
+        }
+
+        @Test
+        @DisplayName("is empty when no period earns interest")
+        void emptyWithoutRules() {
+            TimeDepositCalculator none = new TimeDepositCalculator(new InterestStrategyFactory(List.of()));
+
+            assertThat(new CatchUpAccrual(PERIOD, 3, period -> none).eligibilityRules()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("rejects a period count that is not positive")
+    void rejectsNonPositivePeriods() {
+        assertThatThrownBy(() -> catchUp(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
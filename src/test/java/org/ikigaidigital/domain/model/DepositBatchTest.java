@@ -0,0 +1,49 @@
+package org.ikigaidigital.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DepositBatch Tests")
+class DepositBatchTest {
+
+    @Test
+    @DisplayName("copies deposits into columns in list order")
+    void copiesDepositsIntoColumns() {
+        DepositBatch batch = DepositBatch.of(List.of(
+                new TimeDeposit(7, PlanType.PREMIUM, 12345.67, 90),
+                new TimeDeposit(3, PlanType.BASIC, 0.10, 31)));
+
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.ids()).startsWith(7, 3);
+        assertThat(batch.balanceCents()).startsWith(1234567L, 10L);
+        assertThat(batch.days()).startsWith(90, 31);
+        assertThat(batch.planType(0)).isEqualTo(PlanType.PREMIUM);
+        assertThat(batch.planType(1)).isEqualTo(PlanType.BASIC);
+    }
+
+    @Test
+    @DisplayName("grows beyond its initial capacity")
+    void growsBeyondCapacity() {
+        DepositBatch batch = new DepositBatch(0);
+        for (int i = 0; i < 100; i++) {
+            batch.add(i, PlanType.STUDENT, i * 100L, i);
+        }
+
+        assertThat(batch.size()).isEqualTo(100);
+        assertThat(batch.ids()[99]).isEqualTo(99);
+        assertThat(batch.balanceCents()[99]).isEqualTo(9900L);
+    }
+
+    @Test
+    @DisplayName("marks deposits without a plan type")
+    void marksMissingPlanType() {
+        DepositBatch batch = DepositBatch.of(List.of(new TimeDeposit(1, null, 100.00, 45)));
+
+        assertThat(batch.planOrdinals()[0]).isEqualTo(DepositBatch.NO_PLAN);
+        assertThat(batch.planType(0)).isNull();
+    }
+}
@@ -0,0 +1,129 @@
+package org.ikigaidigital.domain.model;
+
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.ikigaidigital.domain.model.strategy.InterestRuleVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for InterestRuleBook.
+ *
+ * Tests compiling effective-dated rule versions and looking up the rules of a period.
+ */
+@DisplayName("InterestRuleBook Tests")
+class InterestRuleBookTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final YearMonth JULY = YearMonth.of(2024, 7);
+
+    private static final InterestRule BASIC = new InterestRule(PlanType.BASIC, 0.01, 30, InterestRule.NO_MAXIMUM);
+    private static final InterestRule BASIC_RAISED = new InterestRule(PlanType.BASIC, 0.015, 30, InterestRule.NO_MAXIMUM);
+    private static final InterestRule PREMIUM = new InterestRule(PlanType.PREMIUM, 0.05, 45, InterestRule.NO_MAXIMUM);
+
+    private final InterestRuleBook book = new InterestRuleBook(List.of(
+            new InterestRuleVersion(BASIC_RAISED, JULY),
+            new InterestRuleVersion(BASIC, JANUARY),
+            new InterestRuleVersion(PREMIUM, JANUARY)), CalculationBackend.SCALAR);
+
+    @Nested
+    @DisplayName("calculatorFor() method")
+    class CalculatorFor {
+
+        @Test
+        @DisplayName("applies the rules of the latest version period not after the period")
+        void appliesLatestVersionNotAfterPeriod() {
+            assertThat(book.calculatorFor(JANUARY).getInterestRules()).containsExactlyInAnyOrder(BASIC, PREMIUM);
+            assertThat(book.calculatorFor(JULY.minusMonths(1)).getInterestRules()).containsExactlyInAnyOrder(BASIC, PREMIUM);
+            assertThat(book.calculatorFor(JULY).getInterestRules()).containsExactlyInAnyOrder(BASIC_RAISED, PREMIUM);
+            assertThat(book.calculatorFor(YearMonth.of(2030, 1)).getInterestRules())
+                    .containsExactlyInAnyOrder(BASIC_RAISED, PREMIUM);
+        }
+
+        @Test
+        @DisplayName("keeps plans without a new version on their previous rule")
+        void keepsPlansWithoutNewVersion() {
+            TimeDeposit premium = new TimeDeposit(1, PlanType.PREMIUM, 12000.00, 60);
+
+            assertThat(book.calculatorFor(JULY).calculateMonthlyInterestCents(premium)).isEqualTo(5000);
+        }
+
+        @Test
+        @DisplayName("credits the rate in force for the period")
+        void creditsRateInForce() {
+            TimeDeposit january = new TimeDeposit(1, PlanType.BASIC, 12000.00, 60);
+            TimeDeposit july = new TimeDeposit(2, PlanType.BASIC, 12000.00, 60);
+
+            book.calculatorFor(JANUARY).updateBalance(List.of(january));
+            book.calculatorFor(JULY).updateBalance(List.of(july));
+
+            assertThat(january.getBalanceCents()).isEqualTo(1_201_000);
+            assertThat(july.getBalanceCents()).isEqualTo(1_201_500);
+        }
+
+        @Test
+        @DisplayName("credits no interest before the first version")
+        void creditsNothingBeforeFirstVersion() {
+            TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 12000.00, 60);
+
+            assertThat(book.calculatorFor(JANUARY.minusMonths(1)).getInterestRules()).isEmpty();
+            assertThat(book.calculatorFor(JANUARY.minusMonths(1)).calculateMonthlyInterestCents(deposit)).isZero();
+        }
+
+        @Test
+        @DisplayName("returns the same compiled calculator for every period of a version")
+        void reusesCompiledCalculator() {
+            assertThat(book.calculatorFor(JANUARY)).isSameAs(book.calculatorFor(JULY.minusMonths(1)));
+        }
+
+        @Test
+        @DisplayName("compiles calculators with the requested backend")
+        void usesRequestedBackend() {
+            assertThat(book.calculatorFor(JANUARY).getBackend()).isEqualTo(CalculationBackend.SCALAR);
+        }
+    }
+
+    @Nested
+    @DisplayName("construction")
+    class Construction {
+
+        @Test
+        @DisplayName("lists versions by effective period")
+        void listsVersionsByEffectivePeriod() {
+            assertThat(book.versions()).extracting(InterestRuleVersion::effectiveFrom)
+                    .containsExactly(JANUARY, JANUARY, JULY);
+        }
+
+        @Test
+        @DisplayName("rejects two versions of one plan taking effect in the same period")
+        void rejectsDuplicateVersion() {
+            List<InterestRuleVersion> versions = List.of(
+                    new InterestRuleVersion(BASIC, JANUARY),
+                    new InterestRuleVersion(BASIC_RAISED, JANUARY));
+
+            assertThatThrownBy(() -> new InterestRuleBook(versions, CalculationBackend.SCALAR))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(PlanType.BASIC.toString());
+        }
+
+        @Test
+        @DisplayName("a fixed book applies one calculator to every period")
+        void fixedBookAppliesOneCalculator() {
+            TimeDepositCalculator calculator = new TimeDepositCalculator(
+                    new InterestStrategyFactory(List.of(new BasicInterestStrategy())));
+
+            InterestRuleBook fixed = InterestRuleBook.fixed(calculator);
+
+            assertThat(fixed.calculatorFor(YearMonth.of(1990, 1))).isSameAs(calculator);
+            assertThat(fixed.calculatorFor(JULY)).isSameAs(calculator);
+            assertThat(fixed.versions()).isEmpty();
+        }
+    }
+}
@@ -5,11 +5,14 @@ import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
 import org.ikigaidigital.domain.model.strategy.PremiumInterestStrategy;
 import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
 import org.ikigaidigital.domain.model.strategy.InterestCalculationStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.ikigaidigital.domain.model.strategy.RuleBasedInterestStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -79,7 +82,46 @@ class InterestStrategyFactoryTest {
             assertThat(result).isEmpty();
         }
 
+        @Test
+        @DisplayName("strategyFor returns the table entry, or null without a strategy")
+        void strategyFor_returnsTableEntry() {
+            InterestStrategyFactory partialFactory = new InterestStrategyFactory(List.of(basicStrategy));
+
+            assertThat(partialFactory.strategyFor(PlanType.BASIC)).isSameAs(basicStrategy);
+            assertThat(partialFactory.strategyFor(PlanType.STUDENT)).isNull();
+            assertThat(partialFactory.strategyFor(null)).isNull();
+        }
+
+        @Test
+        @DisplayName("the first strategy supporting a plan type wins")
+        void firstSupportingStrategyWins() {
+            BasicInterestStrategy otherBasic = new BasicInterestStrategy();
+            InterestStrategyFactory duplicateFactory = new InterestStrategyFactory(List.of(basicStrategy, otherBasic));
+
+            assertThat(duplicateFactory.strategyFor(PlanType.BASIC)).isSameAs(basicStrategy);
+        }
 
+        @Test
+        @DisplayName("reports only the winning strategy's rule for a plan type")
+        void getRules_omitsShadowedStrategies() {
+            InterestRule shadowed = new InterestRule(PlanType.BASIC, 0.02, 0, InterestRule.NO_MAXIMUM);
+            InterestStrategyFactory duplicateFactory = new InterestStrategyFactory(List.of(
+                    studentStrategy, basicStrategy, new RuleBasedInterestStrategy(shadowed)));
+
+            assertThat(duplicateFactory.getRules()).containsExactly(basicStrategy.rule(), studentStrategy.rule());
+        }
+
+        @Test
+        @DisplayName("the dispatch table is fixed at construction")
+        void tableIsFixedAtConstruction() {
+            List<InterestCalculationStrategy> strategies = new ArrayList<>(List.of(basicStrategy));
+            InterestStrategyFactory fixedFactory = new InterestStrategyFactory(strategies);
+
+            strategies.add(studentStrategy);
+
+            assertThat(fixedFactory.strategyFor(PlanType.STUDENT)).isNull();
+            assertThat(fixedFactory.getRules()).hasSize(1);
+        }
     }
 
     @Nested
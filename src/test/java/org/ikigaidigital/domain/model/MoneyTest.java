@@ -0,0 +1,73 @@
+package org.ikigaidigital.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    @Nested
+    @DisplayName("Rounding")
+    class Rounding {
+
+        @Test
+        @DisplayName("divides with ties rounded away from zero")
+        void dividesHalfUp() {
+            assertThat(Money.divideHalfUp(5, 10)).isEqualTo(1L);
+            assertThat(Money.divideHalfUp(4, 10)).isEqualTo(0L);
+            assertThat(Money.divideHalfUp(-5, 10)).isEqualTo(-1L);
+            assertThat(Money.divideHalfUp(-4, 10)).isEqualTo(0L);
+            assertThat(Money.divideHalfUp(15, 10)).isEqualTo(2L);
+            assertThat(Money.divideHalfUp(Long.MAX_VALUE, Long.MAX_VALUE)).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("multiplies by a fraction exactly")
+        void multipliesHalfUp() {
+            // 6.00 * 1% / 12 = 0.005
+            assertThat(Money.multiplyHalfUp(600, 10_000, 12_000_000)).isEqualTo(1L);
+            // 10000.00 * 1% / 12 = 8.3333...
+            assertThat(Money.multiplyHalfUp(1_000_000, 10_000, 12_000_000)).isEqualTo(833L);
+            assertThat(Money.multiplyHalfUp(-600, 10_000, 12_000_000)).isEqualTo(-1L);
+        }
+
+        @Test
+        @DisplayName("falls back to decimal arithmetic when the product overflows")
+        void multipliesBeyondLongRange() {
+            long cents = Long.MAX_VALUE / 10;
+
+            assertThat(Money.multiplyHalfUp(cents, 30, 30)).isEqualTo(cents);
+            assertThat(Money.multiplyHalfUp(cents, 10_000, 12_000_000)).isEqualTo(
+                    new BigDecimal(cents).divide(BigDecimal.valueOf(1200), 0, RoundingMode.HALF_UP).longValueExact());
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("rounds amounts HALF_UP to cents")
+        void roundsToCents() {
+            assertThat(Money.toCents(12345.67)).isEqualTo(1234567L);
+            assertThat(Money.toCents(0.125)).isEqualTo(13L);
+            assertThat(Money.toCents(-0.125)).isEqualTo(-13L);
+            assertThat(Money.toCents(new BigDecimal("0.125"))).isEqualTo(13L);
+            assertThat(Money.toCents(new BigDecimal("1000000000.00"))).isEqualTo(100_000_000_000L);
+        }
+
+        @Test
+        @DisplayName("converts cents back to two decimal places")
+        void convertsFromCents() {
+            assertThat(Money.toUnits(1234567L)).isEqualTo(12345.67);
+            assertThat(Money.toDecimal(1234567L)).isEqualByComparingTo("12345.67");
+            assertThat(Money.toDecimal(10L).scale()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.ikigaidigital.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TimeDeposit balance change tracking.
+ */
+@DisplayName("TimeDeposit Tests")
+class TimeDepositTest {
+
+    @Test
+    @DisplayName("a freshly loaded deposit is not changed")
+    void freshDeposit_isNotChanged() {
+        TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 10000.00, 45);
+
+        assertThat(deposit.isBalanceChanged()).isFalse();
+    }
+
+    @Test
+    @DisplayName("setting a different balance marks the deposit as changed")
+    void differentBalance_marksChanged() {
+        TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 10000.00, 45);
+
+        deposit.setBalance(10008.33);
+
+        assertThat(deposit.isBalanceChanged()).isTrue();
+        assertThat(deposit.getBalance()).isEqualTo(10008.33);
+    }
+
+    @Test
+    @DisplayName("setting the same balance does not mark the deposit as changed")
+    void sameBalance_doesNotMarkChanged() {
+        TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 10000.00, 45);
+
+        deposit.setBalance(10000.00);
+
+        assertThat(deposit.isBalanceChanged()).isFalse();
+    }
+
+    @Test
+    @DisplayName("holds the balance in whole cents")
+    void holdsBalanceInCents() {
+        TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 0.125, 45);
+
+        assertThat(deposit.getBalanceCents()).isEqualTo(13L);
+        assertThat(deposit.getBalance()).isEqualTo(0.13);
+        assertThat(TimeDeposit.ofCents(2, PlanType.BASIC, 1000833L, 45).getBalance()).isEqualTo(10008.33);
+    }
+
+    @Test
+    @DisplayName("setting the same balance in cents does not mark the deposit as changed")
+    void sameBalanceCents_doesNotMarkChanged() {
+        TimeDeposit deposit = TimeDeposit.ofCents(1, PlanType.BASIC, 1000000L, 45);
+
+        deposit.setBalanceCents(1000000L);
+        assertThat(deposit.isBalanceChanged()).isFalse();
+
+        deposit.setBalanceCents(1000833L);
+        assertThat(deposit.isBalanceChanged()).isTrue();
+    }
+
+    @Test
+    @DisplayName("markPersisted clears the change flag")
+    void markPersisted_clearsChangeFlag() {
+        TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 10000.00, 45);
+        deposit.setBalance(10008.33);
+
+        deposit.markPersisted();
+
+        assertThat(deposit.isBalanceChanged()).isFalse();
+        assertThat(deposit.getBalance()).isEqualTo(10008.33);
+    }
+}
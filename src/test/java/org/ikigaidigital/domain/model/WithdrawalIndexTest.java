@@ -0,0 +1,169 @@
+package org.ikigaidigital.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for WithdrawalIndex.
+ *
+ * Averages are checked against the daily balances summed day by day.
+ */
+@DisplayName("WithdrawalIndex Tests")
+class WithdrawalIndexTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2024, 1, 1);
+    private static final LocalDate LAST = LocalDate.of(2024, 1, 31);
+
+    private static long average(WithdrawalIndex index, int depositId, long balanceCents) {
+        return index.averageDailyBalanceCents(depositId, balanceCents, FIRST.toEpochDay(), LAST.toEpochDay());
+    }
+
+    @Nested
+    @DisplayName("averageDailyBalanceCents() method")
+    class AverageDailyBalance {
+
+        @Test
+        @DisplayName("adds a withdrawal back to the days before it")
+        void addsWithdrawalBackBeforeItsDate() {
+            // 10 days at 15,100.00 and 21 days at 12,000.00
+            WithdrawalIndex index = new WithdrawalIndex.Builder()
+                    .add(1, LocalDate.of(2024, 1, 11), 310_000)
+                    .build();
+
+            assertThat(average(index, 1, 1_200_000)).isEqualTo(1_300_000);
+        }
+
+        @Test
+        @DisplayName("adds a withdrawal after the period back to every day")
+        void addsLaterWithdrawalToEveryDay() {
+            WithdrawalIndex index = new WithdrawalIndex.Builder()
+                    .add(1, LocalDate.of(2024, 2, 3), 50_000)
+                    .build();
+
+            assertThat(average(index, 1, 1_200_000)).isEqualTo(1_250_000);
+        }
+
+        @Test
+        @DisplayName("ignores withdrawals on or before the first day")
+        void ignoresEarlierWithdrawals() {
+            WithdrawalIndex index = new WithdrawalIndex.Builder()
+                    .add(1, LocalDate.of(2023, 12, 20), 99_999)
+                    .add(1, FIRST, 50_000)
+                    .build();
+
+            assertThat(average(index, 1, 1_200_000)).isEqualTo(1_200_000);
+        }
+
+        @Test
+        @DisplayName("returns the balance of a deposit without withdrawals")
+        void returnsBalanceWithoutWithdrawals() {
+            WithdrawalIndex index = new WithdrawalIndex.Builder()
+                    .add(2, LocalDate.of(2024, 1, 11), 310_000)
+                    .build();
+
+            assertThat(average(index, 1, 1_200_000)).isEqualTo(1_200_000);
+            assertThat(average(index, 3, 1_200_000)).isEqualTo(1_200_000);
+            assertThat(average(WithdrawalIndex.EMPTY, 1, 1_200_000)).isEqualTo(1_200_000);
+        }
+
+        @Test
+        @DisplayName("rounds the average HALF_UP to cents")
+        void roundsHalfUp() {
+            // Only the first of 31 days is raised, so the average rises by amount / 31 cents
+            WithdrawalIndex index = new WithdrawalIndex.Builder()
+                    .add(1, LocalDate.of(2024, 1, 2), 31)
+                    .add(2, LocalDate.of(2024, 1, 2), 15)
+                    .add(3, LocalDate.of(2024, 1, 2), 16)
+                    .build();
+
+            assertThat(average(index, 1, 100)).isEqualTo(101);
+            assertThat(average(index, 2, 100)).isEqualTo(100);
+            assertThat(average(index, 3, 100)).isEqualTo(101);
+        }
+
+        @Test
+        @DisplayName("matches the day-by-day average for random withdrawals")
+        void matchesDayByDayAverage() {
+            Random random = new Random(11);
+            WithdrawalIndex.Builder builder = new WithdrawalIndex.Builder();
+            long[][] withdrawnByDay = new long[50][];
+            for (int depositId = 0; depositId < withdrawnByDay.length; depositId++) {
+                // Days relative to FIRST, from before the period to after it
+                withdrawnByDay[depositId] = new long[90];
+                int day = -20;
+                while ((day += 1 + random.nextInt(10)) < 70) {
+                    long amount = 1 + random.nextInt(1_000_000);
+                    withdrawnByDay[depositId][day + 20] += amount;
+                    builder.add(depositId, FIRST.plusDays(day), amount);
+                }
+            }
+            WithdrawalIndex index = builder.build();
+
+            for (int depositId = 0; depositId < withdrawnByDay.length; depositId++) {
+                long balance = 1_000_000 + depositId;
+                long sum = 0;
+                for (int day = 0; day < 31; day++) {
+                    long raised = 0;
+                    for (int later = day + 1; later < 70; later++) {
+                        raised += withdrawnByDay[depositId][later + 20];
+                    }
+                    sum += balance + raised;
+                }
+                assertThat(average(index, depositId, balance))
+                        .as("deposit %d", depositId)
+                        .isEqualTo(Money.divideHalfUp(sum, 31));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Builder")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("sums withdrawals of the same deposit and date")
+        void sumsSameDate() {
+            WithdrawalIndex index = new WithdrawalIndex.Builder()
+                    .add(1, LocalDate.of(2024, 1, 11), 100_000)
+                    .add(1, LocalDate.of(2024, 1, 11), 210_000)
+                    .build();
+
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(average(index, 1, 1_200_000)).isEqualTo(1_300_000);
+        }
+
+        @Test
+        @DisplayName("rejects withdrawals out of deposit and date order")
+        void rejectsUnorderedWithdrawals() {
+            WithdrawalIndex.Builder builder = new WithdrawalIndex.Builder()
+                    .add(2, LocalDate.of(2024, 1, 11), 100);
+
+            assertThatThrownBy(() -> builder.add(1, LocalDate.of(2024, 1, 12), 100))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> builder.add(2, LocalDate.of(2024, 1, 10), 100))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("grows beyond its initial capacity")
+        void growsBeyondInitialCapacity() {
+            WithdrawalIndex.Builder builder = new WithdrawalIndex.Builder();
+            for (int depositId = 1; depositId <= 100; depositId++) {
+                builder.add(depositId, LocalDate.of(2024, 1, 11), 31_00)
+                        .add(depositId, LocalDate.of(2024, 2, 1), 100);
+            }
+
+            WithdrawalIndex index = builder.build();
+
+            assertThat(index.size()).isEqualTo(200);
+            assertThat(average(index, 100, 10_000)).isEqualTo(10_000 + 1_000 + 100);
+        }
+    }
+}
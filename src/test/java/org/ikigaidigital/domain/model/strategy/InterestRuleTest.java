@@ -0,0 +1,156 @@
+package org.ikigaidigital.domain.model.strategy;
+
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for InterestRule and its agreement with the strategy implementations.
+ *
+ * Every strategy's declared rule must describe exactly the same eligibility
+ * window and rate as its calculateInterest() implementation.
+ */
+@DisplayName("InterestRule Tests")
+class InterestRuleTest {
+
+    static Stream<Arguments> strategies() {
+        return Stream.of(
+                Arguments.of(new BasicInterestStrategy(), PlanType.BASIC),
+                Arguments.of(new StudentInterestStrategy(), PlanType.STUDENT),
+                Arguments.of(new PremiumInterestStrategy(), PlanType.PREMIUM),
+                Arguments.of(new InternalInterestStrategy(), PlanType.INTERNAL)
+        );
+    }
+
+    @Nested
+    @DisplayName("Agreement with strategies")
+    class AgreementWithStrategies {
+
+        @ParameterizedTest(name = "{1}")
+        @MethodSource("org.ikigaidigital.domain.model.strategy.InterestRuleTest#strategies")
+        @DisplayName("rule eligibility matches calculateInterest for every age")
+        void eligibilityMatchesCalculation(InterestCalculationStrategy strategy, PlanType planType) {
+            InterestRule rule = strategy.rule();
+
+            assertThat(rule.planType()).isEqualTo(planType);
+            for (int days = -5; days <= 800; days++) {
+                TimeDeposit deposit = new TimeDeposit(1, planType, 12000.00, days);
+                boolean earnsInterest = strategy.calculateInterest(deposit) > 0.0;
+                assertThat(rule.appliesTo(days))
+                        .as("%s at %d days", planType, days)
+                        .isEqualTo(earnsInterest);
+            }
+        }
+
+        @ParameterizedTest(name = "{1}")
+        @MethodSource("org.ikigaidigital.domain.model.strategy.InterestRuleTest#strategies")
+        @DisplayName("rule rate matches calculateInterest")
+        void rateMatchesCalculation(InterestCalculationStrategy strategy, PlanType planType) {
+            InterestRule rule = strategy.rule();
+            int eligibleDays = rule.hasMinimum() ? rule.minimumDaysExclusive() + 1 : 1;
+            TimeDeposit deposit = new TimeDeposit(1, planType, 12000.00, eligibleDays);
+
+            double expected = 12000.00 * rule.annualRate() / InterestRule.MONTHS_PER_YEAR;
+            assertThat(strategy.calculateInterest(deposit)).isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("Eligible periods")
+    class EligiblePeriods {
+
+        @ParameterizedTest(name = "{1}")
+        @MethodSource("org.ikigaidigital.domain.model.strategy.InterestRuleTest#strategies")
+        @DisplayName("counts the same periods as checking every period's age")
+        void matchesPeriodByPeriodCount(InterestCalculationStrategy strategy, PlanType planType) {
+            InterestRule rule = strategy.rule();
+            for (int daysPerPeriod : new int[] {1, 7, 30, 31}) {
+                for (int days = -100; days <= 500; days += 3) {
+                    for (int periods = 0; periods <= 30; periods++) {
+                        int expected = 0;
+                        for (int k = 0; k < periods; k++) {
+                            if (rule.appliesTo(days + k * daysPerPeriod)) {
+                                expected++;
+                            }
+                        }
+                        assertThat(rule.eligiblePeriods(days, periods, daysPerPeriod))
+                                .as("%s at %d days, %d periods of %d days", planType, days, periods, daysPerPeriod)
+                                .isEqualTo(expected);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("counts every period for open bounds")
+        void countsEveryPeriod_forOpenBounds() {
+            InterestRule rule = new InterestRule(PlanType.BASIC, 0.01, InterestRule.NO_MINIMUM, InterestRule.NO_MAXIMUM);
+
+            assertThat(rule.eligiblePeriods(Integer.MAX_VALUE, 12, 30)).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("rejects a non-positive period length")
+        void rejectsNonPositivePeriodLength() {
+            InterestRule rule = new BasicInterestStrategy().rule();
+
+            assertThatThrownBy(() -> rule.eligiblePeriods(45, 12, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("rejects a missing plan type")
+        void rejectsMissingPlanType() {
+            assertThatThrownBy(() -> new InterestRule(null, 0.01, 30, InterestRule.NO_MAXIMUM))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("rejects an empty eligibility window")
+        void rejectsEmptyWindow() {
+            assertThatThrownBy(() -> new InterestRule(PlanType.BASIC, 0.01, 30, 30))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("rejects a rate that is not exact to six decimal places")
+        void rejectsTooPreciseRate() {
+            assertThatThrownBy(() -> new InterestRule(PlanType.BASIC, 0.0100001, 30, InterestRule.NO_MAXIMUM))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("holds the rate as an exact fixed-point number")
+        void ratePerMillion() {
+            assertThat(new InterestRule(PlanType.BASIC, 0.01, 30, InterestRule.NO_MAXIMUM).annualRatePerMillion())
+                    .isEqualTo(10_000L);
+            assertThat(new InterestRule(PlanType.BASIC, 0.123456, 30, InterestRule.NO_MAXIMUM).annualRatePerMillion())
+                    .isEqualTo(123_456L);
+        }
+
+        @Test
+        @DisplayName("open bounds accept any age")
+        void openBoundsAcceptAnyAge() {
+            InterestRule rule = new InterestRule(PlanType.BASIC, 0.01, InterestRule.NO_MINIMUM, InterestRule.NO_MAXIMUM);
+
+            assertThat(rule.appliesTo(Integer.MIN_VALUE)).isTrue();
+            assertThat(rule.appliesTo(0)).isTrue();
+            assertThat(rule.appliesTo(Integer.MAX_VALUE)).isTrue();
+        }
+    }
+}
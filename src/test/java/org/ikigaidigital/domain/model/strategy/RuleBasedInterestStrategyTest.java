@@ -0,0 +1,54 @@
+package org.ikigaidigital.domain.model.strategy;
+
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for RuleBasedInterestStrategy.
+ *
+ * The strategy must behave exactly like a hand-written strategy with the same rule.
+ */
+@DisplayName("RuleBasedInterestStrategy Tests")
+class RuleBasedInterestStrategyTest {
+
+    private final StudentInterestStrategy student = new StudentInterestStrategy();
+    private final RuleBasedInterestStrategy strategy = new RuleBasedInterestStrategy(student.rule());
+
+    @Test
+    @DisplayName("supports only the rule's plan type")
+    void supportsRulePlanType() {
+        assertThat(strategy.supports(PlanType.STUDENT)).isTrue();
+        assertThat(strategy.supports(PlanType.BASIC)).isFalse();
+        assertThat(strategy.supports(null)).isFalse();
+    }
+
+    @ParameterizedTest(name = "days = {0}")
+    @ValueSource(ints = {0, 30, 31, 100, 365, 366, 400})
+    @DisplayName("calculates the same interest as the equivalent strategy class")
+    void matchesStrategyClass(int days) {
+        TimeDeposit deposit = new TimeDeposit(1, PlanType.STUDENT, 10000.00, days);
+
+        assertThat(strategy.calculateInterest(deposit)).isCloseTo(student.calculateInterest(deposit), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("exposes its rule")
+    void exposesRule() {
+        assertThat(strategy.rule()).isEqualTo(student.rule());
+    }
+
+    @Test
+    @DisplayName("rejects a null rule")
+    void rejectsNullRule() {
+        assertThatThrownBy(() -> new RuleBasedInterestStrategy(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest;
+
+import org.ikigaidigital.application.port.input.ReloadInterestRulesUseCase;
+import org.ikigaidigital.application.port.input.ReloadInterestRulesUseCase.InterestRuleSnapshot;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(InterestRuleController.class)
+@DisplayName("InterestRuleController Integration Tests")
+class InterestRuleControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReloadInterestRulesUseCase reloadInterestRulesUseCase;
+
+    @Test
+    @DisplayName("POST /api/v1/interest-rules/reload returns the rules now in use")
+    void reload_returnsRulesInUse() throws Exception {
+        // Given
+        when(reloadInterestRulesUseCase.reloadInterestRules()).thenReturn(new InterestRuleSnapshot(
+                3, Instant.parse("2024-01-15T10:30:00Z"), 5, YearMonth.of(2024, 1), List.of(
+                        new InterestRule(PlanType.BASIC, 0.015, 30, InterestRule.NO_MAXIMUM),
+                        new InterestRule(PlanType.STUDENT, 0.03, 30, 366))));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/interest-rules/reload"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.generation", is(3)))
+                .andExpect(jsonPath("$.loadedAt", is("2024-01-15T10:30:00Z")))
+                .andExpect(jsonPath("$.versionCount", is(5)))
+                .andExpect(jsonPath("$.period", is("2024-01")))
+                .andExpect(jsonPath("$.rules", hasSize(2)))
+                .andExpect(jsonPath("$.rules[0].planType", is("basic")))
+                .andExpect(jsonPath("$.rules[0].annualRate", is(0.015)))
+                .andExpect(jsonPath("$.rules[0].minimumDaysExclusive", is(30)))
+                .andExpect(jsonPath("$.rules[0].maximumDaysExclusive").doesNotExist())
+                .andExpect(jsonPath("$.rules[1].maximumDaysExclusive", is(366)));
+    }
+}
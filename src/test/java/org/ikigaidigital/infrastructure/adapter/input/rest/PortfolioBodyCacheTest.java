@@ -0,0 +1,96 @@
+package org.ikigaidigital.infrastructure.adapter.input.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PortfolioBodyCache Tests")
+class PortfolioBodyCacheTest {
+
+    private static final byte[] BODY = "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8);
+
+    private static void write(PortfolioBodyCache cache, long version, byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PortfolioBodyCache.Recording recording = cache.record(version, out);
+        recording.write(body);
+        recording.complete();
+        assertThat(out.toByteArray()).isEqualTo(body);
+    }
+
+    @Nested
+    @DisplayName("bodyFor() method")
+    class BodyFor {
+
+        @Test
+        @DisplayName("returns the body recorded at the same version")
+        void returnsRecordedBody() throws IOException {
+            PortfolioBodyCache cache = new PortfolioBodyCache(1024);
+
+            write(cache, 3, BODY);
+
+            assertThat(cache.bodyFor(3)).isEqualTo(BODY);
+            assertThat(cache.bodyFor(4)).isNull();
+        }
+
+        @Test
+        @DisplayName("does not keep a body larger than the limit, but still writes it")
+        void skipsOversizedBody() throws IOException {
+            PortfolioBodyCache cache = new PortfolioBodyCache(BODY.length - 1);
+
+            write(cache, 3, BODY);
+
+            assertThat(cache.bodyFor(3)).isNull();
+        }
+
+        @Test
+        @DisplayName("keeps the later version when recordings finish out of order")
+        void keepsLaterVersion() throws IOException {
+            PortfolioBodyCache cache = new PortfolioBodyCache(1024);
+
+            write(cache, 5, BODY);
+            write(cache, 4, "[]".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(cache.bodyFor(5)).isEqualTo(BODY);
+            assertThat(cache.bodyFor(4)).isNull();
+        }
+
+        @Test
+        @DisplayName("does not keep a body that was not completed")
+        void skipsIncompleteBody() throws IOException {
+            PortfolioBodyCache cache = new PortfolioBodyCache(1024);
+
+            cache.record(3, new ByteArrayOutputStream()).write(BODY);
+
+            assertThat(cache.bodyFor(3)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("matches() method")
+    class Matches {
+
+        private final String etag = new PortfolioBodyCache(0).etag(7);
+
+        @Test
+        @DisplayName("matches the tag among several, strong or weak")
+        void matchesListedTag() {
+            assertThat(PortfolioBodyCache.matches("\"a\", " + etag, etag)).isTrue();
+            assertThat(PortfolioBodyCache.matches("W/" + etag, etag)).isTrue();
+            assertThat(PortfolioBodyCache.matches("*", etag)).isTrue();
+        }
+
+        @Test
+        @DisplayName("does not match another or a missing tag")
+        void rejectsOtherTags() {
+            assertThat(PortfolioBodyCache.matches("\"a\"", etag)).isFalse();
+            assertThat(PortfolioBodyCache.matches(new PortfolioBodyCache(0).etag(8), etag)).isFalse();
+            assertThat(PortfolioBodyCache.matches(null, etag)).isFalse();
+        }
+    }
+}
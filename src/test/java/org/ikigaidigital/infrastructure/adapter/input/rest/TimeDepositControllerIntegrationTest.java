@@ -1,22 +1,48 @@
 package org.ikigaidigital.infrastructure.adapter.input.rest;
 
 import org.ikigaidigital.application.port.input.GetAllTimeDepositsUseCase;
+import org.ikigaidigital.application.port.input.GetAllTimeDepositsUseCase.TimeDepositPage;
+import org.ikigaidigital.application.port.input.SimulateAccrualUseCase;
+import org.ikigaidigital.application.port.input.SimulateAccrualUseCase.AccrualSimulation;
+import org.ikigaidigital.application.port.input.SimulateAccrualUseCase.PlanTotal;
+import org.ikigaidigital.application.port.input.SimulateAccrualUseCase.ProjectedInterest;
 import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase;
 import org.ikigaidigital.domain.model.PlanType;
 import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,16 +60,62 @@ class TimeDepositControllerIntegrationTest {
     @MockBean
     private UpdateAllBalancesUseCase updateAllBalancesUseCase;
 
+    @MockBean
+    private SimulateAccrualUseCase simulateAccrualUseCase;
+
+    private static final AccrualSimulation SIMULATION = new AccrualSimulation(YearMonth.of(2024, 1), List.of(
+            new PlanTotal(PlanType.BASIC, 1, new BigDecimal("10000.00"), new BigDecimal("8.33")),
+            new PlanTotal(PlanType.PREMIUM, 2, new BigDecimal("50000.00"), new BigDecimal("208.34"))));
+
+    // The controller, and the body it caches, outlive a test; every test starts at a new version
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private long version;
+
+    @BeforeEach
+    void startNewVersion() {
+        version = VERSIONS.incrementAndGet();
+        when(getAllTimeDepositsUseCase.portfolioVersion()).thenAnswer(invocation -> version);
+    }
+
+    private void streamDeposits(TimeDeposit... deposits) {
+        doAnswer(invocation -> {
+            Consumer<TimeDeposit> consumer = invocation.getArgument(0);
+            for (TimeDeposit deposit : deposits) {
+                consumer.accept(deposit);
+            }
+            return null;
+        }).when(getAllTimeDepositsUseCase).streamAllTimeDeposits(any());
+    }
+
+    private MvcResult getAll(HttpHeaders headers) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/time-deposits").headers(headers))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
     @Test
     @DisplayName("GET /api/v1/time-deposits returns list of deposits")
     void getAllTimeDeposits_returnsListOfDeposits() throws Exception {
         // Given
         TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 10000.00, 45);
-        when(getAllTimeDepositsUseCase.getAllTimeDeposits()).thenReturn(List.of(deposit));
+        doAnswer(invocation -> {
+            Consumer<TimeDeposit> consumer = invocation.getArgument(0);
+            consumer.accept(deposit);
+            return null;
+        }).when(getAllTimeDepositsUseCase).streamAllTimeDeposits(any());
 
-        // When & Then
-        mockMvc.perform(get("/api/v1/time-deposits")
+        // When
+        MvcResult started = mockMvc.perform(get("/api/v1/time-deposits")
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$", hasSize(1)))
@@ -54,18 +126,198 @@ class TimeDepositControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].withdrawals", hasSize(0)));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/time-deposits returns the withdrawals of each deposit")
+    void getAllTimeDeposits_returnsWithdrawals() throws Exception {
+        // Given
+        TimeDeposit deposit = new TimeDeposit(1, PlanType.BASIC, 10000.00, 45);
+        deposit.setWithdrawals(List.of(
+                new Withdrawal(7, 50000, LocalDate.of(2024, 1, 15)),
+                new Withdrawal(8, 20050, LocalDate.of(2024, 2, 1))));
+        doAnswer(invocation -> {
+            Consumer<TimeDeposit> consumer = invocation.getArgument(0);
+            consumer.accept(deposit);
+            return null;
+        }).when(getAllTimeDepositsUseCase).streamAllTimeDeposits(any());
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/v1/time-deposits"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].withdrawals", hasSize(2)))
+                .andExpect(jsonPath("$[0].withdrawals[0].id", is(7)))
+                .andExpect(jsonPath("$[0].withdrawals[0].amount", is(500.00)))
+                .andExpect(jsonPath("$[0].withdrawals[0].date", is("2024-01-15")))
+                .andExpect(jsonPath("$[0].withdrawals[1].amount", is(200.50)));
+    }
+
     @Test
     @DisplayName("GET /api/v1/time-deposits returns empty list when no deposits")
     void getAllTimeDeposits_returnsEmptyList() throws Exception {
         // Given
-        when(getAllTimeDepositsUseCase.getAllTimeDeposits()).thenReturn(Collections.emptyList());
+        streamDeposits();
 
-        // When & Then
-        mockMvc.perform(get("/api/v1/time-deposits")
+        // When
+        MvcResult started = mockMvc.perform(get("/api/v1/time-deposits")
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("[]", true))
                 .andExpect(jsonPath("$", hasSize(0)));
+        verify(getAllTimeDepositsUseCase).streamAllTimeDeposits(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits streams deposits as they are read")
+    void getAllTimeDeposits_streamsWithoutCollecting() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<TimeDeposit> consumer = invocation.getArgument(0);
+            for (int id = 1; id <= 5000; id++) {
+                consumer.accept(new TimeDeposit(id, PlanType.PREMIUM, 20000.00, 60));
+            }
+            return null;
+        }).when(getAllTimeDepositsUseCase).streamAllTimeDeposits(any());
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/v1/time-deposits"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5000)))
+                .andExpect(jsonPath("$[4999].id", is(5000)));
+        verify(getAllTimeDepositsUseCase, never()).getAllTimeDeposits();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits tags the response with the portfolio version")
+    void getAllTimeDeposits_returnsETag() throws Exception {
+        // Given
+        streamDeposits(new TimeDeposit(1, PlanType.BASIC, 10000.00, 45));
+
+        // When
+        MvcResult first = getAll(new HttpHeaders());
+        version++;
+        MvcResult second = getAll(new HttpHeaders());
+
+        // Then
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"").endsWith("-" + (version - 1) + "\"");
+        assertThat(second.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits answers a current If-None-Match with 304 without reading deposits")
+    void getAllTimeDeposits_returnsNotModified() throws Exception {
+        // Given
+        streamDeposits(new TimeDeposit(1, PlanType.BASIC, 10000.00, 45));
+        String etag = getAll(new HttpHeaders()).getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/time-deposits").header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        verify(getAllTimeDepositsUseCase, times(1)).streamAllTimeDeposits(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits reads the deposits again once the version changed")
+    void getAllTimeDeposits_ignoresStaleETag() throws Exception {
+        // Given
+        streamDeposits(new TimeDeposit(1, PlanType.BASIC, 10000.00, 45));
+        String etag = getAll(new HttpHeaders()).getResponse().getHeader(HttpHeaders.ETAG);
+        version++;
+        streamDeposits(new TimeDeposit(1, PlanType.BASIC, 10008.33, 45));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        // When
+        MvcResult result = getAll(headers);
+
+        // Then
+        assertThat(result.getResponse().getContentAsString()).contains("10008.33");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits replays the cached body while the version is unchanged")
+    void getAllTimeDeposits_replaysCachedBody() throws Exception {
+        // Given
+        streamDeposits(new TimeDeposit(1, PlanType.BASIC, 10000.00, 45), new TimeDeposit(2, PlanType.STUDENT, 5000.00, 60));
+        String body = getAll(new HttpHeaders()).getResponse().getContentAsString();
+
+        // When
+        MvcResult replayed = getAll(new HttpHeaders());
+
+        // Then
+        assertThat(replayed.getResponse().getContentAsString()).isEqualTo(body);
+        assertThat(replayed.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        verify(getAllTimeDepositsUseCase, times(1)).streamAllTimeDeposits(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits?limit= returns the first page and a cursor to the next")
+    void getTimeDeposits_returnsFirstPage() throws Exception {
+        // Given
+        when(getAllTimeDepositsUseCase.getTimeDeposits(0, 2)).thenReturn(new TimeDepositPage(List.of(
+                new TimeDeposit(1, PlanType.BASIC, 10000.00, 45),
+                new TimeDeposit(2, PlanType.PREMIUM, 20000.00, 60)), 2));
+
+        // When
+        String cursor = mockMvc.perform(get("/api/v1/time-deposits").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[1].id", is(2)))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"nextCursor\":\"([^\"]+)\".*", "$1");
+        when(getAllTimeDepositsUseCase.getTimeDeposits(2, 2)).thenReturn(new TimeDepositPage(List.of(
+                new TimeDeposit(3, PlanType.STUDENT, 5000.00, 90)), null));
+
+        // Then
+        mockMvc.perform(get("/api/v1/time-deposits").param("limit", "2").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(3)))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits?after= uses the default page size")
+    void getTimeDeposits_defaultsLimit() throws Exception {
+        // Given
+        when(getAllTimeDepositsUseCase.getTimeDeposits(anyInt(), anyInt()))
+                .thenReturn(new TimeDepositPage(List.of(), null));
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("id:7".getBytes());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/time-deposits").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+        verify(getAllTimeDepositsUseCase).getTimeDeposits(7, 100);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits rejects a malformed cursor")
+    void getTimeDeposits_rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/time-deposits").param("after", "not a cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/time-deposits").param("after",
+                        Base64.getUrlEncoder().encodeToString("id:x".getBytes())))
+                .andExpect(status().isBadRequest());
+        verify(getAllTimeDepositsUseCase, never()).getTimeDeposits(anyInt(), anyInt());
     }
 
     @Test
@@ -100,5 +352,171 @@ class TimeDepositControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.updatedCount", is(0)));
     }
-}
 
+    @Test
+    @DisplayName("POST /api/v1/time-deposits/update-balances/catch-up credits the requested periods")
+    void catchUpBalances_returnsUpdateResponse() throws Exception {
+        // Given
+        when(updateAllBalancesUseCase.catchUpBalances(3, null))
+                .thenReturn(new UpdateAllBalancesUseCase.UpdateBalancesResult(5));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/time-deposits/update-balances/catch-up")
+                        .param("periods", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is("Balances caught up for 3 periods")))
+                .andExpect(jsonPath("$.updatedCount", is(5)));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/time-deposits/update-balances/catch-up passes the last untracked period")
+    void catchUpBalances_passesLastUntrackedPeriod() throws Exception {
+        // Given
+        when(updateAllBalancesUseCase.catchUpBalances(3, YearMonth.of(2023, 10)))
+                .thenReturn(new UpdateAllBalancesUseCase.UpdateBalancesResult(2));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/time-deposits/update-balances/catch-up")
+                        .param("periods", "3")
+                        .param("lastUntrackedPeriod", "2023-10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount", is(2)));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/time-deposits/update-balances/catch-up rejects an invalid period count")
+    void catchUpBalances_returnsBadRequest() throws Exception {
+        // Given
+        when(updateAllBalancesUseCase.catchUpBalances(0, null)).thenThrow(new IllegalArgumentException("periods"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/time-deposits/update-balances/catch-up")
+                        .param("periods", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/time-deposits/update-balances/catch-up"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/time-deposits/update-balances reports failed ranges")
+    void updateAllBalances_reportsFailedRanges() throws Exception {
+        // Given
+        UpdateAllBalancesUseCase.UpdateBalancesResult result = new UpdateAllBalancesUseCase.UpdateBalancesResult(
+                10, List.of(new UpdateAllBalancesUseCase.Failure(11, 20, "connection lost")));
+        when(updateAllBalancesUseCase.updateAllBalances()).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/time-deposits/update-balances")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is("Balances updated with failures")))
+                .andExpect(jsonPath("$.updatedCount", is(10)))
+                .andExpect(jsonPath("$.failedRanges", is(1)));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/time-deposits/update-balances?async=true accepts a background job")
+    void updateAllBalances_async_returnsAcceptedJob() throws Exception {
+        // Given
+        UUID jobId = UUID.fromString("3f1c2a9e-5b7d-4c1e-9a2f-8d6b4e0c7a15");
+        when(updateAllBalancesUseCase.submitUpdateAllBalances()).thenReturn(new UpdateAllBalancesUseCase.JobStatus(
+                jobId, UpdateAllBalancesUseCase.JobState.QUEUED, 0, 0, 0.0, null,
+                Instant.parse("2024-01-15T10:30:00Z"), null, null, null, null));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/time-deposits/update-balances")
+                        .param("async", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location",
+                        endsWith("/api/v1/time-deposits/update-balances/" + jobId)))
+                .andExpect(jsonPath("$.jobId", is(jobId.toString())))
+                .andExpect(jsonPath("$.state", is("QUEUED")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits/update-balances/{jobId} reports job progress")
+    void getUpdateBalancesJob_reportsProgress() throws Exception {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        when(updateAllBalancesUseCase.findUpdateJob(jobId)).thenReturn(Optional.of(new UpdateAllBalancesUseCase.JobStatus(
+                jobId, UpdateAllBalancesUseCase.JobState.RUNNING, 250, 1000, 125.0, 6L,
+                Instant.parse("2024-01-15T10:30:00Z"), Instant.parse("2024-01-15T10:30:00Z"), null, null, null)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/time-deposits/update-balances/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("RUNNING")))
+                .andExpect(jsonPath("$.processed", is(250)))
+                .andExpect(jsonPath("$.total", is(1000)))
+                .andExpect(jsonPath("$.depositsPerSecond", is(125.0)))
+                .andExpect(jsonPath("$.etaSeconds", is(6)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits/update-balances/{jobId} returns 404 for an unknown job")
+    void getUpdateBalancesJob_returnsNotFound() throws Exception {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        when(updateAllBalancesUseCase.findUpdateJob(jobId)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/time-deposits/update-balances/{jobId}", jobId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode", is("NOT_FOUND")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits/update-balances/{jobId} returns 400 for a malformed id")
+    void getUpdateBalancesJob_returnsBadRequestForMalformedId() throws Exception {
+        mockMvc.perform(get("/api/v1/time-deposits/update-balances/{jobId}", "not-a-uuid"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits/accrual-simulation returns projected totals per plan")
+    void simulateAccrual_returnsTotalsPerPlan() throws Exception {
+        // Given
+        when(simulateAccrualUseCase.simulateAccrual()).thenReturn(SIMULATION);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/time-deposits/accrual-simulation"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.period", is("2024-01")))
+                .andExpect(jsonPath("$.depositCount", is(3)))
+                .andExpect(jsonPath("$.projectedInterest", is(216.67)))
+                .andExpect(jsonPath("$.plans", hasSize(2)))
+                .andExpect(jsonPath("$.plans[1].planType", is("premium")))
+                .andExpect(jsonPath("$.plans[1].depositCount", is(2)))
+                .andExpect(jsonPath("$.plans[1].projectedInterest", is(208.34)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits/accrual-simulation streams one NDJSON line per deposit and the totals")
+    void simulateAccrual_streamsNdjson() throws Exception {
+        // Given
+        when(simulateAccrualUseCase.simulateAccrual(any())).thenAnswer(invocation -> {
+            Consumer<ProjectedInterest> consumer = invocation.getArgument(0);
+            consumer.accept(new ProjectedInterest(1, PlanType.BASIC, 1000000L, 833L));
+            consumer.accept(new ProjectedInterest(2, PlanType.PREMIUM, 2000000L, 8333L));
+            return SIMULATION;
+        });
+
+        // When
+        MvcResult started = mockMvc.perform(get("/api/v1/time-deposits/accrual-simulation")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String[] lines = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("{\"id\":1,\"planType\":\"basic\",\"balance\":10000.00,\"projectedInterest\":8.33}");
+        assertThat(lines[1]).contains("\"id\":2", "\"planType\":\"premium\"");
+        assertThat(lines[2]).contains("\"period\":\"2024-01\"", "\"depositCount\":3");
+    }
+}
@@ -0,0 +1,124 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.application.port.output.AccrualRunLedgerPort.AccrualRun;
+import org.ikigaidigital.application.port.output.AccrualRunLedgerPort.Checkpoint;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.AccrualCheckpointEntity;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.AccrualRunEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccrualRunLedgerAdapter Unit Tests")
+class AccrualRunLedgerAdapterTest {
+
+    @Mock
+    private JpaAccrualRunRepository runRepository;
+
+    @Mock
+    private JpaAccrualCheckpointRepository checkpointRepository;
+
+    @InjectMocks
+    private AccrualRunLedgerAdapter adapter;
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    private static AccrualRunEntity run(long id) {
+        AccrualRunEntity entity = AccrualRunEntity.running(202401);
+        entity.setId(id);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("starts a run for a period, positioned before the first deposit")
+    void startsRun() {
+        // Given
+        when(runRepository.saveAndFlush(any(AccrualRunEntity.class))).thenAnswer(invocation -> {
+            AccrualRunEntity entity = invocation.getArgument(0);
+            entity.setId(4L);
+            return entity;
+        });
+
+        // When
+        AccrualRun started = adapter.startRun(PERIOD);
+
+        // Then
+        assertThat(started).isEqualTo(new AccrualRun(4L, PERIOD, 0, 0, 0, 0));
+        ArgumentCaptor<AccrualRunEntity> captor = ArgumentCaptor.forClass(AccrualRunEntity.class);
+        verify(runRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getPeriod()).isEqualTo(202401);
+    }
+
+    @Test
+    @DisplayName("records a checkpoint and advances the run past it")
+    void recordsCheckpoint() {
+        // Given
+        AccrualRunEntity entity = run(4L);
+        when(runRepository.findById(4L)).thenReturn(Optional.of(entity));
+        adapter.recordCheckpoint(4L, new Checkpoint(1, 10, 10, 5000));
+
+        // When
+        adapter.recordCheckpoint(4L, new Checkpoint(11, 15, 5, 2500));
+
+        // Then
+        ArgumentCaptor<AccrualCheckpointEntity> captor = ArgumentCaptor.forClass(AccrualCheckpointEntity.class);
+        verify(checkpointRepository, times(2)).save(captor.capture());
+        AccrualCheckpointEntity second = captor.getAllValues().get(1);
+        assertThat(second.getSequence()).isEqualTo(2);
+        assertThat(second.getFirstId()).isEqualTo(11);
+        assertThat(second.getLastId()).isEqualTo(15);
+        assertThat(entity.getLastCommittedId()).isEqualTo(15);
+        assertThat(entity.getProcessedCount()).isEqualTo(15L);
+        assertThat(entity.getChunkCount()).isEqualTo(2);
+        assertThat(entity.getBalanceChecksum()).isEqualTo(7500L);
+    }
+
+    @Test
+    @DisplayName("completes a run")
+    void completesRun() {
+        // Given
+        AccrualRunEntity entity = run(4L);
+        when(runRepository.findById(4L)).thenReturn(Optional.of(entity));
+
+        // When
+        adapter.completeRun(4L);
+
+        // Then
+        assertThat(entity.getStatus()).isEqualTo(AccrualRunEntity.STATUS_COMPLETED);
+        assertThat(entity.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("finds the unfinished run")
+    void findsUnfinishedRun() {
+        // Given
+        when(runRepository.findFirstByStatusOrderByIdDesc(AccrualRunEntity.STATUS_RUNNING))
+                .thenReturn(Optional.of(run(7L)));
+
+        // When & Then
+        assertThat(adapter.findUnfinishedRun()).contains(new AccrualRun(7L, PERIOD, 0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("rejects checkpoints for an unknown run")
+    void rejectsUnknownRun() {
+        // Given
+        when(runRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> adapter.recordCheckpoint(99L, new Checkpoint(1, 1, 1, 0)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
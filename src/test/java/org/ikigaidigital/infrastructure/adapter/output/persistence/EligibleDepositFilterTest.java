@@ -0,0 +1,60 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.AccrualScope;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EligibleDepositFilter Unit Tests")
+class EligibleDepositFilterTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    @Test
+    @DisplayName("builds eligibility windows from the rules")
+    void buildsPredicateFromRules() {
+        EligibleDepositFilter filter = EligibleDepositFilter.forScope(new AccrualScope(PERIOD, List.of(
+                new BasicInterestStrategy().rule(),
+                new StudentInterestStrategy().rule())));
+
+        assertThat(filter.predicate()).isEqualTo(
+                "t.lastAccruedPeriod < :period AND "
+                        + "((t.planType = :plan0 AND t.days > :minDays0) OR "
+                        + "(t.planType = :plan1 AND t.days > :minDays1 AND t.days < :maxDays1))");
+        assertThat(filter.parameters()).isEqualTo(Map.of(
+                "period", 202401,
+                "plan0", PlanType.BASIC, "minDays0", 30,
+                "plan1", PlanType.STUDENT, "minDays1", 30, "maxDays1", 366));
+    }
+
+    @Test
+    @DisplayName("omits the lower bound for plans without a grace period")
+    void omitsLowerBound_withoutGracePeriod() {
+        EligibleDepositFilter filter = EligibleDepositFilter.forScope(
+                new AccrualScope(PERIOD, List.of(new InternalInterestStrategy().rule())));
+
+        assertThat(filter.predicate()).isEqualTo(
+                "t.lastAccruedPeriod < :period AND ((t.planType = :plan0 AND t.days < :maxDays0))");
+        assertThat(filter.parameters()).containsOnlyKeys("period", "plan0", "maxDays0");
+    }
+
+    @Test
+    @DisplayName("filters only on the period when no plan earns interest")
+    void filtersOnPeriodOnly_forNoRules() {
+        AccrualScope scope = new AccrualScope(PERIOD, List.of());
+        EligibleDepositFilter filter = EligibleDepositFilter.forScope(scope);
+
+        assertThat(scope.isEmpty()).isTrue();
+        assertThat(filter.predicate()).isEqualTo("t.lastAccruedPeriod < :period");
+        assertThat(filter.parameters()).isEqualTo(Map.of("period", 202401));
+    }
+}
@@ -0,0 +1,77 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.strategy.BasicInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.InterestRule;
+import org.ikigaidigital.domain.model.strategy.InternalInterestStrategy;
+import org.ikigaidigital.domain.model.strategy.StudentInterestStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InterestAccrualSql Unit Tests")
+class InterestAccrualSqlTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    @Test
+    @DisplayName("builds an empty statement when no plan earns interest")
+    void buildsEmptyStatement_forNoRules() {
+        InterestAccrualSql accrual = InterestAccrualSql.forRules(List.of(), PERIOD);
+
+        assertThat(accrual.isEmpty()).isTrue();
+        assertThat(accrual.parameters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("builds rate CASE and eligibility predicates from the rules")
+    void buildsStatementFromRules() {
+        InterestAccrualSql accrual = InterestAccrualSql.forRules(List.of(
+                new BasicInterestStrategy().rule(),
+                new StudentInterestStrategy().rule()), PERIOD);
+
+        assertThat(accrual.sql()).isEqualTo(
+                "UPDATE time_deposits SET balance = balance + ROUND(balance * "
+                        + "CASE plan_type WHEN ? THEN ? WHEN ? THEN ? END / 12, 2), "
+                        + "last_accrued_period = ?, updated_at = CURRENT_TIMESTAMP "
+                        + "WHERE last_accrued_period < ? AND "
+                        + "((plan_type = ? AND days > ?) OR (plan_type = ? AND days > ? AND days < ?))");
+        assertThat(accrual.parameters()).containsExactly(
+                "basic", new BigDecimal("0.01"), "student", new BigDecimal("0.03"),
+                202401, 202401,
+                "basic", 30, "student", 30, 366);
+    }
+
+    @Test
+    @DisplayName("omits the lower bound for plans without a grace period")
+    void omitsLowerBound_withoutGracePeriod() {
+        InterestAccrualSql accrual = InterestAccrualSql.forRules(List.of(new InternalInterestStrategy().rule()), PERIOD);
+
+        assertThat(accrual.sql()).endsWith("WHERE last_accrued_period < ? AND ((plan_type = ? AND days < ?))");
+        assertThat(accrual.parameters()).containsExactly(
+                "internal", new BigDecimal("0.085"), 202401, 202401, "internal", 300);
+    }
+
+    @Test
+    @DisplayName("binds rates as exact decimals")
+    void bindsRatesAsExactDecimals() {
+        InterestAccrualSql accrual = InterestAccrualSql.forRules(List.of(
+                new InterestRule(PlanType.PREMIUM, 0.05, 45, InterestRule.NO_MAXIMUM)), PERIOD);
+
+        assertThat(accrual.parameters().get(1)).isEqualTo(new BigDecimal("0.05"));
+    }
+
+    @Test
+    @DisplayName("encodes the period as yyyymm so later periods compare greater")
+    void encodesPeriodInOrder() {
+        assertThat(AccrualPeriodKey.of(YearMonth.of(2024, 12))).isEqualTo(202412);
+        assertThat(AccrualPeriodKey.of(YearMonth.of(2025, 1))).isGreaterThan(AccrualPeriodKey.of(YearMonth.of(2024, 12)));
+        assertThat(AccrualPeriodKey.NEVER_ACCRUED).isLessThan(AccrualPeriodKey.of(YearMonth.of(1, 1)));
+        assertThat(AccrualPeriodKey.ACCRUED_BEFORE_TRACKING).isLessThan(AccrualPeriodKey.of(YearMonth.of(1, 1)));
+    }
+}
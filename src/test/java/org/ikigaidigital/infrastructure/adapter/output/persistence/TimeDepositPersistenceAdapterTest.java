@@ -0,0 +1,255 @@
+package org.ikigaidigital.infrastructure.adapter.output.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.Withdrawal;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.entity.TimeDepositEntity;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.projection.TimeDepositRow;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.projection.WithdrawalRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimeDepositPersistenceAdapter Unit Tests")
+class TimeDepositPersistenceAdapterTest {
+
+    @Mock
+    private JpaTimeDepositRepository jpaRepository;
+
+    @Mock
+    private JpaWithdrawalRepository withdrawalRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private BulkBalanceWriter bulkBalanceWriter;
+
+    @Mock
+    private PortfolioChangeListener portfolioChangeListener;
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    private TimeDepositPersistenceAdapter adapter(WriteBackMode writeBackMode) {
+        return new TimeDepositPersistenceAdapter(
+                jpaRepository, withdrawalRepository, entityManager, jdbcTemplate, bulkBalanceWriter, writeBackMode,
+                portfolioChangeListener);
+    }
+
+    @Nested
+    @DisplayName("saveAll() in entity mode")
+    class SaveAllEntityMode {
+
+        @Test
+        @DisplayName("updates changed balances through the persistence context")
+        void updatesChangedBalances() {
+            // Given
+            TimeDeposit changed = new TimeDeposit(2, PlanType.BASIC, 10000.00, 45);
+            changed.setBalance(10008.33);
+            TimeDepositEntity entity = new TimeDepositEntity(PlanType.BASIC, new BigDecimal("10000.00"), 45);
+            when(entityManager.find(TimeDepositEntity.class, 2)).thenReturn(entity);
+
+            // When
+            adapter(WriteBackMode.ENTITY).saveAll(List.of(changed), PERIOD);
+
+            // Then
+            assertThat(entity.getBalance()).isEqualByComparingTo("10008.33");
+            assertThat(entity.getLastAccruedPeriod()).isEqualTo(202401);
+            verify(jpaRepository, never()).findAll();
+            verify(jpaRepository, never()).findAllById(any());
+            verify(jpaRepository).saveAll(List.of(entity));
+            assertThat(changed.isBalanceChanged()).isFalse();
+        }
+
+        @Test
+        @DisplayName("stamps deposits whose balance did not change with the period")
+        void stampsUnchangedDeposits() {
+            // Given
+            TimeDeposit unchanged = new TimeDeposit(1, PlanType.BASIC, 0.00, 10);
+            TimeDepositEntity entity = new TimeDepositEntity(PlanType.BASIC, new BigDecimal("0.00"), 10);
+            when(entityManager.find(TimeDepositEntity.class, 1)).thenReturn(entity);
+
+            // When
+            adapter(WriteBackMode.ENTITY).saveAll(List.of(unchanged), PERIOD);
+
+            // Then
+            assertThat(entity.getBalance()).isEqualByComparingTo("0.00");
+            assertThat(entity.getLastAccruedPeriod()).isEqualTo(202401);
+            verify(jpaRepository).saveAll(List.of(entity));
+        }
+
+        @Test
+        @DisplayName("resolves changed deposits in id order")
+        void resolvesInIdOrder() {
+            // Given
+            TimeDeposit third = new TimeDeposit(3, PlanType.BASIC, 100.00, 45);
+            TimeDeposit first = new TimeDeposit(1, PlanType.BASIC, 100.00, 45);
+            third.setBalance(101.00);
+            first.setBalance(101.00);
+            when(entityManager.find(eq(TimeDepositEntity.class), anyInt()))
+                    .thenAnswer(invocation -> new TimeDepositEntity(PlanType.BASIC, new BigDecimal("100.00"), 45));
+
+            // When
+            adapter(WriteBackMode.ENTITY).saveAll(List.of(third, first), PERIOD);
+
+            // Then
+            InOrder inOrder = inOrder(entityManager);
+            inOrder.verify(entityManager).find(TimeDepositEntity.class, 1);
+            inOrder.verify(entityManager).find(TimeDepositEntity.class, 3);
+        }
+
+        @Test
+        @DisplayName("leaves deposits already credited for the period untouched")
+        void skipsDepositsAlreadyAccrued() {
+            // Given
+            TimeDeposit changed = new TimeDeposit(2, PlanType.BASIC, 10000.00, 45);
+            changed.setBalance(10008.33);
+            TimeDepositEntity entity = new TimeDepositEntity(PlanType.BASIC, new BigDecimal("10008.33"), 45);
+            entity.setLastAccruedPeriod(202401);
+            when(entityManager.find(TimeDepositEntity.class, 2)).thenReturn(entity);
+
+            // When
+            adapter(WriteBackMode.ENTITY).saveAll(List.of(changed), PERIOD);
+
+            // Then
+            assertThat(entity.getBalance()).isEqualByComparingTo("10008.33");
+            verify(jpaRepository).saveAll(List.of());
+        }
+
+        @Test
+        @DisplayName("does nothing when there is no deposit")
+        void doesNothing_whenNoDeposits() {
+            List<TimeDeposit> deposits = List.of();
+
+            List<TimeDeposit> result = adapter(WriteBackMode.ENTITY).saveAll(deposits, PERIOD);
+
+            assertThat(result).isSameAs(deposits);
+            verifyNoInteractions(entityManager, jpaRepository, bulkBalanceWriter);
+        }
+    }
+
+    @Nested
+    @DisplayName("saveAll() in bulk mode")
+    class SaveAllBulkMode {
+
+        @Test
+        @DisplayName("sends every deposit to the bulk writer, changed or not")
+        void sendsAllDeposits() {
+            // Given
+            TimeDeposit changed = new TimeDeposit(2, PlanType.BASIC, 10000.00, 45);
+            changed.setBalance(10008.33);
+            TimeDeposit unchanged = new TimeDeposit(1, PlanType.BASIC, 10000.00, 10);
+
+            // When
+            adapter(WriteBackMode.BULK).saveAll(List.of(unchanged, changed), PERIOD);
+
+            // Then
+            verify(bulkBalanceWriter).write(List.of(unchanged, changed), PERIOD);
+            verifyNoInteractions(entityManager);
+            verify(jpaRepository, never()).saveAll(anyList());
+            assertThat(changed.isBalanceChanged()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAll()")
+    class FindAll {
+
+        @Test
+        @DisplayName("reads projections in entity mode too")
+        void readsProjectionsInEntityMode() {
+            // Given
+            when(jpaRepository.findAllRows()).thenReturn(List.of(
+                    new TimeDepositRow(1, PlanType.BASIC, new BigDecimal("10000.00"), 45)));
+
+            // When
+            List<TimeDeposit> deposits = adapter(WriteBackMode.ENTITY).findAll();
+
+            // Then
+            assertThat(deposits).extracting(TimeDeposit::getBalanceCents).containsExactly(1_000_000L);
+            verify(jpaRepository, never()).findAll();
+            verifyNoInteractions(entityManager);
+        }
+    }
+
+    @Nested
+    @DisplayName("withdrawal loading")
+    class WithdrawalLoading {
+
+        @Test
+        @DisplayName("attaches the withdrawals of a page with one query")
+        void attachesWithdrawalsOfPage() {
+            // Given
+            when(jpaRepository.findRowsAfter(eq(0), any())).thenReturn(List.of(
+                    new TimeDepositRow(1, PlanType.BASIC, new BigDecimal("10000.00"), 45),
+                    new TimeDepositRow(2, PlanType.PREMIUM, new BigDecimal("20000.00"), 60)));
+            when(withdrawalRepository.findRowsByTimeDepositIds(List.of(1, 2))).thenReturn(List.of(
+                    new WithdrawalRow(1, 10, new BigDecimal("500.00"), LocalDate.of(2024, 1, 15)),
+                    new WithdrawalRow(1, 11, new BigDecimal("200.00"), LocalDate.of(2024, 2, 1))));
+
+            // When
+            List<TimeDeposit> page = adapter(WriteBackMode.ENTITY).findPageAfter(0, 2);
+
+            // Then
+            assertThat(page.get(0).getWithdrawals()).containsExactly(
+                    new Withdrawal(10, 50000, LocalDate.of(2024, 1, 15)),
+                    new Withdrawal(11, 20000, LocalDate.of(2024, 2, 1)));
+            assertThat(page.get(1).getWithdrawals()).isEmpty();
+            verify(withdrawalRepository, times(1)).findRowsByTimeDepositIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("loads the withdrawals of all deposits in batches instead of joining them")
+        void loadsWithdrawalsInBatches() {
+            // Given
+            List<TimeDepositRow> rows = IntStream.rangeClosed(1, 2500)
+                    .mapToObj(id -> new TimeDepositRow(id, PlanType.BASIC, new BigDecimal("100.00"), 45))
+                    .toList();
+            when(jpaRepository.findAllRows()).thenReturn(rows);
+            when(withdrawalRepository.findRowsByTimeDepositIds(anyCollection())).thenReturn(List.of());
+
+            // When
+            List<TimeDeposit> deposits = adapter(WriteBackMode.ENTITY).findAllWithWithdrawals();
+
+            // Then
+            assertThat(deposits).hasSize(2500);
+            verify(withdrawalRepository, times(3)).findRowsByTimeDepositIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("does not query withdrawals for an empty page")
+        void skipsEmptyPage() {
+            // Given
+            when(jpaRepository.findRowsAfter(eq(5), any())).thenReturn(List.of());
+
+            // When
+            List<TimeDeposit> page = adapter(WriteBackMode.ENTITY).findPageAfter(5, 10);
+
+            // Then
+            assertThat(page).isEmpty();
+            verifyNoInteractions(withdrawalRepository);
+        }
+    }
+}
@@ -5,17 +5,18 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
-import org.testcontainers.junit.jupiter.Container;
-import org.testcontainers.junit.jupiter.Testcontainers;
 
 /**
  * Abstract base class for integration tests using Testcontainers.
  * Provides a shared PostgreSQL container for all integration tests.
  * Flyway migrations will run automatically against the test database.
+ *
+ * The container is started once per JVM rather than per test class, so the
+ * Spring context cached across integration test classes keeps pointing at
+ * a running database.
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
-@Testcontainers
 public abstract class AbstractIntegrationTest {
 
     static {
@@ -24,12 +25,15 @@ public abstract class AbstractIntegrationTest {
         System.setProperty("api.version", "1.44");
     }
 
-    @Container
-    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
             .withDatabaseName("timedeposit_test")
             .withUsername("test")
             .withPassword("test");
 
+    static {
+        postgres.start();
+    }
+
     @DynamicPropertySource
     static void configureProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
@@ -0,0 +1,124 @@
+package org.ikigaidigital.integration;
+
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.infrastructure.adapter.output.persistence.BulkBalanceWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the array-bound bulk write-back against PostgreSQL.
+ * Runs in a rolled-back transaction so the seeded data is left untouched.
+ */
+@DisplayName("BulkBalanceWriter Integration Tests")
+@Transactional
+class BulkBalanceWriterIntegrationTest extends AbstractIntegrationTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    @Autowired
+    private BulkBalanceWriter bulkBalanceWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("writes changed balances and stamps unchanged rows with the period")
+    void writesChangedBalances_andStampsUnchanged() {
+        // Given
+        int changedId = insert("basic", "1000.00");
+        int unchangedId = insert("premium", "2000.00");
+
+        // When
+        int updated = bulkBalanceWriter.write(List.of(
+                credited(changedId, 1000.00, 1000.83),
+                new TimeDeposit(unchangedId, PlanType.PREMIUM, 2000.00, 60)), PERIOD);
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(balanceOf(changedId)).isEqualByComparingTo("1000.83");
+        assertThat(balanceOf(unchangedId)).isEqualByComparingTo("2000.00");
+        assertThat(lastAccruedPeriodOf(changedId)).isEqualTo(202401);
+        assertThat(lastAccruedPeriodOf(unchangedId)).isEqualTo(202401);
+    }
+
+    @Test
+    @DisplayName("stamps unchanged rows without writing their balance")
+    void stampsUnchanged_withoutWritingBalance() {
+        // Given
+        int id = insert("basic", "1000.00");
+
+        // When - the row's balance moved after the deposit was read
+        jdbcTemplate.update("UPDATE time_deposits SET balance = 1200.00 WHERE id = ?", id);
+        int updated = bulkBalanceWriter.write(List.of(new TimeDeposit(id, PlanType.BASIC, 1000.00, 60)), PERIOD);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(balanceOf(id)).isEqualByComparingTo("1200.00");
+        assertThat(lastAccruedPeriodOf(id)).isEqualTo(202401);
+    }
+
+    @Test
+    @DisplayName("skips rows already credited for the period")
+    void skipsRowsAlreadyCreditedForPeriod() {
+        // Given
+        int id = insert("basic", "1000.00");
+        bulkBalanceWriter.write(List.of(credited(id, 1000.00, 1000.83)), PERIOD);
+
+        // When - an overlapping run computed from the stale balance
+        int updated = bulkBalanceWriter.write(List.of(credited(id, 1000.00, 1000.84)), PERIOD);
+
+        // Then
+        assertThat(updated).isZero();
+        assertThat(balanceOf(id)).isEqualByComparingTo("1000.83");
+    }
+
+    @Test
+    @DisplayName("rounds balances to cents before writing")
+    void roundsBalancesToCents() {
+        // Given
+        int id = insert("basic", "10000.00");
+
+        // When
+        bulkBalanceWriter.write(List.of(credited(id, 10000.00, 10008.330000000002)), PERIOD);
+
+        // Then
+        assertThat(balanceOf(id)).isEqualByComparingTo("10008.33");
+    }
+
+    @Test
+    @DisplayName("returns zero for an empty list without touching the database")
+    void returnsZero_forEmptyList() {
+        assertThat(bulkBalanceWriter.write(List.of(), PERIOD)).isZero();
+    }
+
+    private TimeDeposit credited(int id, double balance, double creditedBalance) {
+        TimeDeposit deposit = new TimeDeposit(id, PlanType.BASIC, balance, 60);
+        deposit.setBalance(creditedBalance);
+        return deposit;
+    }
+
+    private int insert(String planType, String balance) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO time_deposits (plan_type, balance, days) VALUES (?, ?, 60) RETURNING id",
+                Integer.class, planType, new BigDecimal(balance));
+    }
+
+    private int lastAccruedPeriodOf(int id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT last_accrued_period FROM time_deposits WHERE id = ?", Integer.class, id);
+    }
+
+    private BigDecimal balanceOf(int id) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM time_deposits WHERE id = ?", BigDecimal.class, id);
+    }
+}
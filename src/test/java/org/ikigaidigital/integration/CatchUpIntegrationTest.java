@@ -0,0 +1,78 @@
+package org.ikigaidigital.integration;
+
+import org.ikigaidigital.application.port.input.UpdateAllBalancesUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for catching up deposits credited before accrual periods were
+ * recorded, which V15 marks with {@code last_accrued_period = -1}.
+ * Runs in a rolled-back transaction so the seeded data is left untouched.
+ */
+@DisplayName("Catch-Up Integration Tests")
+@Transactional
+class CatchUpIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private UpdateAllBalancesUseCase updateAllBalancesUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @Test
+    @DisplayName("refuses a deposit left by the update before period tracking without its last period")
+    void refusesUntrackedDeposit() {
+        // Given
+        int id = insertUntracked("10000.00");
+
+        // When & Then
+        assertThatThrownBy(() -> updateAllBalancesUseCase.catchUpBalances(3, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(balanceOf(id)).isEqualByComparingTo("10000.00");
+        assertThat(lastAccruedPeriodOf(id)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("credits a deposit left by the update before period tracking only after the given period")
+    void creditsUntrackedDeposit_afterGivenPeriod() {
+        // Given
+        int id = insertUntracked("10000.00");
+        YearMonth period = YearMonth.now(clock);
+
+        // When - the old update last credited the previous month
+        updateAllBalancesUseCase.catchUpBalances(3, period.minusMonths(1));
+
+        // Then - one month at 1% a year, not three
+        assertThat(balanceOf(id)).isEqualByComparingTo("10008.33");
+        assertThat(lastAccruedPeriodOf(id)).isEqualTo(period.getYear() * 100 + period.getMonthValue());
+    }
+
+    private int insertUntracked(String balance) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO time_deposits (plan_type, balance, days, last_accrued_period) "
+                        + "VALUES ('basic', ?, 60, -1) RETURNING id",
+                Integer.class, new BigDecimal(balance));
+    }
+
+    private BigDecimal balanceOf(int id) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM time_deposits WHERE id = ?", BigDecimal.class, id);
+    }
+
+    private Integer lastAccruedPeriodOf(int id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT last_accrued_period FROM time_deposits WHERE id = ?", Integer.class, id);
+    }
+}
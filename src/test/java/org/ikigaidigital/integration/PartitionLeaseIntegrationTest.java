@@ -0,0 +1,154 @@
+package org.ikigaidigital.integration;
+
+import org.ikigaidigital.application.port.output.PartitionLeasePort;
+import org.ikigaidigital.application.port.output.PartitionLeasePort.PendingPartition;
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort.IdRange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for partition leasing against PostgreSQL.
+ * Uses a period far in the future so the seeded data is not affected, and removes its partitions afterwards.
+ */
+@DisplayName("Partition lease Integration Tests")
+class PartitionLeaseIntegrationTest extends AbstractIntegrationTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2999, 12);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private PartitionLeasePort partitionLeasePort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM accrual_partitions WHERE period = 299912");
+    }
+
+    @Test
+    @DisplayName("registering the same partitions twice keeps one row per partition")
+    void registersIdempotently() {
+        List<IdRange> partitions = List.of(new IdRange(1, 10), new IdRange(11, 20));
+
+        transactionTemplate.executeWithoutResult(status -> partitionLeasePort.registerPartitions(PERIOD, partitions));
+        transactionTemplate.executeWithoutResult(status -> partitionLeasePort.registerPartitions(PERIOD, partitions));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM accrual_partitions WHERE period = 299912", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("registering again after deposits were added widens the last partition and reopens it")
+    void widensLastPartition() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> partitionLeasePort.registerPartitions(
+                PERIOD, List.of(new IdRange(1, 10), new IdRange(11, 14))));
+        transactionTemplate.execute(status -> partitionLeasePort.claimPartition(PERIOD, "node-a", LEASE));
+        transactionTemplate.execute(status -> partitionLeasePort.claimPartition(PERIOD, "node-a", LEASE));
+        transactionTemplate.execute(status -> partitionLeasePort.completePartition(PERIOD, new IdRange(1, 10), "node-a", 10));
+        transactionTemplate.execute(status -> partitionLeasePort.completePartition(PERIOD, new IdRange(11, 14), "node-a", 4));
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> partitionLeasePort.registerPartitions(
+                PERIOD, List.of(new IdRange(1, 10), new IdRange(11, 18))));
+
+        // Then
+        List<PendingPartition> pending = transactionTemplate.execute(
+                status -> partitionLeasePort.findPendingPartitions(PERIOD));
+        Optional<IdRange> reclaimed = transactionTemplate.execute(
+                status -> partitionLeasePort.claimPartition(PERIOD, "node-b", LEASE));
+        assertThat(pending).containsExactly(new PendingPartition(new IdRange(11, 18), null));
+        assertThat(reclaimed).contains(new IdRange(11, 18));
+    }
+
+    @Test
+    @DisplayName("concurrent claimers skip partitions locked or leased by others")
+    void claimersSkipLeasedPartitions() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> partitionLeasePort.registerPartitions(
+                PERIOD, List.of(new IdRange(1, 10), new IdRange(11, 20))));
+
+        // When - node b claims while node a's claim transaction still holds its row lock
+        AtomicReference<Optional<IdRange>> first = new AtomicReference<>();
+        AtomicReference<Optional<IdRange>> second = new AtomicReference<>();
+        TransactionTemplate otherNode = new TransactionTemplate(
+                transactionTemplate.getTransactionManager(),
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        transactionTemplate.executeWithoutResult(status -> {
+            first.set(partitionLeasePort.claimPartition(PERIOD, "node-a", LEASE));
+            second.set(otherNode.execute(inner -> partitionLeasePort.claimPartition(PERIOD, "node-b", LEASE)));
+        });
+        Optional<IdRange> third = transactionTemplate.execute(
+                status -> partitionLeasePort.claimPartition(PERIOD, "node-c", LEASE));
+
+        // Then
+        assertThat(first.get()).contains(new IdRange(1, 10));
+        assertThat(second.get()).contains(new IdRange(11, 20));
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    @DisplayName("lists pending partitions with the owner of each unexpired lease")
+    void listsPendingPartitions() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> partitionLeasePort.registerPartitions(
+                PERIOD, List.of(new IdRange(1, 10), new IdRange(11, 20), new IdRange(21, 30))));
+        transactionTemplate.execute(status -> partitionLeasePort.claimPartition(PERIOD, "node-a", LEASE));
+        transactionTemplate.execute(status -> partitionLeasePort.completePartition(PERIOD, new IdRange(1, 10), "node-a", 3));
+        transactionTemplate.execute(status -> partitionLeasePort.claimPartition(PERIOD, "node-b", LEASE));
+
+        // When
+        List<PendingPartition> pending = transactionTemplate.execute(
+                status -> partitionLeasePort.findPendingPartitions(PERIOD));
+
+        // Then
+        assertThat(pending).containsExactly(
+                new PendingPartition(new IdRange(11, 20), "node-b"),
+                new PendingPartition(new IdRange(21, 30), null));
+    }
+
+    @Test
+    @DisplayName("expired leases are reclaimed and the old owner can no longer complete")
+    void reclaimsExpiredLeases() {
+        // Given
+        transactionTemplate.executeWithoutResult(status -> partitionLeasePort.registerPartitions(
+                PERIOD, List.of(new IdRange(1, 10))));
+        transactionTemplate.execute(status -> partitionLeasePort.claimPartition(PERIOD, "node-a", LEASE));
+        jdbcTemplate.update("UPDATE accrual_partitions SET lease_expires_at = CURRENT_TIMESTAMP - INTERVAL '1 second' "
+                + "WHERE period = 299912");
+
+        // When
+        Optional<IdRange> reclaimed = transactionTemplate.execute(
+                status -> partitionLeasePort.claimPartition(PERIOD, "node-b", LEASE));
+        Boolean staleCompleted = transactionTemplate.execute(
+                status -> partitionLeasePort.completePartition(PERIOD, new IdRange(1, 10), "node-a", 3));
+        Boolean completed = transactionTemplate.execute(
+                status -> partitionLeasePort.completePartition(PERIOD, new IdRange(1, 10), "node-b", 3));
+
+        // Then
+        assertThat(reclaimed).contains(new IdRange(1, 10));
+        assertThat(staleCompleted).isFalse();
+        assertThat(completed).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempts FROM accrual_partitions WHERE period = 299912", Integer.class)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,234 @@
+package org.ikigaidigital.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Integration tests for the portfolio change notifications (V14) and the version each
+ * instance keeps from them. Writes are committed, as notifications are only delivered
+ * on commit; the deposits inserted here are deleted again after each test.
+ *
+ * The notifications are observed on a connection of the test's own, and statements are
+ * counted on every connection the application borrows. The rule refresh is off, so no
+ * background statement lands in a count.
+ */
+@DisplayName("Portfolio Version Integration Tests")
+@TestPropertySource(properties = "time-deposit.rules.refresh-interval=0")
+@Import(PortfolioVersionIntegrationTest.StatementCounting.class)
+class PortfolioVersionIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int NOTIFICATION_WAIT_MILLIS = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private Connection listener;
+
+    @BeforeEach
+    void listen() throws SQLException {
+        listener = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = listener.createStatement()) {
+            statement.execute("LISTEN portfolio_changed");
+        }
+    }
+
+    @AfterEach
+    void deleteInsertedDeposits() throws SQLException {
+        listener.close();
+        jdbcTemplate.update("DELETE FROM withdrawals WHERE time_deposit_id IN "
+                + "(SELECT id FROM time_deposits WHERE days = 999)");
+        jdbcTemplate.update("DELETE FROM time_deposits WHERE days = 999");
+    }
+
+    @Test
+    @DisplayName("notifies once for a transaction writing several statements to both tables")
+    void notifiesOncePerTransaction() throws SQLException {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            int id = insert("1000.00");
+            jdbcTemplate.update("UPDATE time_deposits SET balance = 1000.83 WHERE id = ?", id);
+            jdbcTemplate.update("INSERT INTO withdrawals (time_deposit_id, amount, withdrawal_date) "
+                    + "VALUES (?, 10.00, CURRENT_DATE)", id);
+        });
+
+        // Then
+        assertThat(receiveNotifications()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("does not notify for a rolled-back write, a read or an update matching no row")
+    void silentWithoutCommittedChanges() throws SQLException {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            insert("1000.00");
+            status.setRollbackOnly();
+        });
+        jdbcTemplate.queryForObject("SELECT count(*) FROM time_deposits", Long.class);
+        jdbcTemplate.update("UPDATE time_deposits SET balance = balance WHERE id < 0");
+
+        // Then
+        assertThat(receiveNotifications()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits answers a current If-None-Match with 304 without a statement")
+    void notModified_withoutStatements() {
+        // A write notified late by an earlier test may change the tag once
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            // Given
+            String etag = getAll(null).getHeaders().getETag();
+            long before = statementCounter.count();
+
+            // When
+            ResponseEntity<String> response = getAll(etag);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(statementCounter.count() - before).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits changes its ETag after a write made outside the application")
+    void etagChanges_afterExternalWrite() {
+        // Given
+        String etag = getAll(null).getHeaders().getETag();
+
+        // When
+        insert("1000.00");
+
+        // Then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            ResponseEntity<String> response = getAll(etag);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+            assertThat(response.getBody()).contains("\"days\":999");
+        });
+    }
+
+    private List<PGNotification> receiveNotifications() throws SQLException {
+        List<PGNotification> received = new ArrayList<>();
+        PGNotification[] batch;
+        do {
+            batch = listener.unwrap(PGConnection.class).getNotifications(NOTIFICATION_WAIT_MILLIS);
+            if (batch != null) {
+                received.addAll(List.of(batch));
+            }
+        } while (batch != null && batch.length > 0);
+        return received;
+    }
+
+    private ResponseEntity<String> getAll(String ifNoneMatch) {
+        RequestEntity.HeadersBuilder<?> request = RequestEntity.get(URI.create("/api/v1/time-deposits"));
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return restTemplate.exchange(request.build(), String.class);
+    }
+
+    private int insert(String balance) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO time_deposits (plan_type, balance, days) VALUES ('basic', ?, 999) RETURNING id",
+                Integer.class, new BigDecimal(balance));
+    }
+
+    @TestConfiguration
+    static class StatementCounting {
+
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+    }
+
+    /**
+     * Counts the statements created on the connections of the application's data source.
+     */
+    static final class StatementCounter implements BeanPostProcessor {
+
+        private final AtomicLong statements = new AtomicLong();
+
+        long count() {
+            return statements.get();
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return counting(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return counting(super.getConnection(username, password));
+                }
+            };
+        }
+
+        private Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("equals")) {
+                            return proxy == args[0];
+                        }
+                        if (method.getName().equals("createStatement") || method.getName().startsWith("prepare")) {
+                            statements.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
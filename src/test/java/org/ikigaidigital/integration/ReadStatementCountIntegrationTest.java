@@ -0,0 +1,91 @@
+package org.ikigaidigital.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.TimeDepositPageResponseDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.TimeDepositResponseDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.WithdrawalDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regression tests pinning the SQL statements of the read endpoints.
+ *
+ * Withdrawals are loaded with one batched query per page or fetch of deposits, so a
+ * read costs two statements whatever the number of deposits and withdrawals; a lazy
+ * load per deposit would show up here as one extra statement per deposit.
+ * The read cache is off, so every full read reaches the database instead of replaying
+ * a body cached by an earlier test.
+ */
+@DisplayName("Read Statement Count Integration Tests")
+@TestPropertySource(properties = "time-deposit.read-cache.enabled=false")
+class ReadStatementCountIntegrationTest extends AbstractIntegrationTest {
+
+    // The deposits, then their withdrawals
+    private static final long STATEMENTS_PER_READ = 2;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits returns the seeded withdrawals in two statements")
+    void getAllTimeDeposits_loadsWithdrawalsInOneQuery() {
+        // When
+        ResponseEntity<List<TimeDepositResponseDTO>> response = restTemplate.exchange(
+                "/api/v1/time-deposits",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<>() {}
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().get(0).withdrawals())
+                .extracting(WithdrawalDTO::date)
+                .containsExactly(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 1));
+        assertThat(response.getBody().stream().mapToInt(deposit -> deposit.withdrawals().size()).sum())
+                .isGreaterThanOrEqualTo(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_READ);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/time-deposits?limit= returns a page with its withdrawals in two statements")
+    void getTimeDepositPage_loadsWithdrawalsInOneQuery() {
+        // When
+        ResponseEntity<TimeDepositPageResponseDTO> response = restTemplate.getForEntity(
+                "/api/v1/time-deposits?limit=2", TimeDepositPageResponseDTO.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().items()).hasSize(2);
+        assertThat(response.getBody().items().get(0).withdrawals()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_READ);
+    }
+}
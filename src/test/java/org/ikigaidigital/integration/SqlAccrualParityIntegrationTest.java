@@ -0,0 +1,119 @@
+package org.ikigaidigital.integration;
+
+import org.ikigaidigital.application.port.output.TimeDepositPersistencePort;
+import org.ikigaidigital.domain.model.Money;
+import org.ikigaidigital.domain.model.PlanType;
+import org.ikigaidigital.domain.model.TimeDeposit;
+import org.ikigaidigital.domain.model.TimeDepositCalculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parity test between the Java calculation engine and the set-based SQL push-down.
+ *
+ * A deterministic portfolio covering every plan, every threshold boundary and
+ * balances from one cent to a billion, half-cent ties included, is accrued once in
+ * the JVM and once in PostgreSQL; every resulting balance must match to the cent.
+ *
+ * Runs in a rolled-back transaction so the seeded data is left untouched.
+ */
+@DisplayName("SQL push-down accrual parity Integration Tests")
+@Transactional
+class SqlAccrualParityIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int[] BOUNDARY_DAYS = {0, 1, 29, 30, 31, 44, 45, 46, 299, 300, 301, 365, 366, 367};
+    private static final int RANDOM_DEPOSITS = 5000;
+    private static final YearMonth PERIOD = YearMonth.of(2024, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TimeDepositPersistencePort persistencePort;
+
+    @Autowired
+    private TimeDepositCalculator calculator;
+
+    @Test
+    @DisplayName("SQL push-down credits exactly what the Java engine credits")
+    void sqlPushdownMatchesJavaEngine_toTheCent() {
+        // Given
+        insertPortfolio();
+        List<TimeDeposit> javaDeposits = loadDeposits();
+
+        // When - Java engine
+        calculator.updateBalance(javaDeposits);
+        Map<Integer, BigDecimal> expected = new TreeMap<>();
+        for (TimeDeposit deposit : javaDeposits) {
+            expected.put(deposit.getId(), Money.toDecimal(deposit.getBalanceCents()));
+        }
+
+        // When - SQL push-down
+        persistencePort.applyMonthlyInterest(calculator.getInterestRules(), PERIOD);
+        Map<Integer, BigDecimal> actual = new TreeMap<>();
+        jdbcTemplate.query("SELECT id, balance FROM time_deposits",
+                rs -> { actual.put(rs.getInt("id"), rs.getBigDecimal("balance")); });
+
+        // Then
+        assertThat(actual).hasSameSizeAs(expected);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("SQL push-down credits a period only once")
+    void sqlPushdownCreditsPeriodOnce() {
+        // Given
+        insertPortfolio();
+        int firstRun = persistencePort.applyMonthlyInterest(calculator.getInterestRules(), PERIOD);
+
+        // When
+        int secondRun = persistencePort.applyMonthlyInterest(calculator.getInterestRules(), PERIOD);
+        int nextPeriod = persistencePort.applyMonthlyInterest(calculator.getInterestRules(), PERIOD.plusMonths(1));
+
+        // Then
+        assertThat(firstRun).isPositive();
+        assertThat(secondRun).isZero();
+        assertThat(nextPeriod).isEqualTo(firstRun);
+    }
+
+    private void insertPortfolio() {
+        PlanType[] planTypes = PlanType.values();
+        Random random = new Random(20240101L);
+        List<Object[]> rows = new ArrayList<>();
+        for (PlanType planType : planTypes) {
+            for (int days : BOUNDARY_DAYS) {
+                rows.add(new Object[]{planType.getValue(), new BigDecimal("12345.67"), days});
+            }
+        }
+        while (rows.size() < RANDOM_DEPOSITS) {
+            PlanType planType = planTypes[random.nextInt(planTypes.length)];
+            // Log-uniform balances between 0.01 and 1,000,000,000.00
+            BigDecimal balance = BigDecimal.valueOf((long) Math.pow(10, random.nextDouble() * 11), 2);
+            int days = random.nextInt(800);
+            rows.add(new Object[]{planType.getValue(), balance, days});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO time_deposits (plan_type, balance, days) VALUES (?, ?, ?)", rows);
+    }
+
+    private List<TimeDeposit> loadDeposits() {
+        return jdbcTemplate.query("SELECT id, plan_type, balance, days FROM time_deposits ORDER BY id",
+                (rs, rowNum) -> TimeDeposit.ofCents(
+                        rs.getInt("id"),
+                        PlanType.fromValue(rs.getString("plan_type")),
+                        Money.toCents(rs.getBigDecimal("balance")),
+                        rs.getInt("days")));
+    }
+}
@@ -1,5 +1,8 @@
 package org.ikigaidigital.integration;
 
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.AccrualSimulationResponseDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.InterestRulesResponseDTO;
+import org.ikigaidigital.infrastructure.adapter.input.rest.dto.TimeDepositPageResponseDTO;
 import org.ikigaidigital.infrastructure.adapter.input.rest.dto.TimeDepositResponseDTO;
 import org.ikigaidigital.infrastructure.adapter.input.rest.dto.UpdateBalancesResponseDTO;
 import org.junit.jupiter.api.DisplayName;
@@ -12,10 +15,13 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -80,6 +86,31 @@ class TimeDepositApiIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @Order(3)
+    @DisplayName("GET /api/v1/time-deposits/accrual-simulation projects interest without changing balances")
+    void simulateAccrual_projectsInterestWithoutWriting() {
+        // When
+        ResponseEntity<AccrualSimulationResponseDTO> response = restTemplate.getForEntity(
+                "/api/v1/time-deposits/accrual-simulation",
+                AccrualSimulationResponseDTO.class
+        );
+        ResponseEntity<String> stream = restTemplate.exchange(
+                RequestEntity.get("/api/v1/time-deposits/accrual-simulation")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .build(),
+                String.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().depositCount()).isEqualTo(3);
+        assertThat(response.getBody().projectedInterest()).isEqualByComparingTo("229.16");
+        assertThat(stream.getBody()).isNotNull();
+        assertThat(stream.getBody().lines()).hasSize(4);
+    }
+
+    @Test
+    @Order(4)
     @DisplayName("POST /api/v1/time-deposits/update-balances updates all deposits")
     void updateAllBalances_updatesDeposits() {
         // When
@@ -98,7 +129,7 @@ class TimeDepositApiIntegrationTest extends AbstractIntegrationTest {
     }
 
     @Test
-    @Order(4)
+    @Order(5)
     @DisplayName("Balances are actually updated after POST update-balances")
     void updateAllBalances_actuallyChangesBalances() {
         // Given - Get initial balances
@@ -142,5 +173,47 @@ class TimeDepositApiIntegrationTest extends AbstractIntegrationTest {
         // Basic plan with >30 days should have earned interest
         assertThat(basicBalanceAfter).isGreaterThan(basicBalanceBefore);
     }
-}
 
+    @Test
+    @Order(6)
+    @DisplayName("POST /api/v1/interest-rules/reload compiles the rules seeded by migrations")
+    void reloadInterestRules_returnsSeededRules() {
+        // When
+        ResponseEntity<InterestRulesResponseDTO> response = restTemplate.postForEntity(
+                "/api/v1/interest-rules/reload",
+                null,
+                InterestRulesResponseDTO.class
+        );
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().versionCount()).isEqualTo(4); // 4 plans from V10 seed migration
+        List<String> rates = response.getBody().rules().stream()
+                .map(rule -> rule.planType().getValue() + "=" + rule.annualRate().toPlainString())
+                .toList();
+        assertThat(rates).containsExactlyInAnyOrder("basic=0.01", "student=0.03", "premium=0.05", "internal=0.085");
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("GET /api/v1/time-deposits?limit= walks all deposits page by page")
+    void getTimeDeposits_walksPages() {
+        // When
+        TimeDepositPageResponseDTO first = restTemplate.getForObject(
+                "/api/v1/time-deposits?limit=2", TimeDepositPageResponseDTO.class);
+        TimeDepositPageResponseDTO second = restTemplate.getForObject(
+                "/api/v1/time-deposits?limit=2&after={cursor}", TimeDepositPageResponseDTO.class,
+                first.nextCursor());
+
+        // Then
+        assertThat(first.items()).hasSize(2);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.items()).hasSize(1);
+        assertThat(second.nextCursor()).isNull();
+        List<Integer> ids = Stream.concat(first.items().stream(), second.items().stream())
+                .map(TimeDepositResponseDTO::id)
+                .toList();
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+}